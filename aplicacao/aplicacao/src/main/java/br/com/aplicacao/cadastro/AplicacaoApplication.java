@@ -1,6 +1,7 @@
 package br.com.aplicacao.cadastro;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 /**
@@ -10,6 +11,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * conveniente. Ela ativa a autoconfiguração da aplicação Spring Boot e define a base para a configuração da aplicação.
  * </p>
  *
+ * <p>Os componentes, entidades e repositórios são procurados a partir de {@code br.com.aplicacao}, incluindo os de
+ * {@code br.com.aplicacao.core}, como o gerenciador de tarefas em segundo plano.</p>
+ *
  * <p>Responsável por inicializar a aplicação Spring Boot através do método {@link #main(String[]) main}.</p>
  *
  * <p>Exemplo de uso:</p>
@@ -23,7 +27,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @see SpringApplication
  * @see SpringBootApplication
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = "br.com.aplicacao")
+@AutoConfigurationPackage(basePackages = "br.com.aplicacao")
 public class AplicacaoApplication {
 
     /**
@@ -11,6 +11,9 @@ import org.springframework.stereotype.Component;
  * <p>Esta classe estende {@code BaseMapper}, fornecendo métodos para converter entre
  * a entidade de domínio {@code Contato} e a entidade de persistência {@code ContatoData}.</p>
  *
+ * <p>Como o contato é gravado nas colunas da própria pessoa, {@code ContatoData} não possui identificador; o
+ * identificador do {@code Contato} é atribuído pelo {@code PessoaMapper}.</p>
+ *
  * <p>A anotação {@code @Component} indica que esta classe é um componente gerenciado pelo Spring.</p>
  *
  * <p>Autor: João Cleber Dias Maciel</p>
@@ -26,12 +29,20 @@ public class ContatoMapper extends BaseMapper<Contato, ContatoData> {
      */
     @Override
     public Contato toDomain(ContatoData contatoData) {
+        return toDomain(contatoData, null);
+    }
+
+    /**
+     * Converte um objeto {@code ContatoData} em um objeto {@code Contato} com o identificador informado.
+     *
+     * @param contatoData o objeto {@code ContatoData} a ser convertido
+     * @param id          o identificador atribuído ao contato
+     * @return o objeto {@code Contato} resultante da conversão
+     */
+    public Contato toDomain(ContatoData contatoData, Long id) {
         if (contatoData == null) return null;
 
-        return Contato.builder()
-                .id(contatoData.getId())
-                .telefone(contatoData.getTelefone())
-                .build();
+        return Contato.de(id, contatoData.getTelefone());
     }
 
     /**
@@ -45,8 +56,7 @@ public class ContatoMapper extends BaseMapper<Contato, ContatoData> {
         if (contato == null) return null;
 
         return ContatoData.builder()
-                .id(contato.getId())
-                .telefone(contato.getTelefone())
+                .telefone(contato.telefoneNormalizado())
                 .build();
     }
 }
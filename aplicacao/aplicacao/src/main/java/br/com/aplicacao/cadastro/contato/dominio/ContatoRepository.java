@@ -1,12 +0,0 @@
-package br.com.aplicacao.cadastro.contato.dominio;
-
-/**
- * Interface para o repositório de contatos.
- *
- * <p>Esta interface define os métodos que devem ser implementados para realizar operações de
- * persistência e recuperação de objetos {@code Contato} no sistema.</p>
- *
- * <p>Autor: João Cleber Dias Maciel</p>
- */
-public interface ContatoRepository {
-}
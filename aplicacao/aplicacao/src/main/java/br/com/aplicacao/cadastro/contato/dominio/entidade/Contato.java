@@ -2,19 +2,23 @@ package br.com.aplicacao.cadastro.contato.dominio.entidade;
 
 import lombok.*;
 
+import java.util.Objects;
+
 /**
  * Classe que representa um contato com um telefone e um identificador.
  *
- * <p>Esta classe utiliza o Lombok para gerar automaticamente os métodos getters, setters,
- * um construtor padrão, um construtor com todos os argumentos e um padrão builder.
- * Além disso, possui um construtor adicional que aceita apenas o telefone.</p>
+ * <p>Esta classe utiliza o Lombok para gerar automaticamente os métodos getters, um construtor padrão e um padrão
+ * builder. Além disso, possui um construtor adicional que aceita apenas o telefone.</p>
+ *
+ * <p>O telefone é mantido no texto mascarado em que foi recebido, que é o exposto pela API e o validado pelas regras
+ * de negócio, junto do {@link Telefone} correspondente. O texto é convertido uma única vez, na validação ou na
+ * primeira chamada de {@link #telefoneNormalizado()}, e os contatos lidos do banco já são criados com o
+ * {@link Telefone} por {@link #de(Long, Telefone)}.</p>
  *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class Contato {
 
     /**
@@ -25,9 +29,26 @@ public class Contato {
     /**
      * Número de telefone do contato.
      */
-    @Setter
     private String telefone;
 
+    /**
+     * Telefone convertido a partir de {@link #telefone}, ou {@code null} enquanto não convertido.
+     */
+    @Getter(AccessLevel.NONE)
+    private Telefone telefoneNormalizado;
+
+    /**
+     * Construtor que aceita o identificador e o telefone do contato.
+     *
+     * @param id       o identificador único do contato
+     * @param telefone o número de telefone do contato
+     */
+    @Builder
+    public Contato(Long id, String telefone) {
+        this.id = id;
+        this.telefone = telefone;
+    }
+
     /**
      * Construtor que aceita apenas o telefone do contato.
      *
@@ -36,4 +57,64 @@ public class Contato {
     public Contato(String telefone) {
         this.telefone = telefone;
     }
+
+    /**
+     * Cria um contato a partir de um telefone já convertido, sem convertê-lo novamente.
+     *
+     * @param id       o identificador único do contato
+     * @param telefone o telefone do contato, podendo ser {@code null}
+     * @return o contato com o telefone mascarado e o telefone convertido
+     */
+    public static Contato de(Long id, Telefone telefone) {
+        Contato contato = new Contato(id, telefone != null ? telefone.formatar() : null);
+        contato.telefoneNormalizado = telefone;
+        return contato;
+    }
+
+    /**
+     * Altera o número de telefone do contato, descartando a conversão anterior.
+     *
+     * @param telefone o novo número de telefone
+     */
+    public void setTelefone(String telefone) {
+        this.telefone = telefone;
+        this.telefoneNormalizado = null;
+    }
+
+    /**
+     * Verifica se o telefone está em um dos formatos aceitos, mantendo a conversão para as chamadas seguintes.
+     *
+     * @return {@code true} se o telefone for válido, {@code false} caso contrário
+     */
+    public boolean telefoneValido() {
+        if (telefoneNormalizado != null) return true;
+        long valor = Telefone.empacotar(telefone);
+        if (valor == Telefone.INVALIDO) return false;
+        telefoneNormalizado = Telefone.of(valor);
+        return true;
+    }
+
+    /**
+     * Retorna o telefone convertido, convertendo o texto apenas na primeira chamada.
+     *
+     * @return o telefone convertido, ou {@code null} se o contato não possuir telefone
+     * @throws IllegalArgumentException se o telefone não estiver em um formato válido
+     */
+    public Telefone telefoneNormalizado() {
+        if (telefone == null) return null;
+        if (!telefoneValido()) throw new IllegalArgumentException("Telefone inválido");
+        return telefoneNormalizado;
+    }
+
+    /**
+     * Verifica se dois contatos possuem o mesmo identificador e o mesmo telefone.
+     *
+     * @param contato o primeiro contato, podendo ser {@code null}
+     * @param outro   o segundo contato, podendo ser {@code null}
+     * @return {@code true} se ambos forem nulos ou tiverem o mesmo conteúdo, {@code false} caso contrário
+     */
+    public static boolean mesmoConteudo(Contato contato, Contato outro) {
+        if (contato == null || outro == null) return contato == outro;
+        return Objects.equals(contato.id, outro.id) && Objects.equals(contato.telefone, outro.telefone);
+    }
 }
@@ -0,0 +1,191 @@
+package br.com.aplicacao.cadastro.contato.dominio.entidade;
+
+/**
+ * Valor que representa um número de telefone normalizado.
+ *
+ * <p>O telefone é mantido como um único {@code long} que empacota o DDD, a quantidade de dígitos e o número, na forma
+ * decimal {@code DD N NNNNNNNNN}: o DDD ocupa as casas a partir de 10<sup>10</sup>, a casa de 10<sup>9</sup> indica
+ * um número de nove dígitos e as nove casas finais guardam o número. Assim {@code (12) 34567-8910} é representado por
+ * {@code 121345678910} e {@code (12) 3456-7890} por {@code 120034567890}. Esse valor é o utilizado para armazenamento,
+ * indexação e comparação; a máscara é reconstruída apenas por {@link #formatar()}.</p>
+ *
+ * <p>O parser reconhece exatamente os formatos {@code (XX) XXXX-XXXX} e {@code (XX) XXXXX-XXXX} descritos em
+ * {@link br.com.aplicacao.cadastro.contato.dominio.enums.TelefoneEnum}, percorrendo os caracteres uma única vez e sem
+ * alocar objetos, ao contrário de {@link String#matches(String)}, que compila uma nova expressão a cada chamada.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public final class Telefone {
+
+    /**
+     * Valor devolvido por {@link #empacotar(CharSequence)} quando o texto não está em um formato válido.
+     */
+    public static final long INVALIDO = -1L;
+
+    private static final long FATOR_DDD = 10_000_000_000L;
+    private static final long NOVE_DIGITOS = 1_000_000_000L;
+    private static final int TAMANHO_OITO_DIGITOS = 14;
+    private static final int TAMANHO_NOVE_DIGITOS = 15;
+
+    /**
+     * O telefone empacotado.
+     */
+    private final long valor;
+
+    private Telefone(long valor) {
+        this.valor = valor;
+    }
+
+    /**
+     * Converte o texto mascarado em um {@code Telefone}.
+     *
+     * @param texto o telefone no formato {@code (XX) XXXX-XXXX} ou {@code (XX) XXXXX-XXXX}
+     * @return o telefone correspondente
+     * @throws IllegalArgumentException se o texto não estiver em um formato válido
+     */
+    public static Telefone parse(CharSequence texto) {
+        long valor = empacotar(texto);
+        if (valor == INVALIDO) {
+            throw new IllegalArgumentException("Telefone inválido");
+        }
+        return new Telefone(valor);
+    }
+
+    /**
+     * Reconstrói um {@code Telefone} a partir do seu valor empacotado.
+     *
+     * @param valor o valor obtido de {@link #getValor()}
+     * @return o telefone correspondente
+     * @throws IllegalArgumentException se o valor não corresponder a um telefone
+     */
+    public static Telefone of(long valor) {
+        long numero = valor % NOVE_DIGITOS;
+        long digitos = valor / NOVE_DIGITOS % 10;
+        long ddd = valor / FATOR_DDD;
+        if (valor < 0 || ddd > 99 || digitos > 1 || (digitos == 0 && numero > 99_999_999L)) {
+            throw new IllegalArgumentException("Telefone inválido");
+        }
+        return new Telefone(valor);
+    }
+
+    /**
+     * Verifica se o texto está em um dos formatos de telefone aceitos.
+     *
+     * @param texto o texto a ser verificado
+     * @return {@code true} se o texto for um telefone válido, {@code false} caso contrário
+     */
+    public static boolean valido(CharSequence texto) {
+        return empacotar(texto) != INVALIDO;
+    }
+
+    /**
+     * Converte o texto mascarado no valor empacotado, sem alocar objetos.
+     *
+     * @param texto o telefone no formato {@code (XX) XXXX-XXXX} ou {@code (XX) XXXXX-XXXX}
+     * @return o valor empacotado, ou {@link #INVALIDO} se o texto for nulo ou não estiver em um formato válido
+     */
+    public static long empacotar(CharSequence texto) {
+        if (texto == null) return INVALIDO;
+        int tamanho = texto.length();
+        if (tamanho != TAMANHO_OITO_DIGITOS && tamanho != TAMANHO_NOVE_DIGITOS) return INVALIDO;
+        if (texto.charAt(0) != '(' || texto.charAt(3) != ')' || texto.charAt(4) != ' ') return INVALIDO;
+
+        int hifen = tamanho - 5;
+        if (texto.charAt(hifen) != '-') return INVALIDO;
+
+        long ddd = digitos(texto, 1, 3);
+        long prefixo = digitos(texto, 5, hifen);
+        long sufixo = digitos(texto, hifen + 1, tamanho);
+        if (ddd < 0 || prefixo < 0 || sufixo < 0) return INVALIDO;
+
+        long numero = prefixo * 10_000 + sufixo;
+        return ddd * FATOR_DDD + (tamanho == TAMANHO_NOVE_DIGITOS ? NOVE_DIGITOS : 0) + numero;
+    }
+
+    private static long digitos(CharSequence texto, int inicio, int fim) {
+        long valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = texto.charAt(i) - '0';
+            if (digito < 0 || digito > 9) return -1;
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    /**
+     * Retorna o valor empacotado do telefone.
+     *
+     * @return o valor empacotado
+     */
+    public long getValor() {
+        return valor;
+    }
+
+    /**
+     * Retorna o DDD do telefone.
+     *
+     * @return o DDD
+     */
+    public int getDdd() {
+        return (int) (valor / FATOR_DDD);
+    }
+
+    /**
+     * Retorna o número do telefone, sem o DDD.
+     *
+     * @return o número
+     */
+    public int getNumero() {
+        return (int) (valor % NOVE_DIGITOS);
+    }
+
+    /**
+     * Indica se o número possui nove dígitos.
+     *
+     * @return {@code true} se o número possuir nove dígitos, {@code false} se possuir oito
+     */
+    public boolean isNoveDigitos() {
+        return valor / NOVE_DIGITOS % 10 == 1;
+    }
+
+    /**
+     * Formata o telefone com a máscara {@code (XX) XXXX-XXXX} ou {@code (XX) XXXXX-XXXX}.
+     *
+     * @return o telefone mascarado
+     */
+    public String formatar() {
+        int tamanho = isNoveDigitos() ? TAMANHO_NOVE_DIGITOS : TAMANHO_OITO_DIGITOS;
+        char[] texto = new char[tamanho];
+        texto[0] = '(';
+        texto[3] = ')';
+        texto[4] = ' ';
+        texto[tamanho - 5] = '-';
+        preencher(texto, 1, 3, getDdd());
+        int numero = getNumero();
+        preencher(texto, tamanho - 4, tamanho, numero % 10_000);
+        preencher(texto, 5, tamanho - 5, numero / 10_000);
+        return new String(texto);
+    }
+
+    private static void preencher(char[] texto, int inicio, int fim, int valor) {
+        for (int i = fim - 1; i >= inicio; i--) {
+            texto[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Telefone telefone && valor == telefone.valor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(valor);
+    }
+
+    @Override
+    public String toString() {
+        return formatar();
+    }
+}
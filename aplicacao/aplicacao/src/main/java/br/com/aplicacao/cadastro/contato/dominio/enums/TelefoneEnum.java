@@ -10,6 +10,9 @@ import lombok.Getter;
  * A anotação do Lombok {@code @AllArgsConstructor} é utilizada para gerar um construtor que inicializa
  * a expressão regular.</p>
  *
+ * <p>A validação em tempo de execução é feita pelo parser de
+ * {@link br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone}, que aceita exatamente os formatos desta máscara.</p>
+ *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @AllArgsConstructor
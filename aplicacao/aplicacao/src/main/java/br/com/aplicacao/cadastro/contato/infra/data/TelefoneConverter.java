@@ -0,0 +1,39 @@
+package br.com.aplicacao.cadastro.contato.infra.data;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversor JPA que armazena um {@link Telefone} como o seu valor empacotado.
+ *
+ * <p>A coluna passa a ser numérica ({@code bigint}), o que torna o índice único de telefone menor e a comparação
+ * independente da máscara.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Converter
+public class TelefoneConverter implements AttributeConverter<Telefone, Long> {
+
+    /**
+     * Converte o telefone no valor armazenado na coluna.
+     *
+     * @param telefone o telefone a ser armazenado
+     * @return o valor empacotado, ou {@code null} se o telefone for nulo
+     */
+    @Override
+    public Long convertToDatabaseColumn(Telefone telefone) {
+        return telefone != null ? telefone.getValor() : null;
+    }
+
+    /**
+     * Converte o valor armazenado na coluna em um telefone.
+     *
+     * @param valor o valor empacotado lido do banco
+     * @return o telefone correspondente, ou {@code null} se a coluna for nula
+     */
+    @Override
+    public Telefone convertToEntityAttribute(Long valor) {
+        return valor != null ? Telefone.of(valor) : null;
+    }
+}
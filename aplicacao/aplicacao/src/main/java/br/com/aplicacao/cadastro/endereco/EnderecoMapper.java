@@ -11,6 +11,9 @@ import org.springframework.stereotype.Component;
  * <p>Esta classe estende {@code BaseMapper}, fornecendo métodos para converter entre
  * a entidade de domínio {@code Endereco} e a entidade de persistência {@code EnderecoData}.</p>
  *
+ * <p>Como o endereço é gravado nas colunas da própria pessoa, {@code EnderecoData} não possui identificador; o
+ * identificador do {@code Endereco} é atribuído pelo {@code PessoaMapper}.</p>
+ *
  * <p>A anotação {@code @Component} indica que esta classe é um componente gerenciado pelo Spring.</p>
  *
  * <p>Autor: João Cleber Dias Maciel</p>
@@ -26,10 +29,21 @@ public class EnderecoMapper extends BaseMapper<Endereco, EnderecoData> {
      */
     @Override
     public Endereco toDomain(EnderecoData enderecoData) {
+        return toDomain(enderecoData, null);
+    }
+
+    /**
+     * Converte um objeto {@code EnderecoData} em um objeto {@code Endereco} com o identificador informado.
+     *
+     * @param enderecoData o objeto {@code EnderecoData} a ser convertido
+     * @param id           o identificador atribuído ao endereço
+     * @return o objeto {@code Endereco} resultante da conversão
+     */
+    public Endereco toDomain(EnderecoData enderecoData, Long id) {
         if (enderecoData == null) return null;
 
         return Endereco.builder()
-                .id(enderecoData.getId())
+                .id(id)
                 .bairro(enderecoData.getBairro())
                 .build();
     }
@@ -45,7 +59,6 @@ public class EnderecoMapper extends BaseMapper<Endereco, EnderecoData> {
         if (endereco == null) return null;
 
         return EnderecoData.builder()
-                .id(endereco.getId())
                 .bairro(endereco.getBairro())
                 .build();
     }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Objects;
+
 /**
  * Classe que representa um endereço com um identificador e bairro.
  *
@@ -28,4 +30,16 @@ public class Endereco {
      * Bairro do endereço.
      */
     private String bairro;
+
+    /**
+     * Verifica se dois endereços possuem o mesmo identificador e o mesmo bairro.
+     *
+     * @param endereco o primeiro endereço, podendo ser {@code null}
+     * @param outro    o segundo endereço, podendo ser {@code null}
+     * @return {@code true} se ambos forem nulos ou tiverem o mesmo conteúdo, {@code false} caso contrário
+     */
+    public static boolean mesmoConteudo(Endereco endereco, Endereco outro) {
+        if (endereco == null || outro == null) return endereco == outro;
+        return Objects.equals(endereco.id, outro.id) && Objects.equals(endereco.bairro, outro.bairro);
+    }
 }
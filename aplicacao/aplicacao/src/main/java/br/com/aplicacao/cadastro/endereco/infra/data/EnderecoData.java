@@ -1,12 +1,14 @@
 package br.com.aplicacao.cadastro.endereco.infra.data;
 
-import jakarta.persistence.*;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
 import lombok.*;
 
 /**
- * Classe de entidade que representa um endereço na base de dados.
+ * Classe incorporável que representa o endereço de uma pessoa na base de dados.
  *
- * <p>Esta classe é mapeada para a tabela {@code cadastro_endereco} no banco de dados.
+ * <p>Esta classe é anotada com {@link Embeddable} e suas colunas são gravadas na própria tabela
+ * {@code cadastro_pessoa}, sem tabela nem identificador próprios.
  * A anotação do Lombok {@code @Getter} é usada para gerar automaticamente os métodos getters.
  * A anotação {@code @Builder} permite a construção de objetos {@code EnderecoData} utilizando o padrão Builder.
  * As anotações {@code @AllArgsConstructor} e {@code @NoArgsConstructor} geram, respectivamente,
@@ -14,22 +16,13 @@ import lombok.*;
  *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
-@Entity
+@Embeddable
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "cadastro_endereco")
 public class EnderecoData {
 
-    /**
-     * Identificador único do endereço.
-     */
-    @Id
-    @Column(name = "id_endereco")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
     /**
      * Bairro do endereço.
      */
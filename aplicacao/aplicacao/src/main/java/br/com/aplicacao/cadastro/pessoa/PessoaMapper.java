@@ -15,7 +15,8 @@ import org.springframework.stereotype.Component;
  * <p>Esta classe é anotada com {@link Component} para ser reconhecida e gerenciada automaticamente pelo Spring.</p>
  *
  * <p>Utiliza os mappers {@link ContatoMapper} e {@link EnderecoMapper} para realizar a conversão dos atributos
- * de contato e endereço da {@link Pessoa}.</p>
+ * de contato e endereço da {@link Pessoa}. Como contato e endereço são gravados nas colunas da própria pessoa, ambos
+ * recebem o identificador da pessoa, preservando o formato da representação exposta pela API.</p>
  *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
@@ -39,8 +40,9 @@ public class PessoaMapper extends BaseMapper<Pessoa, PessoaData> {
         return Pessoa.builder()
                 .id(pessoaData.getId())
                 .nome(pessoaData.getNome())
-                .endereco(enderecoMapper.toDomain(pessoaData.getEndereco()))
-                .contato(contatoMapper.toDomain(pessoaData.getContato()))
+                .endereco(enderecoMapper.toDomain(pessoaData.getEndereco(), pessoaData.getId()))
+                .contato(contatoMapper.toDomain(pessoaData.getContato(), pessoaData.getId()))
+                .versao(pessoaData.getVersao())
                 .build();
     }
 
@@ -59,6 +61,7 @@ public class PessoaMapper extends BaseMapper<Pessoa, PessoaData> {
                 .nome(pessoa.getNome())
                 .endereco(enderecoMapper.toData(pessoa.getEndereco()))
                 .contato(contatoMapper.toData(pessoa.getContato()))
+                .versao(pessoa.getVersao())
                 .build();
     }
 }
@@ -0,0 +1,321 @@
+package br.com.aplicacao.cadastro.pessoa.aplicacao;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.SituacaoImportacao;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaLoteRegras;
+import br.com.aplicacao.cadastro.pessoa.dto.ImportacaoPessoaDto;
+import br.com.aplicacao.cadastro.pessoa.infra.ImportacaoPessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.data.ImportacaoPessoaData;
+import br.com.aplicacao.core.csv.LeitorCsv;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import br.com.aplicacao.core.dto.TarefaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.tarefa.ExecucaoTarefa;
+import br.com.aplicacao.core.tarefa.GerenciadorTarefas;
+import br.com.aplicacao.core.tarefa.Tarefa;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Serviço que importa pessoas a partir de arquivos CSV com as colunas {@code nome,telefone,bairro}.
+ *
+ * <p>O arquivo recebido é copiado em fluxo para {@code cadastro.pessoa.importacao.diretorio}, sem ser mantido em
+ * memória, e processado em segundo plano como uma tarefa do tipo {@value #TIPO} de {@link GerenciadorTarefas}. As
+ * linhas são lidas uma a uma por {@link LeitorCsv} e incluídas em blocos de
+ * {@code cadastro.pessoa.importacao.lote.tamanho} pessoas por {@link IncluirPessoaLoteRegras}, com as mesmas
+ * validações da inclusão em lote. Cada bloco é confirmado em uma transação própria, que também grava o ponto de
+ * retomada da importação (posição em bytes e quantidade de linhas). Linhas inválidas são contadas como rejeitadas e
+ * não interrompem a importação.</p>
+ *
+ * <p>A tarefa grava o progresso em bytes após cada bloco e verifica, entre os blocos, se deve parar. Uma importação
+ * interrompida pela parada da aplicação é retomada automaticamente na próxima inicialização, a partir do último bloco
+ * confirmado; uma importação que falhou ou foi cancelada pode ser retomada por {@link #retomar(Long)}. Por isso o
+ * diretório dos arquivos deve sobreviver às reinicializações: ele é obrigatório e, na configuração da aplicação, fica
+ * em {@code cadastro.dados.diretorio}, e não no diretório temporário. Se o arquivo não existir mais ao retomar, a
+ * importação falha com uma mensagem que pede o envio de um novo arquivo.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Service
+public class ImportacaoPessoaService implements Tarefa {
+
+    /**
+     * O tipo das tarefas de importação.
+     */
+    public static final String TIPO = "importacao-pessoa";
+
+    private static final List<String> CABECALHO = List.of("nome", "telefone", "bairro");
+
+    private final ImportacaoPessoaDataRepository repository;
+
+    private final IncluirPessoaLoteRegras incluirPessoaLoteRegras;
+
+    private final GerenciadorTarefas gerenciadorTarefas;
+
+    private final TransactionTemplate transacao;
+
+    private final Path diretorio;
+
+    private final int tamanhoLote;
+
+    private final Clock relogio;
+
+    /**
+     * Cria o serviço de acordo com a configuração da aplicação.
+     *
+     * @param repository              o repositório das importações
+     * @param incluirPessoaLoteRegras as regras de inclusão em lote aplicadas a cada bloco
+     * @param gerenciadorTarefas      o gerenciador que executa as importações em segundo plano
+     * @param transactionManager      o gerenciador das transações de cada bloco
+     * @param diretorio               o diretório persistente onde os arquivos recebidos são mantidos até a conclusão
+     * @param tamanhoLote             a quantidade de linhas confirmadas em cada transação
+     */
+    public ImportacaoPessoaService(ImportacaoPessoaDataRepository repository,
+                                   IncluirPessoaLoteRegras incluirPessoaLoteRegras,
+                                   GerenciadorTarefas gerenciadorTarefas,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${cadastro.pessoa.importacao.diretorio}") Path diretorio,
+                                   @Value("${cadastro.pessoa.importacao.lote.tamanho:1000}") int tamanhoLote) {
+        this(repository, incluirPessoaLoteRegras, gerenciadorTarefas, new TransactionTemplate(transactionManager),
+                diretorio, tamanhoLote, Clock.systemUTC());
+    }
+
+    ImportacaoPessoaService(ImportacaoPessoaDataRepository repository, IncluirPessoaLoteRegras incluirPessoaLoteRegras,
+                            GerenciadorTarefas gerenciadorTarefas, TransactionTemplate transacao, Path diretorio,
+                            int tamanhoLote, Clock relogio) {
+        if (tamanhoLote < 1) throw new IllegalArgumentException("Tamanho do lote de importação inválido");
+        this.repository = repository;
+        this.incluirPessoaLoteRegras = incluirPessoaLoteRegras;
+        this.gerenciadorTarefas = gerenciadorTarefas;
+        this.transacao = transacao;
+        this.diretorio = diretorio;
+        this.tamanhoLote = tamanhoLote;
+        this.relogio = relogio;
+    }
+
+    /**
+     * Recebe um arquivo CSV e agenda a sua importação.
+     *
+     * @param conteudo o conteúdo do arquivo, lido em fluxo até o final
+     * @return a situação da importação recebida
+     * @throws UncheckedIOException se o arquivo não puder ser gravado
+     */
+    public ImportacaoPessoaDto receber(InputStream conteudo) {
+        Path arquivo = diretorio.resolve("importacao-" + UUID.randomUUID() + ".csv");
+        long tamanho;
+        try {
+            Files.createDirectories(diretorio);
+            tamanho = Files.copy(conteudo, arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar o arquivo da importação", e);
+        }
+        return paraDto(transacao.execute(status -> agendar(ImportacaoPessoaData.builder()
+                .arquivo(arquivo.toString())
+                .situacao(SituacaoImportacao.PENDENTE)
+                .tamanho(tamanho)
+                .build())));
+    }
+
+    /**
+     * Consulta a situação de uma importação.
+     *
+     * @param id o identificador da importação
+     * @return a situação da importação, com o progresso e a vazão
+     * @throws NaoEncontradoException se a importação não existir
+     */
+    public ImportacaoPessoaDto consultar(Long id) {
+        return paraDto(buscar(id));
+    }
+
+    /**
+     * Retoma uma importação a partir do último bloco confirmado.
+     *
+     * @param id o identificador da importação
+     * @return a situação da importação
+     * @throws NaoEncontradoException   se a importação não existir
+     * @throws IllegalArgumentException se a importação já estiver concluída
+     */
+    public ImportacaoPessoaDto retomar(Long id) {
+        ImportacaoPessoaData importacao = buscar(id);
+        if (importacao.getSituacao() == SituacaoImportacao.CONCLUIDA) {
+            throw new IllegalArgumentException("Importação já concluída");
+        }
+        if (importacao.getIdTarefa() != null && !gerenciadorTarefas.consultar(importacao.getIdTarefa()).getSituacao().isEncerrada()) {
+            return paraDto(importacao);
+        }
+        return paraDto(transacao.execute(status -> agendar(importacao)));
+    }
+
+    /**
+     * Submete a tarefa que processa a importação e grava o seu identificador. A tarefa só começa após o commit.
+     */
+    private ImportacaoPessoaData agendar(ImportacaoPessoaData importacao) {
+        ImportacaoPessoaData gravada = repository.save(importacao);
+        TarefaDto tarefa = gerenciadorTarefas.submeter(TIPO, String.valueOf(gravada.getId()));
+        gravada.setIdTarefa(tarefa.getId());
+        return repository.save(gravada);
+    }
+
+    @Override
+    public String getTipo() {
+        return TIPO;
+    }
+
+    @Override
+    public void executar(ExecucaoTarefa execucao) throws IOException {
+        processar(Long.valueOf(execucao.getParametros()), execucao);
+    }
+
+    /**
+     * Processa a importação a partir do seu ponto de retomada, até o final do arquivo ou até a execução indicar que
+     * deve parar.
+     *
+     * @param id       o identificador da importação
+     * @param execucao a execução da tarefa, que recebe o progresso após cada bloco
+     * @throws IOException           se o arquivo não puder ser lido; a importação é registrada como falha
+     * @throws IllegalStateException se o arquivo não existir mais; a importação é registrada como falha
+     */
+    void processar(Long id, ExecucaoTarefa execucao) throws IOException {
+        ImportacaoPessoaData importacao = buscar(id);
+        if (importacao.getSituacao() == SituacaoImportacao.CONCLUIDA) return;
+        importacao.setSituacao(SituacaoImportacao.EM_ANDAMENTO);
+        importacao.setInicioExecucao(relogio.instant());
+        importacao.setLinhaInicioExecucao(importacao.getLinha());
+        importacao.setMensagem(null);
+        importacao = repository.save(importacao);
+        Path arquivo = Path.of(importacao.getArquivo());
+        if (!Files.isRegularFile(arquivo)) {
+            IllegalStateException erro = new IllegalStateException("Arquivo da importação não encontrado em " + arquivo
+                    + "; envie o arquivo novamente em uma nova importação");
+            falhar(id, erro);
+            throw erro;
+        }
+        try (InputStream entrada = Files.newInputStream(arquivo);
+             LeitorCsv leitor = new LeitorCsv(entrada, importacao.getPosicao())) {
+            entrada.skipNBytes(importacao.getPosicao());
+            long linha = importacao.getLinha();
+            List<Pessoa> bloco = new ArrayList<>(tamanhoLote);
+            int invalidas = 0;
+            List<String> campos;
+            while ((campos = leitor.proximaLinha()) != null) {
+                linha++;
+                if (linha == 1 && cabecalho(campos)) continue;
+                if (campos.size() == CABECALHO.size()) bloco.add(paraPessoa(campos));
+                else invalidas++;
+                if (bloco.size() + invalidas == tamanhoLote) {
+                    importacao = confirmar(importacao, bloco, invalidas, leitor.getPosicao(), linha);
+                    execucao.registrarProgresso(importacao.getPosicao(), importacao.getTamanho());
+                    bloco.clear();
+                    invalidas = 0;
+                    if (execucao.deveParar()) {
+                        if (execucao.isCancelamentoSolicitado()) cancelar(importacao);
+                        return;
+                    }
+                }
+            }
+            importacao = confirmar(importacao, bloco, invalidas, leitor.getPosicao(), linha);
+            execucao.registrarProgresso(importacao.getPosicao(), importacao.getTamanho());
+            importacao.setSituacao(SituacaoImportacao.CONCLUIDA);
+            importacao.setFim(relogio.instant());
+            repository.save(importacao);
+            Files.deleteIfExists(arquivo);
+        } catch (IOException | RuntimeException e) {
+            falhar(id, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Inclui um bloco de pessoas e grava o ponto de retomada na mesma transação.
+     */
+    private ImportacaoPessoaData confirmar(ImportacaoPessoaData importacao, List<Pessoa> bloco, int invalidas,
+                                           long posicao, long linha) {
+        return transacao.execute(status -> {
+            long incluidas = 0;
+            long rejeitadas = invalidas;
+            if (!bloco.isEmpty()) {
+                LoteResultadoDto resultado = incluirPessoaLoteRegras.execute(bloco);
+                incluidas = resultado.getIds().stream().filter(Objects::nonNull).count();
+                rejeitadas += resultado.getErros().size();
+            }
+            importacao.setPosicao(posicao);
+            importacao.setLinha(linha);
+            importacao.setIncluidas(importacao.getIncluidas() + incluidas);
+            importacao.setRejeitadas(importacao.getRejeitadas() + rejeitadas);
+            return repository.save(importacao);
+        });
+    }
+
+    private void cancelar(ImportacaoPessoaData importacao) {
+        importacao.setSituacao(SituacaoImportacao.CANCELADA);
+        importacao.setFim(relogio.instant());
+        repository.save(importacao);
+    }
+
+    private void falhar(Long id, Exception erro) {
+        ImportacaoPessoaData importacao = buscar(id);
+        importacao.setSituacao(SituacaoImportacao.FALHOU);
+        importacao.setFim(relogio.instant());
+        String mensagem = Objects.requireNonNullElse(erro.getMessage(), erro.getClass().getSimpleName());
+        importacao.setMensagem(mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem);
+        repository.save(importacao);
+    }
+
+    private ImportacaoPessoaData buscar(Long id) {
+        return repository.findById(id).orElseThrow(() -> new NaoEncontradoException("Importação não encontrada"));
+    }
+
+    private static boolean cabecalho(List<String> campos) {
+        return campos.stream().map(campo -> campo.strip().toLowerCase()).toList().equals(CABECALHO);
+    }
+
+    private static Pessoa paraPessoa(List<String> campos) {
+        return Pessoa.builder()
+                .nome(campos.get(0))
+                .contato(new Contato(campos.get(1).strip()))
+                .endereco(Endereco.builder().bairro(campos.get(2).strip()).build())
+                .build();
+    }
+
+    private ImportacaoPessoaDto paraDto(ImportacaoPessoaData importacao) {
+        double linhasPorSegundo = 0;
+        if (importacao.getInicioExecucao() != null) {
+            Instant fim = importacao.getFim() != null ? importacao.getFim() : relogio.instant();
+            long milissegundos = Duration.between(importacao.getInicioExecucao(), fim).toMillis();
+            long linhas = importacao.getLinha() - importacao.getLinhaInicioExecucao();
+            if (milissegundos > 0) linhasPorSegundo = linhas * 1000.0 / milissegundos;
+        }
+        return ImportacaoPessoaDto.builder()
+                .id(importacao.getId())
+                .situacao(importacao.getSituacao())
+                .tamanho(importacao.getTamanho())
+                .processados(importacao.getPosicao())
+                .percentual(importacao.getTamanho() > 0 ? 100.0 * importacao.getPosicao() / importacao.getTamanho() : 100)
+                .linhas(importacao.getLinha())
+                .incluidas(importacao.getIncluidas())
+                .rejeitadas(importacao.getRejeitadas())
+                .linhasPorSegundo(linhasPorSegundo)
+                .inicioExecucao(importacao.getInicioExecucao())
+                .fim(importacao.getFim())
+                .mensagem(importacao.getMensagem())
+                .idTarefa(importacao.getIdTarefa())
+                .build();
+    }
+}
@@ -1,12 +1,27 @@
 package br.com.aplicacao.cadastro.pessoa.aplicacao;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.pessoa.dominio.PessoaRepository;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.PessoaEnum;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
+import br.com.aplicacao.core.dto.ConsultaMultiplaDto;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
 import br.com.aplicacao.core.exceptions.NaoEncontradoException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
 /**
  * Serviço responsável pelas operações de negócio relacionadas à entidade {@code Pessoa}.
  *
@@ -36,6 +51,16 @@ public class PessoaService {
         return repository.incluir(pessoa);
     }
 
+    /**
+     * Inclui várias pessoas de uma só vez.
+     *
+     * @param pessoas as pessoas a serem incluídas
+     * @return as pessoas incluídas, na mesma ordem, com os identificadores gerados
+     */
+    public List<Pessoa> incluirLote(List<Pessoa> pessoas) {
+        return repository.incluirLote(pessoas);
+    }
+
     /**
      * Altera os dados de uma pessoa existente.
      *
@@ -46,15 +71,75 @@ public class PessoaService {
         return repository.alterar(pessoa);
     }
 
+    /**
+     * Inclui a pessoa ou altera a pessoa com o mesmo telefone, em uma única operação atômica.
+     *
+     * @param pessoa a pessoa a ser gravada
+     * @return a pessoa gravada e a indicação de inclusão
+     */
+    public PessoaGravada gravarPorTelefone(Pessoa pessoa) {
+        return repository.gravarPorTelefone(pessoa);
+    }
+
+    /**
+     * Verifica se a pessoa informada é idêntica à pessoa gravada com o mesmo identificador.
+     *
+     * <p>A pessoa gravada é obtida por {@link PessoaRepository#consultarGravada(Long)}, e não pelo cache de
+     * consultas, cuja cópia desatualizada faria uma alteração real ser descartada. Quando a pessoa informada possui
+     * versão, ela também precisa ser a versão gravada. Se não houver alteração, a pessoa informada recebe a versão
+     * gravada.</p>
+     *
+     * @param pessoa a pessoa com os dados recebidos
+     * @return {@code true} se a pessoa existir e nenhum dado for diferente, {@code false} caso contrário
+     */
+    public boolean semAlteracao(Pessoa pessoa) {
+        if (pessoa.getId() == null) return false;
+        return repository.consultarGravada(pessoa.getId())
+                .filter(atual -> pessoa.getVersao() == null || pessoa.getVersao().equals(atual.getVersao()))
+                .filter(pessoa::mesmoConteudo)
+                .map(atual -> {
+                    pessoa.setVersao(atual.getVersao());
+                    return true;
+                })
+                .orElse(false);
+    }
+
     /**
      * Deleta uma pessoa pelo seu identificador único.
      *
      * @param id o identificador único da pessoa a ser deletada
+     * @throws NaoEncontradoException se a pessoa não for encontrada
      */
     public void deletar(Long id) {
         repository.excluir(id);
     }
 
+    /**
+     * Exclui várias pessoas pelos seus identificadores únicos.
+     *
+     * <p>Identificadores repetidos são considerados uma única vez. Os identificadores sem pessoa correspondente não
+     * impedem a exclusão das demais e são apenas contados em {@code naoEncontrados}.</p>
+     *
+     * @param ids os identificadores únicos das pessoas a serem excluídas
+     * @return a quantidade de pessoas excluídas e de identificadores não encontrados
+     * @throws IllegalArgumentException se nenhum identificador for informado, se algum for nulo ou se a quantidade
+     *                                  exceder {@link PessoaEnum#EXCLUSAO_LOTE_LIMITE_MAXIMO}
+     */
+    public ExclusaoLoteDto excluirLote(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um identificador");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Identificador inválido");
+        }
+        long[] distintos = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        if (distintos.length > PessoaEnum.EXCLUSAO_LOTE_LIMITE_MAXIMO.getValor()) {
+            throw new IllegalArgumentException("Informe no máximo " + PessoaEnum.EXCLUSAO_LOTE_LIMITE_MAXIMO.getValor() + " identificadores");
+        }
+        long excluidas = repository.excluirLote(distintos);
+        return new ExclusaoLoteDto(excluidas, distintos.length - excluidas);
+    }
+
     /**
      * Consulta uma pessoa pelo seu identificador único.
      *
@@ -67,31 +152,92 @@ public class PessoaService {
     }
 
     /**
-     * Lista todas as pessoas paginadas.
+     * Consulta várias pessoas pelos seus identificadores únicos.
+     *
+     * <p>Identificadores repetidos são considerados uma única vez. As pessoas encontradas são devolvidas na ordem em
+     * que os identificadores foram informados, e os identificadores sem pessoa correspondente são listados em
+     * {@code naoEncontrados}.</p>
+     *
+     * @param ids os identificadores únicos das pessoas a serem consultadas
+     * @return as pessoas encontradas e os identificadores não encontrados
+     * @throws IllegalArgumentException se nenhum identificador for informado, se algum for nulo ou se a quantidade
+     *                                  exceder {@link PessoaEnum#CONSULTA_MULTIPLA_LIMITE_MAXIMO}
+     */
+    public ConsultaMultiplaDto<Pessoa> consultarPorIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um identificador");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Identificador inválido");
+        }
+        Set<Long> distintos = new LinkedHashSet<>(ids);
+        if (distintos.size() > PessoaEnum.CONSULTA_MULTIPLA_LIMITE_MAXIMO.getValor()) {
+            throw new IllegalArgumentException("Informe no máximo " + PessoaEnum.CONSULTA_MULTIPLA_LIMITE_MAXIMO.getValor() + " identificadores");
+        }
+        Map<Long, Pessoa> encontradas = repository.consultarPorIds(distintos);
+        List<Pessoa> itens = new ArrayList<>(encontradas.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : distintos) {
+            Pessoa pessoa = encontradas.get(id);
+            if (pessoa != null) {
+                itens.add(pessoa);
+            } else {
+                naoEncontrados.add(id);
+            }
+        }
+        return new ConsultaMultiplaDto<>(itens, naoEncontrados);
+    }
+
+    /**
+     * Lista as pessoas paginadas por cursor.
+     *
+     * <p>O limite informado é ajustado para o intervalo entre 1 e {@link PessoaEnum#LISTAGEM_LIMITE_MAXIMO}; quando
+     * ausente, é utilizado {@link PessoaEnum#LISTAGEM_LIMITE_PADRAO}.</p>
+     *
+     * @param apos   o identificador da última pessoa da página anterior, ou {@code null} para a primeira página
+     * @param limite a quantidade de pessoas desejada na página
+     * @return uma página com o resumo das pessoas listadas
+     */
+    public Slice<PessoaListagemDto> listar(Long apos, Integer limite) {
+        return repository.listar(apos, ajustarLimite(limite));
+    }
+
+    /**
+     * Retorna a versão atual da listagem de pessoas, obtida sem consultar o banco.
+     *
+     * @return a versão da listagem, que muda a cada inclusão, alteração ou exclusão
+     */
+    public String versaoListagem() {
+        return repository.versaoListagem();
+    }
+
+    /**
+     * Percorre todas as pessoas cadastradas, entregando cada uma ao consumidor informado.
      *
-     * @return uma página com as pessoas listadas
+     * @param consumidor o consumidor que receberá cada pessoa lida
      */
-    public Page<Pessoa> listar() {
-        return repository.listar();
+    public void exportar(Consumer<Pessoa> consumidor) {
+        repository.exportar(consumidor);
     }
 
     /**
-     * Verifica se o contato de uma pessoa já está sendo utilizado por outra pessoa.
+     * Ajusta o limite de uma página da listagem para o intervalo permitido.
      *
-     * @param pessoa a pessoa para verificar o contato
-     * @return {@code true} se o contato já está sendo utilizado, {@code false} caso contrário
+     * @param limite o limite solicitado, podendo ser {@code null}
+     * @return o limite a ser utilizado na consulta
      */
-    public boolean contatoJaUtilizado(Pessoa pessoa) {
-        return repository.contatoJaUtilizado(pessoa);
+    public int ajustarLimite(Integer limite) {
+        if (limite == null) return PessoaEnum.LISTAGEM_LIMITE_PADRAO.getValor();
+        return Math.max(1, Math.min(limite, PessoaEnum.LISTAGEM_LIMITE_MAXIMO.getValor()));
     }
 
     /**
-     * Verifica se o contato de uma pessoa já está sendo utilizado por outra pessoa, excluindo a própria pessoa da verificação.
+     * Verifica, dentre os telefones informados, quais já estão sendo utilizados por alguma pessoa.
      *
-     * @param pessoa a pessoa para verificar o contato
-     * @return {@code true} se o contato já está sendo utilizado por outra pessoa, {@code false} caso contrário
+     * @param telefones os telefones a serem verificados
+     * @return o conjunto dos telefones informados que já estão em uso
      */
-    public boolean contatoJaUtilizadoSemSerEu(Pessoa pessoa) {
-        return repository.contatoJaUtilizadoSemSerEu(pessoa);
+    public Set<Telefone> telefonesJaUtilizados(Collection<Telefone> telefones) {
+        return repository.telefonesJaUtilizados(telefones);
     }
 }
@@ -0,0 +1,64 @@
+package br.com.aplicacao.cadastro.pessoa.controller;
+
+import br.com.aplicacao.cadastro.pessoa.aplicacao.ImportacaoPessoaService;
+import br.com.aplicacao.cadastro.pessoa.dto.ImportacaoPessoaDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Controlador REST para a importação de pessoas a partir de arquivos CSV.
+ *
+ * <p>O arquivo é enviado no corpo da requisição, com a primeira linha opcionalmente contendo o cabeçalho
+ * {@code nome,telefone,bairro}, e processado em segundo plano por {@link ImportacaoPessoaService}. A resposta aponta,
+ * no cabeçalho {@code Location}, para o endpoint que informa o progresso e a vazão da importação. O caminho base para
+ * os endpoints é {@code /cadastro/pessoa/importacao}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@RestController
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.LOCATION)
+@RequestMapping("/cadastro/pessoa/importacao")
+@RequiredArgsConstructor
+public class ImportacaoPessoaController {
+
+    private final ImportacaoPessoaService importacaoPessoaService;
+
+    /**
+     * Recebe um arquivo CSV de pessoas e inicia a sua importação.
+     *
+     * @param conteudo o corpo da requisição, lido em fluxo sem ser mantido em memória
+     * @return ResponseEntity com {@code 202 Accepted} e a situação inicial da importação
+     */
+    @PostMapping
+    public ResponseEntity<ImportacaoPessoaDto> importar(InputStream conteudo) {
+        ImportacaoPessoaDto importacao = importacaoPessoaService.receber(conteudo);
+        return ResponseEntity.accepted().location(URI.create("/cadastro/pessoa/importacao/" + importacao.getId())).body(importacao);
+    }
+
+    /**
+     * Consulta a situação de uma importação.
+     *
+     * @param id o identificador da importação
+     * @return ResponseEntity contendo a situação, o progresso e a vazão da importação
+     */
+    @GetMapping("{id}")
+    public ResponseEntity<ImportacaoPessoaDto> consultar(@PathVariable Long id) {
+        return ResponseEntity.ok(importacaoPessoaService.consultar(id));
+    }
+
+    /**
+     * Retoma uma importação interrompida a partir do último bloco confirmado.
+     *
+     * @param id o identificador da importação
+     * @return ResponseEntity com {@code 202 Accepted} e a situação da importação
+     */
+    @PostMapping("{id}/retomar")
+    public ResponseEntity<ImportacaoPessoaDto> retomar(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(importacaoPessoaService.retomar(id));
+    }
+}
@@ -1,19 +1,45 @@
 package br.com.aplicacao.cadastro.pessoa.controller;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
 import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.AlterarPessoaRegras;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.DeletarPessoaRegras;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.GravarPessoaPorTelefoneRegras;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaLoteRegras;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaRegras;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaAlteracaoParcialDto;
 import br.com.aplicacao.cadastro.pessoa.dto.PessoaDto;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
+import br.com.aplicacao.core.dto.ConsultaMultiplaDto;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import br.com.aplicacao.core.dto.PaginaDto;
+import br.com.aplicacao.core.exceptions.ChaveIdempotenciaReutilizadaException;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
+import br.com.aplicacao.core.idempotencia.Idempotencia;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Controlador REST para operações relacionadas à entidade {@code Pessoa}.
@@ -21,59 +47,176 @@ import java.util.List;
  * <p>Este controlador oferece endpoints para consultar, incluir, alterar, deletar e listar pessoas.
  * Utiliza as regras de negócio {@code IncluirPessoaRegras}, {@code AlterarPessoaRegras} e {@code DeletarPessoaRegras}
  * para garantir a integridade dos dados. A anotação {@code @RestController} indica que esta classe é um controlador REST.
- * A anotação {@code @CrossOrigin} permite requisições de origens diferentes. O caminho base para os endpoints é {@code /cadastro/pessoa}.</p>
+ * A anotação {@code @CrossOrigin} permite requisições de origens diferentes e expõe a elas os cabeçalhos {@code ETag} e {@code Idempotent-Replayed}. O caminho base para os endpoints é {@code /cadastro/pessoa}.</p>
  *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @RestController
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.ETAG, Idempotencia.CABECALHO_REPETICAO})
 @RequestMapping("/cadastro/pessoa")
 @RequiredArgsConstructor
 public class PessoaController {
 
+    private static final String OPERACAO_INCLUIR = "cadastro.pessoa.incluir";
+
     private final PessoaService pessoaService;
     private final IncluirPessoaRegras inserirPessoaRegras;
     private final AlterarPessoaRegras alterarPessoaRegras;
     private final DeletarPessoaRegras deletarPessoaRegras;
+    private final IncluirPessoaLoteRegras incluirPessoaLoteRegras;
+    private final ObjectMapper objectMapper;
+    private final Idempotencia idempotencia;
+    private final GravarPessoaPorTelefoneRegras gravarPessoaPorTelefoneRegras;
 
     /**
      * Consulta uma pessoa pelo seu identificador único.
      *
+     * <p>A versão da pessoa é devolvida no cabeçalho {@code ETag}, para ser reenviada em {@code If-Match} na
+     * alteração. Uma requisição com {@code If-None-Match} igual à versão atual é respondida com
+     * {@code 304 Not Modified}, sem serializar a pessoa; como a pessoa é obtida do cache, o banco também não é
+     * consultado.</p>
+     *
      * @param id o identificador único da pessoa a ser consultada
      * @return ResponseEntity contendo a pessoa encontrada, se existir
      */
     @GetMapping("{id}")
-    @Transactional(readOnly = true)
     public ResponseEntity<Pessoa> consultar(@PathVariable Long id) {
         Pessoa entidade = pessoaService.consultar(id);
-        return ResponseEntity.ok(entidade);
+        return comVersao(ResponseEntity.ok(), entidade).body(entidade);
+    }
+
+    /**
+     * Consulta várias pessoas pelos seus identificadores, como em {@code GET /cadastro/pessoa?ids=1,2,3}.
+     *
+     * <p>As pessoas encontradas são devolvidas na ordem dos identificadores informados, e os identificadores sem
+     * pessoa correspondente são listados em {@code naoEncontrados}.</p>
+     *
+     * @param ids os identificadores das pessoas, separados por vírgula
+     * @return ResponseEntity contendo as pessoas encontradas e os identificadores não encontrados
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ConsultaMultiplaDto<Pessoa>> consultarVarias(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(pessoaService.consultarPorIds(ids));
+    }
+
+    /**
+     * Consulta várias pessoas pelos identificadores enviados no corpo da requisição.
+     *
+     * <p>Equivalente a {@link #consultarVarias(List)}, para listas de identificadores grandes demais para a URL.</p>
+     *
+     * @param ids os identificadores das pessoas
+     * @return ResponseEntity contendo as pessoas encontradas e os identificadores não encontrados
+     */
+    @PostMapping("consulta")
+    public ResponseEntity<ConsultaMultiplaDto<Pessoa>> consultarVariasPorCorpo(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(pessoaService.consultarPorIds(ids));
     }
 
     /**
      * Inclui uma nova pessoa.
      *
+     * <p>Com o cabeçalho {@code Idempotency-Key}, as repetições da requisição recebem o ID da pessoa incluída pela
+     * primeira, sem repetir as validações nem consultar o banco, e as repetições simultâneas aguardam a inclusão em
+     * andamento ({@link Idempotencia}).</p>
+     *
      * @param pessoaDto os dados da pessoa a ser incluída
+     * @param chave     a chave de idempotência da requisição, se informada
      * @return ResponseEntity contendo o ID da pessoa incluída
+     * @throws ChaveIdempotenciaReutilizadaException se a chave já tiver sido utilizada com outros dados
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Long> incluir(@RequestBody PessoaDto pessoaDto) {
-        Pessoa domain = pessoaDto.toEntity();
-        return ResponseEntity.ok(inserirPessoaRegras.execute(domain).getId());
+    public ResponseEntity<Long> incluir(@RequestBody PessoaDto pessoaDto,
+                                        @RequestHeader(value = Idempotencia.CABECALHO, required = false) String chave) {
+        return idempotencia.executar(OPERACAO_INCLUIR, chave, pessoaDto, () -> {
+            Pessoa domain = pessoaDto.toEntity();
+            return ResponseEntity.ok(inserirPessoaRegras.execute(domain).getId());
+        });
+    }
+
+    /**
+     * Inclui várias pessoas de uma só vez.
+     *
+     * @param pessoasDto os dados das pessoas a serem incluídas
+     * @return ResponseEntity contendo os IDs gerados, na ordem enviada, e os erros dos itens rejeitados
+     */
+    @PostMapping("lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ResponseEntity<LoteResultadoDto> incluirLote(@RequestBody List<PessoaDto> pessoasDto) {
+        List<Pessoa> domains = pessoasDto.stream()
+                .map(pessoaDto -> pessoaDto != null ? pessoaDto.toEntity() : null)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(incluirPessoaLoteRegras.execute(domains));
     }
 
     /**
      * Altera os dados de uma pessoa existente.
      *
+     * <p>Quando o cabeçalho {@code If-Match} é informado, a alteração só é gravada se a versão nele contida ainda for
+     * a versão atual da pessoa, ou se uma delas for, quando o cabeçalho listar várias; caso contrário a resposta é
+     * {@code 412 Precondition Failed}. Com {@code If-Match: *}, basta que a pessoa exista. Sem o cabeçalho, a alteração
+     * é aplicada sobre a versão atual. A nova versão é devolvida no {@code ETag}.</p>
+     *
      * @param pessoaDto os novos dados da pessoa a ser alterada
+     * @param ifMatch   o {@code ETag} da versão sobre a qual a alteração foi feita, se informado
      * @return ResponseEntity contendo o ID da pessoa alterada
+     * @throws VersaoDivergenteException se a versão informada não for a versão atual da pessoa
      */
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<Long> alterar(@RequestBody @Valid PessoaDto pessoaDto) {
+    public ResponseEntity<Long> alterar(@RequestBody @Valid PessoaDto pessoaDto,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Pessoa domain = pessoaDto.toEntity();
         if (domain.getId() == null) domain.setId(pessoaDto.getId());
-        return ResponseEntity.ok(alterarPessoaRegras.execute(domain).getId());
+        domain.setVersao(versaoDoIfMatch(ifMatch, domain.getId()));
+        Pessoa alterada = alterarPessoaRegras.execute(domain);
+        return comVersao(ResponseEntity.ok(), alterada).body(alterada.getId());
+    }
+
+    /**
+     * Altera apenas os campos informados de uma pessoa existente.
+     *
+     * <p>Os campos ausentes mantêm o valor gravado e somente as colunas efetivamente alteradas são enviadas no
+     * {@code update}. O cabeçalho {@code If-Match} e o {@code ETag} seguem as mesmas regras de
+     * {@link #alterar(PessoaDto, String)}.</p>
+     *
+     * @param id           o identificador único da pessoa a ser alterada
+     * @param alteracaoDto os campos a serem alterados
+     * @param ifMatch      o {@code ETag} da versão sobre a qual a alteração foi feita, se informado
+     * @return ResponseEntity contendo o ID da pessoa alterada
+     * @throws VersaoDivergenteException se a versão informada não for a versão atual da pessoa
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Long> alterarParcialmente(@PathVariable Long id, @RequestBody PessoaAlteracaoParcialDto alteracaoDto,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Pessoa domain = alteracaoDto.toEntity(id);
+        domain.setVersao(versaoDoIfMatch(ifMatch, domain.getId()));
+        Pessoa alterada = alterarPessoaRegras.executeParcial(domain);
+        return comVersao(ResponseEntity.ok(), alterada).body(alterada.getId());
+    }
+
+    /**
+     * Inclui uma pessoa ou altera a pessoa já cadastrada com o telefone informado, em uma única operação atômica.
+     *
+     * <p>O telefone do caminho, no formato {@code (XX) XXXXX-XXXX} ou {@code (XX) XXXX-XXXX}, substitui o contato do
+     * corpo. Não é preciso verificar antes se o telefone já está cadastrado: a inclusão é respondida com
+     * {@code 201 Created} e o endereço da pessoa no cabeçalho {@code Location}, e a alteração com {@code 200 OK}.
+     * Em ambos os casos, a nova versão da pessoa é devolvida no cabeçalho {@code ETag}.</p>
+     *
+     * @param telefone  o telefone da pessoa
+     * @param pessoaDto o nome e o endereço da pessoa
+     * @return ResponseEntity contendo o ID da pessoa incluída ou alterada
+     */
+    @PutMapping("/por-telefone/{telefone}")
+    public ResponseEntity<Long> gravarPorTelefone(@PathVariable String telefone, @RequestBody PessoaDto pessoaDto) {
+        Pessoa domain = new Pessoa(null, pessoaDto.getNome(),
+                pessoaDto.getEndereco() != null ? pessoaDto.getEndereco().toEntity() : null, new Contato(telefone));
+        PessoaGravada gravada = gravarPessoaPorTelefoneRegras.execute(domain);
+        Long id = gravada.pessoa().getId();
+        ResponseEntity.BodyBuilder resposta = gravada.incluida()
+                ? ResponseEntity.created(URI.create("/cadastro/pessoa/" + id))
+                : ResponseEntity.ok();
+        return comVersao(resposta, gravada.pessoa()).body(id);
     }
 
     /**
@@ -88,14 +231,155 @@ public class PessoaController {
     }
 
     /**
-     * Lista todas as pessoas cadastradas.
+     * Exclui várias pessoas de uma só vez.
+     *
+     * <p>Os identificadores sem pessoa correspondente não impedem a exclusão das demais e são apenas contados.</p>
+     *
+     * @param ids os identificadores únicos das pessoas a serem excluídas
+     * @return ResponseEntity contendo a quantidade de pessoas excluídas e de identificadores não encontrados
+     */
+    @PostMapping("excluir-lote")
+    public ResponseEntity<ExclusaoLoteDto> excluirLote(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(deletarPessoaRegras.executeLote(ids));
+    }
+
+    /**
+     * Lista as pessoas cadastradas, paginadas pelo identificador.
+     *
+     * <p>A versão da listagem é devolvida no {@code ETag}. Como ela é gravada no banco, muda no mesmo commit de cada
+     * inclusão, alteração ou exclusão e é a mesma em todas as instâncias da aplicação. Uma requisição com
+     * {@code If-None-Match} igual à versão atual é respondida com {@code 304 Not Modified} após a leitura da versão
+     * pela chave primária, sem consultar a página nem serializá-la.</p>
      *
-     * @return ResponseEntity contendo a lista de pessoas encontradas
+     * @param apos       o cursor retornado em {@code proximo} pela página anterior; ausente para a primeira página
+     * @param limite     a quantidade de pessoas desejada na página, limitada ao máximo permitido
+     * @param requisicao a requisição, utilizada para responder {@code 304 Not Modified} a um {@code If-None-Match}
+     *                   com a versão atual
+     * @return ResponseEntity contendo o resumo das pessoas encontradas e o cursor da próxima página
      */
     @GetMapping("listar")
     @ResponseStatus(HttpStatus.OK)
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<Pessoa>> listar() {
-        return ResponseEntity.ok(pessoaService.listar().getContent());
+    public ResponseEntity<PaginaDto<PessoaListagemDto>> listar(@RequestParam(name = "after", required = false) Long apos,
+                                                               @RequestParam(name = "limit", required = false) Integer limite,
+                                                               WebRequest requisicao) {
+        String versao = pessoaService.versaoListagem();
+        if (requisicao.checkNotModified(versao)) return null;
+        return ResponseEntity.ok().eTag(versao).body(PaginaDto.de(pessoaService.listar(apos, limite), PessoaListagemDto::getId));
+    }
+
+    /**
+     * Exporta todas as pessoas cadastradas no formato JSON delimitado por quebras de linha (NDJSON).
+     *
+     * <p>Cada pessoa é serializada e enviada ao cliente assim que é lida do banco, sem que a lista completa seja
+     * mantida em memória. A exportação é executada de forma assíncrona e limitada a
+     * {@code spring.mvc.async.request-timeout} (30 minutos na configuração da aplicação); ao fim desse tempo a
+     * resposta é encerrada, a escrita seguinte falha e a leitura do banco é interrompida.</p>
+     *
+     * @return ResponseEntity contendo o corpo que escreve uma pessoa por linha
+     */
+    @GetMapping(value = "exportar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        ObjectWriter writer = objectMapper.writerFor(Pessoa.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody corpo = saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                pessoaService.exportar(pessoa -> {
+                    try {
+                        writer.writeValue(gerador, pessoa);
+                        gerador.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(corpo);
+    }
+
+    /**
+     * Adiciona à resposta o cabeçalho {@code ETag} com a versão da pessoa, quando conhecida.
+     *
+     * @param resposta a resposta em construção
+     * @param pessoa   a pessoa cuja versão será informada
+     * @return a resposta em construção
+     */
+    private static ResponseEntity.BodyBuilder comVersao(ResponseEntity.BodyBuilder resposta, Pessoa pessoa) {
+        return pessoa.getVersao() != null ? resposta.eTag(String.valueOf(pessoa.getVersao())) : resposta;
+    }
+
+    /**
+     * Obtém a versão do cabeçalho {@code If-Match} sobre a qual a alteração da pessoa deve ser aplicada.
+     *
+     * <p>Com {@code *}, basta que a pessoa exista. Com uma única versão, ela é conferida ao gravar a alteração. Com
+     * várias, a versão atual da pessoa é escolhida se estiver entre as listadas, e também é conferida ao gravar.</p>
+     *
+     * @param ifMatch o valor do cabeçalho, podendo ser {@code null}
+     * @param id      o identificador único da pessoa a ser alterada
+     * @return a versão a ser conferida, ou {@code null} se o cabeçalho estiver ausente ou for {@code *}
+     * @throws VersaoDivergenteException se a pessoa não existir ou se nenhuma versão listada for a versão atual
+     */
+    private Long versaoDoIfMatch(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+        if (ifMatch.trim().equals("*")) {
+            versaoAtual(id);
+            return null;
+        }
+        List<Long> versoes = versoesDoIfMatch(ifMatch);
+        if (versoes.size() == 1) return versoes.get(0);
+        Long atual = versaoAtual(id);
+        if (versoes.contains(atual)) return atual;
+        throw new VersaoDivergenteException("Versão da pessoa divergente");
+    }
+
+    /**
+     * Obtém a versão atual de uma pessoa para conferir o cabeçalho {@code If-Match}.
+     *
+     * @param id o identificador único da pessoa
+     * @return a versão atual da pessoa
+     * @throws VersaoDivergenteException se a pessoa não existir, pois nenhum {@code If-Match} pode corresponder
+     */
+    private Long versaoAtual(Long id) {
+        try {
+            if (id != null) return pessoaService.consultar(id).getVersao();
+        } catch (NaoEncontradoException e) {
+            // tratada abaixo: sem pessoa, nenhuma versão corresponde
+        }
+        throw new VersaoDivergenteException("Versão da pessoa divergente");
+    }
+
+    /**
+     * Obtém as versões listadas no cabeçalho {@code If-Match}, separadas por vírgula.
+     *
+     * <p>Apenas um {@code ETag} forte com a versão numérica, como {@code "3"}, pode corresponder à versão atual. Um
+     * {@code ETag} fraco ou em outro formato nunca corresponde e é desconsiderado; se nenhum da lista for válido, a
+     * resposta é {@code 412 Precondition Failed}.</p>
+     *
+     * @param ifMatch o valor do cabeçalho, diferente de {@code *}
+     * @return as versões listadas, na ordem do cabeçalho
+     * @throws VersaoDivergenteException se o cabeçalho não contiver nenhuma versão válida
+     */
+    static List<Long> versoesDoIfMatch(String ifMatch) {
+        List<Long> versoes = new ArrayList<>();
+        for (String etag : ifMatch.split(",")) {
+            etag = etag.trim();
+            if (etagForteNumerico(etag)) versoes.add(Long.valueOf(etag.substring(1, etag.length() - 1)));
+        }
+        if (versoes.isEmpty()) throw new VersaoDivergenteException("Versão da pessoa divergente");
+        return versoes;
+    }
+
+    /**
+     * Verifica se o {@code ETag} é forte e contém apenas uma versão numérica de até 18 dígitos, como {@code "3"}.
+     *
+     * @param etag o {@code ETag} sem espaços nas extremidades
+     * @return {@code true} se o {@code ETag} contiver uma versão numérica
+     */
+    private static boolean etagForteNumerico(String etag) {
+        int tamanho = etag.length();
+        if (tamanho < 3 || tamanho > 20 || etag.charAt(0) != '"' || etag.charAt(tamanho - 1) != '"') return false;
+        for (int i = 1; i < tamanho - 1; i++) {
+            char c = etag.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
     }
 }
@@ -1,11 +1,19 @@
 package br.com.aplicacao.cadastro.pessoa.dominio;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
 import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
 import br.com.aplicacao.core.infra.BaseRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface que define operações de persistência para entidades de Pessoa.
@@ -32,26 +40,80 @@ public interface PessoaRepository extends BaseRepository<Pessoa, PessoaData> {
     Optional<Pessoa> consultar(Long id);
 
     /**
-     * Retorna uma página de pessoas.
+     * Consulta uma pessoa pelo seu identificador único diretamente no armazenamento, sem passar por caches que possam
+     * conter uma cópia desatualizada.
      *
-     * @return uma {@link Page} contendo as pessoas encontradas
+     * @param id o identificador único da pessoa
+     * @return um {@link Optional} contendo a pessoa gravada, se presente
+     */
+    Optional<Pessoa> consultarGravada(Long id);
+
+    /**
+     * Consulta várias pessoas pelos seus identificadores únicos.
+     *
+     * <p>Os identificadores não encontrados simplesmente não constam do resultado.</p>
+     *
+     * @param ids os identificadores únicos das pessoas
+     * @return as pessoas encontradas, indexadas pelo identificador
+     */
+    Map<Long, Pessoa> consultarPorIds(Collection<Long> ids);
+
+    /**
+     * Retorna a versão atual da listagem de pessoas, que muda a cada inclusão, alteração ou exclusão.
+     *
+     * @return a versão da listagem
+     */
+    String versaoListagem();
+
+    /**
+     * Retorna uma página com o resumo das pessoas posteriores ao cursor informado, ordenadas pelo identificador.
+     *
+     * @param apos   o identificador da última pessoa da página anterior, ou {@code null} para a primeira página
+     * @param limite a quantidade máxima de pessoas da página
+     * @return um {@link Slice} contendo as pessoas encontradas e a indicação de existência de uma próxima página
+     */
+    Slice<PessoaListagemDto> listar(Long apos, int limite);
+
+    /**
+     * Percorre todas as pessoas cadastradas, entregando cada uma ao consumidor informado à medida que são lidas.
+     *
+     * <p>Nenhuma coleção com todas as pessoas é montada em memória, de modo que o consumo de memória independe da
+     * quantidade de registros.</p>
+     *
+     * @param consumidor o consumidor que receberá cada pessoa lida
+     */
+    void exportar(Consumer<Pessoa> consumidor);
+
+    /**
+     * Inclui várias pessoas, persistindo-as em blocos com instruções agrupadas.
+     *
+     * @param pessoas as pessoas a serem incluídas
+     * @return as pessoas incluídas, na mesma ordem, com os identificadores gerados
+     */
+    List<Pessoa> incluirLote(List<Pessoa> pessoas);
+
+    /**
+     * Verifica, dentre os telefones informados, quais já estão sendo utilizados por alguma pessoa.
+     *
+     * @param telefones os telefones a serem verificados
+     * @return o conjunto dos telefones informados que já estão em uso
      */
-    Page<Pessoa> listar();
+    Set<Telefone> telefonesJaUtilizados(Collection<Telefone> telefones);
 
     /**
-     * Verifica se o contato de uma pessoa já está sendo utilizado por outra pessoa.
+     * Exclui as pessoas com os identificadores informados, em blocos de instruções únicas.
      *
-     * @param pessoa a pessoa cujo contato será verificado
-     * @return true se o contato já está sendo utilizado, false caso contrário
+     * @param ids os identificadores distintos das pessoas a serem excluídas
+     * @return a quantidade de pessoas excluídas
      */
-    boolean contatoJaUtilizado(Pessoa pessoa);
+    long excluirLote(long[] ids);
 
     /**
-     * Verifica se o contato de uma pessoa já está sendo utilizado por outra pessoa,
-     * excluindo a própria pessoa da verificação.
+     * Inclui a pessoa ou, se o seu telefone já estiver cadastrado, altera a pessoa com esse telefone, em uma única
+     * operação atômica.
      *
-     * @param pessoa a pessoa cujo contato será verificado
-     * @return true se o contato já está sendo utilizado por outra pessoa, false caso contrário
+     * @param pessoa a pessoa a ser gravada
+     * @return a pessoa gravada, com o identificador e a versão, e a indicação de inclusão
      */
-    boolean contatoJaUtilizadoSemSerEu(Pessoa pessoa);
+    PessoaGravada gravarPorTelefone(Pessoa pessoa);
 }
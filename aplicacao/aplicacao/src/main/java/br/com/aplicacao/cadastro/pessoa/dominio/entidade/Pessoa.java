@@ -4,16 +4,21 @@ import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
 import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
 import lombok.*;
 
+import java.util.Objects;
+
 /**
  * Representa uma entidade de Pessoa no sistema.
  *
- * <p>Esta classe contém informações como {@code id}, {@code nome}, {@code endereco} e {@code contato} de uma pessoa.</p>
+ * <p>Esta classe contém informações como {@code id}, {@code nome}, {@code endereco} e {@code contato} de uma pessoa,
+ * além da {@code versao} gravada, utilizada no controle de concorrência otimista.</p>
  *
  * <p>A anotação {@code @Getter} do Lombok gera automaticamente os métodos getters para os campos.</p>
  * <p>A anotação {@code @Builder} do Lombok permite a construção fluente de objetos desta classe.</p>
  * <p>A anotação {@code @NoArgsConstructor} do Lombok gera um construtor padrão sem argumentos.</p>
  * <p>A anotação {@code @AllArgsConstructor} do Lombok gera um construtor com todos os argumentos.</p>
  *
+ * <p>O método {@link #mesmoConteudo(Pessoa)} permite identificar alterações que não modificam nenhum dado.</p>
+ *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @Getter
@@ -28,6 +33,8 @@ public class Pessoa {
     private String nome;
     private Endereco endereco;
     private Contato contato;
+    @Setter
+    private Long versao;
 
     /**
      * Construtor que inicializa uma pessoa com um ID específico.
@@ -37,4 +44,30 @@ public class Pessoa {
     public Pessoa(Long id) {
         this.id = id;
     }
+
+    /**
+     * Construtor que inicializa uma pessoa sem versão conhecida.
+     *
+     * @param id       o identificador único da pessoa
+     * @param nome     o nome da pessoa
+     * @param endereco o endereço da pessoa
+     * @param contato  o contato da pessoa
+     */
+    public Pessoa(Long id, String nome, Endereco endereco, Contato contato) {
+        this(id, nome, endereco, contato, null);
+    }
+
+    /**
+     * Verifica se esta pessoa possui o mesmo conteúdo de outra, incluindo o endereço e o contato.
+     *
+     * @param outra a pessoa a ser comparada
+     * @return {@code true} se identificadores, nome, endereço e contato forem iguais, {@code false} caso contrário
+     */
+    public boolean mesmoConteudo(Pessoa outra) {
+        return outra != null
+                && Objects.equals(id, outra.id)
+                && Objects.equals(nome, outra.nome)
+                && Endereco.mesmoConteudo(endereco, outra.endereco)
+                && Contato.mesmoConteudo(contato, outra.contato);
+    }
 }
@@ -0,0 +1,15 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.entidade;
+
+/**
+ * Resultado da gravação de uma pessoa pelo telefone, que pode incluir uma nova pessoa ou alterar a pessoa já
+ * cadastrada com o mesmo telefone.
+ *
+ * <p>A indicação de inclusão é informada pelo banco na própria instrução de gravação, e não deduzida da versão.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ *
+ * @param pessoa   a pessoa gravada, com o identificador e a versão
+ * @param incluida {@code true} se a pessoa foi incluída, ou {@code false} se uma pessoa existente foi alterada
+ */
+public record PessoaGravada(Pessoa pessoa, boolean incluida) {
+}
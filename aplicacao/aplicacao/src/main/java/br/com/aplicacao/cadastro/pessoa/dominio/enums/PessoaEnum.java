@@ -18,7 +18,32 @@ public enum PessoaEnum {
     /**
      * Define o tamanho máximo permitido para o nome de uma pessoa.
      */
-    NOME_TAMANHO_MAXIMO(10);
+    NOME_TAMANHO_MAXIMO(10),
+
+    /**
+     * Define a quantidade de pessoas retornada por página quando nenhum limite é informado na listagem.
+     */
+    LISTAGEM_LIMITE_PADRAO(50),
+
+    /**
+     * Define a quantidade máxima de pessoas que pode ser retornada em uma única página da listagem.
+     */
+    LISTAGEM_LIMITE_MAXIMO(500),
+
+    /**
+     * Define a quantidade máxima de identificadores que podem ser informados em uma única consulta de várias pessoas.
+     */
+    CONSULTA_MULTIPLA_LIMITE_MAXIMO(1000),
+
+    /**
+     * Define a quantidade máxima de identificadores que podem ser informados em uma única exclusão em lote.
+     */
+    EXCLUSAO_LOTE_LIMITE_MAXIMO(100_000),
+
+    /**
+     * Define a quantidade de pessoas a partir da qual as validações individuais de um lote são executadas em paralelo.
+     */
+    LOTE_VALIDACAO_PARALELA_MINIMO(256);
 
     /**
      * O valor associado a esta constante.
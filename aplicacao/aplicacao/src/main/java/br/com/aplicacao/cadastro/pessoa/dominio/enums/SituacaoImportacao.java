@@ -0,0 +1,34 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.enums;
+
+/**
+ * Enumeração que define as situações de uma importação de pessoas.
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public enum SituacaoImportacao {
+
+    /**
+     * O arquivo foi recebido e aguarda o início do processamento.
+     */
+    PENDENTE,
+
+    /**
+     * O arquivo está sendo processado, ou o processamento foi interrompido e será retomado do último ponto gravado.
+     */
+    EM_ANDAMENTO,
+
+    /**
+     * Todas as linhas do arquivo foram processadas.
+     */
+    CONCLUIDA,
+
+    /**
+     * O processamento foi encerrado por um erro e pode ser retomado do último ponto gravado.
+     */
+    FALHOU,
+
+    /**
+     * O processamento foi cancelado e pode ser retomado do último ponto gravado.
+     */
+    CANCELADA
+}
@@ -8,13 +8,15 @@ import lombok.RequiredArgsConstructor;
 
 import javax.inject.Named;
 
-import static br.com.aplicacao.cadastro.contato.dominio.enums.TelefoneEnum.TELEFONE_MASCARA_REGEX;
-
 /**
  * Regras de negócio para a operação de alteração de uma pessoa.
  *
  * <p>Esta classe define as regras que devem ser seguidas ao alterar os dados de uma pessoa no sistema.
- * Ela valida o nome da pessoa, o telefone de contato, e verifica se o contato já está cadastrado no sistema.</p>
+ * Ela valida o nome da pessoa e o telefone de contato. A unicidade do telefone é garantida pelo índice único do
+ * banco, cuja violação é convertida em "Contato já cadastrado" pelo repositório.</p>
+ *
+ * <p>Alterações que não modificam nenhum dado são identificadas por {@link PessoaService#semAlteracao(Pessoa)} e não
+ * geram escrita no banco.</p>
  *
  * <p>A anotação {@code @Named} é utilizada para que esta classe seja injetada como um bean gerenciado pelo Spring.</p>
  *
@@ -29,6 +31,9 @@ public class AlterarPessoaRegras implements Regras<Pessoa> {
     /**
      * Executa as regras de negócio para a operação de alteração de pessoa.
      *
+     * <p>Quando os dados recebidos são idênticos aos gravados, nada é enviado ao banco e a pessoa é devolvida como
+     * recebida.</p>
+     *
      * @param pessoa a pessoa a ser alterada
      * @return a pessoa após a alteração
      * @throws IllegalArgumentException se alguma validação falhar
@@ -37,7 +42,32 @@ public class AlterarPessoaRegras implements Regras<Pessoa> {
     public Pessoa execute(Pessoa pessoa) {
         validarNome(pessoa);
         validarTelefoneContato(pessoa);
-        validarContatoJaCadastrado(pessoa);
+        if (service.semAlteracao(pessoa)) return pessoa;
+        return service.alterar(pessoa);
+    }
+
+    /**
+     * Executa as regras de negócio para a alteração parcial de uma pessoa.
+     *
+     * <p>Os campos nulos da pessoa recebida mantêm o valor gravado, e apenas os campos informados são validados: o
+     * telefone só é verificado quando for alterado. A pessoa gravada é obtida do serviço e não é modificada; a
+     * alteração é gravada sobre uma cópia com os campos informados.</p>
+     *
+     * @param alteracoes a pessoa com o identificador, a versão esperada e apenas os campos a serem alterados
+     * @return a pessoa após a alteração
+     * @throws IllegalArgumentException se a validação de algum campo informado falhar
+     * @throws br.com.aplicacao.core.exceptions.NaoEncontradoException se a pessoa não existir
+     */
+    public Pessoa executeParcial(Pessoa alteracoes) {
+        if (alteracoes.getNome() != null) validarNome(alteracoes);
+        if (alteracoes.getContato() != null) validarTelefoneContato(alteracoes);
+        Pessoa atual = service.consultar(alteracoes.getId());
+        Pessoa pessoa = new Pessoa(atual.getId(),
+                alteracoes.getNome() != null ? alteracoes.getNome() : atual.getNome(),
+                alteracoes.getEndereco() != null ? alteracoes.getEndereco() : atual.getEndereco(),
+                alteracoes.getContato() != null ? alteracoes.getContato() : atual.getContato(),
+                alteracoes.getVersao());
+        if (service.semAlteracao(pessoa)) return pessoa;
         return service.alterar(pessoa);
     }
 
@@ -116,20 +146,8 @@ public class AlterarPessoaRegras implements Regras<Pessoa> {
      * @throws IllegalArgumentException se o telefone não estiver no formato correto
      */
     public void verificarFormatoTelefone(Pessoa pessoa) {
-        if (!pessoa.getContato().getTelefone().matches(TELEFONE_MASCARA_REGEX.getRegex())) {
+        if (!pessoa.getContato().telefoneValido()) {
             throw new IllegalArgumentException("Telefone inválido");
         }
     }
-
-    /**
-     * Valida se o contato da pessoa já está cadastrado no sistema.
-     *
-     * @param pessoa a pessoa a ser validada
-     * @throws IllegalArgumentException se o contato já estiver cadastrado
-     */
-    public void validarContatoJaCadastrado(Pessoa pessoa) {
-        if (service.contatoJaUtilizadoSemSerEu(pessoa)) {
-            throw new IllegalArgumentException("Contato já cadastrado");
-        }
-    }
 }
@@ -2,10 +2,12 @@ package br.com.aplicacao.cadastro.pessoa.dominio.regras;
 
 import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
 import br.com.aplicacao.core.regras.Regras;
 import lombok.RequiredArgsConstructor;
 
 import javax.inject.Named;
+import java.util.List;
 
 /**
  * Regras de negócio para a operação de exclusão de uma pessoa.
@@ -47,6 +49,17 @@ public class DeletarPessoaRegras implements Regras<Pessoa> {
         return id;
     }
 
+    /**
+     * Executa as regras de negócio para a exclusão de várias pessoas através dos IDs.
+     *
+     * @param ids os IDs das pessoas a serem excluídas
+     * @return a quantidade de pessoas excluídas e de IDs não encontrados
+     * @throws IllegalArgumentException se nenhum ID for informado, se algum for nulo ou se a quantidade exceder o limite
+     */
+    public ExclusaoLoteDto executeLote(List<Long> ids) {
+        return service.excluirLote(ids);
+    }
+
     /**
      * Valida se o ID da pessoa é nulo.
      *
@@ -0,0 +1,42 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.regras;
+
+import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import lombok.RequiredArgsConstructor;
+
+import javax.inject.Named;
+
+/**
+ * Regras de negócio para a gravação de uma pessoa identificada pelo telefone, incluída ou alterada conforme o telefone
+ * já esteja cadastrado.
+ *
+ * <p>O nome e o telefone são validados com as mesmas regras de {@link IncluirPessoaRegras}. A existência do telefone
+ * não é verificada antes da gravação: a escolha entre inclusão e alteração é feita pelo banco, atomicamente, na
+ * própria instrução de gravação, que também informa se a pessoa foi incluída. Por isso o resultado é uma
+ * {@link PessoaGravada}, e esta classe não implementa {@link br.com.aplicacao.core.regras.Regras}.</p>
+ *
+ * <p>A anotação {@code @Named} é utilizada para que esta classe seja injetada como um bean gerenciado pelo Spring.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Named
+@RequiredArgsConstructor
+public class GravarPessoaPorTelefoneRegras {
+
+    private final PessoaService service;
+    private final IncluirPessoaRegras incluirPessoaRegras;
+
+    /**
+     * Executa as regras de negócio para a gravação de uma pessoa pelo telefone.
+     *
+     * @param pessoa a pessoa a ser gravada, com o telefone de contato
+     * @return a pessoa gravada e a indicação de inclusão
+     * @throws IllegalArgumentException se o nome ou o telefone forem inválidos
+     */
+    public PessoaGravada execute(Pessoa pessoa) {
+        incluirPessoaRegras.validarNome(pessoa);
+        incluirPessoaRegras.validarTelefoneContato(pessoa);
+        return service.gravarPorTelefone(pessoa);
+    }
+}
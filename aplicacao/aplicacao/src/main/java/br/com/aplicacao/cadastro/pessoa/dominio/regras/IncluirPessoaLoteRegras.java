@@ -0,0 +1,112 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.regras;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.PessoaEnum;
+import br.com.aplicacao.core.dto.ErroItemDto;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import lombok.RequiredArgsConstructor;
+
+import javax.inject.Named;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Regras de negócio para a operação de inclusão de várias pessoas de uma só vez.
+ *
+ * <p>Cada pessoa é validada com as mesmas regras de {@link IncluirPessoaRegras}. Os itens inválidos são rejeitados
+ * individualmente, sem impedir a inclusão dos demais, e a verificação de contatos já cadastrados é feita com uma
+ * única consulta para todo o lote, considerando também telefones repetidos dentro do próprio lote.</p>
+ *
+ * <p>As validações individuais não dependem umas das outras e, em lotes com pelo menos
+ * {@link PessoaEnum#LOTE_VALIDACAO_PARALELA_MINIMO} pessoas, são executadas em paralelo.</p>
+ *
+ * <p>A anotação {@code @Named} é utilizada para que esta classe seja injetada como um bean gerenciado pelo Spring.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Named
+@RequiredArgsConstructor
+public class IncluirPessoaLoteRegras {
+
+    private final PessoaService service;
+    private final IncluirPessoaRegras incluirPessoaRegras;
+
+    /**
+     * Executa as regras de negócio para a inclusão de um lote de pessoas.
+     *
+     * @param pessoas as pessoas a serem incluídas
+     * @return o resultado do lote, com os identificadores gerados e os erros dos itens rejeitados
+     */
+    public LoteResultadoDto execute(List<Pessoa> pessoas) {
+        ErroItemDto[] falhas = new ErroItemDto[pessoas.size()];
+        IntStream indices = IntStream.range(0, pessoas.size());
+        if (pessoas.size() >= PessoaEnum.LOTE_VALIDACAO_PARALELA_MINIMO.getValor()) indices = indices.parallel();
+        indices.forEach(indice -> {
+            try {
+                validar(pessoas.get(indice));
+            } catch (IllegalArgumentException e) {
+                falhas[indice] = new ErroItemDto(indice, e.getMessage());
+            }
+        });
+        List<ErroItemDto> erros = new ArrayList<>();
+        List<Integer> indicesValidos = new ArrayList<>();
+        for (int indice = 0; indice < falhas.length; indice++) {
+            if (falhas[indice] != null) erros.add(falhas[indice]);
+            else indicesValidos.add(indice);
+        }
+        validarContatosJaCadastrados(pessoas, indicesValidos, erros);
+
+        Long[] ids = new Long[pessoas.size()];
+        if (!indicesValidos.isEmpty()) {
+            List<Pessoa> incluidas = service.incluirLote(indicesValidos.stream().map(pessoas::get).collect(Collectors.toList()));
+            for (int i = 0; i < indicesValidos.size(); i++) {
+                ids[indicesValidos.get(i)] = incluidas.get(i).getId();
+            }
+        }
+        erros.sort(Comparator.comparingInt(ErroItemDto::getIndice));
+        return new LoteResultadoDto(Arrays.asList(ids), erros);
+    }
+
+    /**
+     * Valida individualmente uma pessoa do lote.
+     *
+     * @param pessoa a pessoa a ser validada
+     * @throws IllegalArgumentException se a pessoa, o nome ou o telefone forem inválidos
+     */
+    public void validar(Pessoa pessoa) {
+        if (pessoa == null) {
+            throw new IllegalArgumentException("Pessoa é obrigatória");
+        }
+        incluirPessoaRegras.validarNome(pessoa);
+        if (pessoa.getContato() == null) {
+            throw new IllegalArgumentException("Telefone é obrigatório");
+        }
+        incluirPessoaRegras.validarTelefoneContato(pessoa);
+    }
+
+    /**
+     * Rejeita os itens cujo telefone já está cadastrado ou se repete dentro do próprio lote.
+     *
+     * @param pessoas        as pessoas do lote
+     * @param indicesValidos os índices das pessoas que passaram nas validações individuais; os rejeitados são removidos
+     * @param erros          a lista onde os erros dos itens rejeitados são registrados
+     */
+    public void validarContatosJaCadastrados(List<Pessoa> pessoas, List<Integer> indicesValidos, List<ErroItemDto> erros) {
+        if (indicesValidos.isEmpty()) return;
+        Map<Integer, Telefone> telefones = new HashMap<>();
+        indicesValidos.forEach(indice -> telefones.put(indice, pessoas.get(indice).getContato().telefoneNormalizado()));
+        Set<Telefone> cadastrados = service.telefonesJaUtilizados(new HashSet<>(telefones.values()));
+        Set<Telefone> vistos = new HashSet<>();
+        indicesValidos.removeIf(indice -> {
+            Telefone telefone = telefones.get(indice);
+            if (cadastrados.contains(telefone) || !vistos.add(telefone)) {
+                erros.add(new ErroItemDto(indice, "Contato já cadastrado"));
+                return true;
+            }
+            return false;
+        });
+    }
+}
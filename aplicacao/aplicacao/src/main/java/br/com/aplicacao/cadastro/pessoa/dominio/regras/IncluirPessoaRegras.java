@@ -8,14 +8,13 @@ import lombok.RequiredArgsConstructor;
 
 import javax.inject.Named;
 
-import static br.com.aplicacao.cadastro.contato.dominio.enums.TelefoneEnum.TELEFONE_MASCARA_REGEX;
-
 /**
  * Regras de negócio para a operação de inclusão de uma pessoa.
  *
  * <p>Esta classe define as regras que devem ser seguidas ao incluir uma nova pessoa no sistema.
- * Ela valida o nome, telefone de contato e se o contato já está cadastrado antes de realizar a inclusão,
- * utilizando o serviço {@link PessoaService}.</p>
+ * Ela valida o nome e o telefone de contato antes de realizar a inclusão, utilizando o serviço {@link PessoaService}.
+ * A unicidade do telefone é garantida pelo índice único do banco, cuja violação é convertida em
+ * "Contato já cadastrado" pelo repositório.</p>
  *
  * <p>A anotação {@code @Named} é utilizada para que esta classe seja injetada como um bean gerenciado pelo Spring.</p>
  *
@@ -37,7 +36,6 @@ public class IncluirPessoaRegras implements Regras<Pessoa> {
     public Pessoa execute(Pessoa pessoa) {
         validarNome(pessoa);
         validarTelefoneContato(pessoa);
-        validarContatoJaCadastrado(pessoa);
         return service.incluir(pessoa);
     }
 
@@ -114,20 +112,8 @@ public class IncluirPessoaRegras implements Regras<Pessoa> {
      * @throws IllegalArgumentException se o formato do telefone for inválido
      */
     public void verificarFormatoTelefone(Pessoa pessoa) {
-        if (!pessoa.getContato().getTelefone().matches(TELEFONE_MASCARA_REGEX.getRegex())) {
+        if (!pessoa.getContato().telefoneValido()) {
             throw new IllegalArgumentException("Telefone inválido");
         }
     }
-
-    /**
-     * Valida se o contato da pessoa já está cadastrado no sistema.
-     *
-     * @param pessoa a pessoa a ser validada
-     * @throws IllegalArgumentException se o contato já estiver cadastrado
-     */
-    public void validarContatoJaCadastrado(Pessoa pessoa) {
-        if (service.contatoJaUtilizado(pessoa)) {
-            throw new IllegalArgumentException("Contato já cadastrado");
-        }
-    }
 }
@@ -0,0 +1,90 @@
+package br.com.aplicacao.cadastro.pessoa.dto;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.SituacaoImportacao;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO (Data Transfer Object) que representa a situação de uma importação de pessoas.
+ *
+ * <p>O progresso é medido em bytes do arquivo já processados, e a vazão em linhas por segundo desde o início da
+ * execução atual. Os valores refletem o último bloco confirmado: as linhas do bloco em processamento só são
+ * contabilizadas após o seu commit.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoPessoaDto {
+
+    /**
+     * O identificador da importação.
+     */
+    private Long id;
+
+    /**
+     * A situação da importação.
+     */
+    private SituacaoImportacao situacao;
+
+    /**
+     * O tamanho do arquivo, em bytes.
+     */
+    private long tamanho;
+
+    /**
+     * A quantidade de bytes do arquivo já processados.
+     */
+    private long processados;
+
+    /**
+     * O percentual do arquivo já processado, de 0 a 100.
+     */
+    private double percentual;
+
+    /**
+     * A quantidade de linhas já processadas, incluindo o cabeçalho.
+     */
+    private long linhas;
+
+    /**
+     * A quantidade de pessoas incluídas.
+     */
+    private long incluidas;
+
+    /**
+     * A quantidade de linhas rejeitadas.
+     */
+    private long rejeitadas;
+
+    /**
+     * A vazão da execução atual, em linhas por segundo.
+     */
+    private double linhasPorSegundo;
+
+    /**
+     * O momento em que a execução atual começou.
+     */
+    private Instant inicioExecucao;
+
+    /**
+     * O momento em que a importação foi concluída ou falhou.
+     */
+    private Instant fim;
+
+    /**
+     * A mensagem do erro que encerrou a importação, quando houver.
+     */
+    private String mensagem;
+
+    /**
+     * O identificador da tarefa em segundo plano que executa a importação, consultável em {@code /tarefas/{id}}.
+     */
+    private Long idTarefa;
+}
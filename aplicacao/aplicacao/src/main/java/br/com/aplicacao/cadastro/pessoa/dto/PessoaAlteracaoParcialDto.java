@@ -0,0 +1,57 @@
+package br.com.aplicacao.cadastro.pessoa.dto;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO (Data Transfer Object) que representa a alteração parcial de uma Pessoa.
+ *
+ * <p>Contém apenas os campos que podem ser alterados individualmente. Um campo ausente, ou {@code null}, mantém o
+ * valor gravado.</p>
+ *
+ * <p>O método {@link #toEntity(Long)} converte este DTO em uma entidade {@link Pessoa} com apenas os campos
+ * informados, utilizada por {@code AlterarPessoaRegras.executeParcial}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PessoaAlteracaoParcialDto {
+
+    /**
+     * O novo nome da pessoa.
+     */
+    private String nome;
+
+    /**
+     * O novo telefone de contato da pessoa.
+     */
+    private String telefone;
+
+    /**
+     * O novo bairro do endereço da pessoa.
+     */
+    private String bairro;
+
+    /**
+     * Converte este DTO em uma entidade {@link Pessoa} contendo apenas os campos informados.
+     *
+     * @param id o identificador da pessoa a ser alterada
+     * @return a pessoa com os campos informados e os demais nulos
+     */
+    public Pessoa toEntity(Long id) {
+        return Pessoa.builder()
+                .id(id)
+                .nome(nome)
+                .endereco(bairro != null ? Endereco.builder().id(id).bairro(bairro).build() : null)
+                .contato(telefone != null ? Contato.builder().id(id).telefone(telefone).build() : null)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.aplicacao.cadastro.pessoa.dto;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +20,9 @@ import lombok.NoArgsConstructor;
  * <p>O método {@link #toEntity()} converte este DTO de listagem em uma entidade {@link Pessoa},
  * facilitando a integração com a camada de domínio da aplicação.</p>
  *
+ * <p>A listagem de pessoas constrói este DTO diretamente na consulta JPQL, através do construtor com todos os
+ * argumentos, portanto a ordem dos campos deve ser mantida.</p>
+ *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @Data
@@ -47,6 +51,19 @@ public class PessoaListagemDto {
      */
     private String telefone;
 
+    /**
+     * Construtor utilizado pela projeção da consulta de listagem, que recebe o telefone na forma empacotada
+     * armazenada no banco e o formata com a máscara apenas aqui, na saída da API.
+     *
+     * @param id       o identificador único da pessoa
+     * @param nome     o nome da pessoa
+     * @param bairro   o bairro onde a pessoa reside
+     * @param telefone o telefone de contato da pessoa
+     */
+    public PessoaListagemDto(Long id, String nome, String bairro, Telefone telefone) {
+        this(id, nome, bairro, telefone != null ? telefone.formatar() : null);
+    }
+
     /**
      * Cria uma instância de {@code PessoaListagemDto} a partir de uma entidade {@link Pessoa}.
      *
@@ -0,0 +1,14 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import br.com.aplicacao.cadastro.pessoa.infra.data.ImportacaoPessoaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interface de repositório Spring Data JPA para acessar e manipular dados da entidade {@link ImportacaoPessoaData}.
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Repository
+public interface ImportacaoPessoaDataRepository extends JpaRepository<ImportacaoPessoaData, Long> {
+}
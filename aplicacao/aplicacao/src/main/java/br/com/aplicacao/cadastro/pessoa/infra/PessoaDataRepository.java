@@ -1,10 +1,21 @@
 package br.com.aplicacao.cadastro.pessoa.infra;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
 import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface de repositório Spring Data JPA para acessar e manipular dados da entidade {@link PessoaData}.
@@ -13,8 +24,11 @@ import org.springframework.stereotype.Repository;
  *
  * <p>Esta interface define métodos personalizados para consultas específicas utilizando JPQL ({@link Query}).</p>
  *
- * <p>As consultas JPQL definidas nesta interface verificam a existência de registros com o mesmo nome e telefone
- * associados a entidades {@link PessoaData}, garantindo a integridade dos dados.</p>
+ * <p>Contato e endereço são colunas incorporadas de {@code cadastro_pessoa}, de modo que os métodos de leitura
+ * herdados de {@link JpaRepository} já carregam a pessoa completa em uma única instrução SQL, sem junções.</p>
+ *
+ * <p>A unicidade do telefone é garantida pelo índice único de {@code cadastro_pessoa}; as consultas JPQL definidas
+ * nesta interface atendem à listagem, à validação de inclusões em lote e à exclusão por identificador.</p>
  *
  * <p>Esta classe é anotada com {@link Repository} para ser reconhecida como um componente de repositório pelo Spring.</p>
  *
@@ -24,27 +38,79 @@ import org.springframework.stereotype.Repository;
 public interface PessoaDataRepository extends JpaRepository<PessoaData, Long>, JpaSpecificationExecutor<PessoaData> {
 
     /**
-     * Verifica se um telefone já está cadastrado para outra pessoa, excluindo o ID especificado.
+     * Lista, dentre os telefones informados, aqueles que já estão cadastrados para alguma pessoa.
      *
-     * @param telefone O telefone a ser verificado.
-     * @param id       O ID a ser excluído da verificação.
-     * @return {@code true} se o telefone já está cadastrado para outra pessoa, {@code false} caso contrário.
+     * @param telefones Os telefones a serem verificados.
+     * @return Uma lista com os telefones informados que já estão cadastrados.
      */
-    @Query("select case when count(pessoa.id) > 0 then true else false end " +
+    @Query("select pessoa.contato.telefone " +
             "from PessoaData pessoa " +
-            "where pessoa.contato.telefone = ?1 " +
-            "and pessoa.id <> ?2")
-    boolean telefoneJaCadastradoSemSerEu(String telefone, Long id);
-
+            "where pessoa.contato.telefone in ?1")
+    List<Telefone> telefonesCadastrados(Collection<Telefone> telefones);
 
     /**
-     * Verifica se um telefone já está cadastrado para alguma pessoa.
+     * Lista o resumo das pessoas cujo identificador é maior que o cursor informado, em ordem crescente de identificador.
      *
-     * @param telefone O telefone a ser verificado.
-     * @return {@code true} se o telefone já está cadastrado para alguma pessoa, {@code false} caso contrário.
+     * <p>A consulta percorre apenas o intervalo necessário do índice da chave primária e não executa
+     * {@code count}, de modo que o custo de qualquer página é o mesmo da primeira.</p>
+     *
+     * <p>As linhas são projetadas diretamente em {@link PessoaListagemDto}, sem carregar entidades gerenciadas
+     * nem passar pelos mappers.</p>
+     *
+     * @param id     O cursor, correspondente ao identificador da última pessoa já retornada.
+     * @param limite A quantidade máxima de registros a serem retornados.
+     * @return Uma lista com o resumo das pessoas posteriores ao cursor, limitada a {@code limite} registros.
      */
-    @Query("select case when count(pessoa.id) > 0 then true else false end " +
+    @Query("select new br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto(pessoa.id, pessoa.nome, pessoa.endereco.bairro, pessoa.contato.telefone) " +
             "from PessoaData pessoa " +
-            "where pessoa.contato.telefone = ?1 ")
-    boolean telefoneJaCadastrado(String telefone);
+            "where pessoa.id > ?1 " +
+            "order by pessoa.id")
+    List<PessoaListagemDto> listarResumoAposId(Long id, Limit limite);
+
+    /**
+     * Exclui a pessoa com o identificador informado em uma única instrução {@code delete}, sem carregá-la antes.
+     *
+     * <p>Por ser uma exclusão em massa, o Hibernate invalida a região de {@link PessoaData} no cache de segundo nível
+     * ao final da transação.</p>
+     *
+     * @param id O identificador da pessoa.
+     * @return A quantidade de registros excluídos, {@code 0} se a pessoa não existir.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from PessoaData pessoa where pessoa.id = ?1")
+    int excluirPorId(Long id);
+
+    /**
+     * Exclui as pessoas com os identificadores informados em uma única instrução {@code delete}.
+     *
+     * @param ids Os identificadores das pessoas.
+     * @return A quantidade de registros excluídos.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from PessoaData pessoa where pessoa.id in ?1")
+    int excluirPorIds(Collection<Long> ids);
+
+    /**
+     * Consulta a versão da listagem de pessoas, gravada em {@code cadastro_pessoa_listagem}.
+     *
+     * @return A versão atual da listagem.
+     */
+    @Query(value = "select versao from cadastro_pessoa_listagem where id_listagem = 1", nativeQuery = true)
+    long versaoListagem();
+
+    /**
+     * Incrementa a versão da listagem de pessoas na transação em andamento.
+     *
+     * <p>A instrução declara {@code cadastro_pessoa_listagem} como a única tabela afetada, para que o Hibernate não
+     * invalide o cache de segundo nível, como faz com instruções nativas sem tabelas declaradas.</p>
+     *
+     * @return A quantidade de registros alterados.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "update cadastro_pessoa_listagem set versao = versao + 1 where id_listagem = 1", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cadastro_pessoa_listagem"))
+    int registrarAlteracaoListagem();
 }
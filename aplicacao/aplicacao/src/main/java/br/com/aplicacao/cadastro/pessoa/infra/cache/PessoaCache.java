@@ -0,0 +1,246 @@
+package br.com.aplicacao.cadastro.pessoa.infra.cache;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.core.concorrencia.CargaCompartilhada;
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Cache em memória das pessoas consultadas pelo identificador.
+ *
+ * <p>O cache é limitado em quantidade de entradas ({@code cadastro.pessoa.cache.tamanho-maximo}) e em tempo de vida
+ * ({@code cadastro.pessoa.cache.expiracao}) e pode ser desligado com {@code cadastro.pessoa.cache.habilitado=false}.
+ * Consultas simultâneas a um mesmo identificador ausente executam uma única carga, cujo resultado é entregue a todas
+ * elas ({@link CargaCompartilhada}) mesmo quando a pessoa não é encontrada, quando a carga falha ou com o cache
+ * desabilitado. A espera por uma carga em andamento é limitada a {@code cadastro.pessoa.cache.espera-maxima}.
+ * Consultas feitas dentro de uma transação não compartilham cargas com as demais.</p>
+ *
+ * <p>As alterações e exclusões invalidam a entrada somente após o commit da transação em andamento. A carga é feita
+ * fora dos bloqueios do cache, e a invalidação não a aguarda: cada invalidação avança a geração do identificador, e
+ * uma carga iniciada antes disso não é mantida em cache. Assim, nenhuma leitura feita antes do commit permanece no
+ * cache depois dele. As instâncias em cache são compartilhadas entre as requisições e não devem ser modificadas.</p>
+ *
+ * <p>Os acertos, falhas e remoções são publicados no Micrometer com o nome de cache {@value #NOME}, e as consultas
+ * atendidas por uma carga em andamento no contador {@value #METRICA_COMPARTILHAMENTOS}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Component
+public class PessoaCache {
+
+    /**
+     * Nome do cache nas métricas.
+     */
+    public static final String NOME = "pessoa";
+
+    /**
+     * Nome do contador de consultas atendidas por uma carga em andamento.
+     */
+    public static final String METRICA_COMPARTILHAMENTOS = "cadastro.pessoa.consultas.compartilhadas";
+
+    /**
+     * Quantidade de gerações mantidas; os identificadores são distribuídos entre elas pelo {@code hashCode}.
+     */
+    private static final int GERACOES = 1024;
+
+    private final Cache<Long, Pessoa> cache;
+
+    private final AtomicLongArray geracoes = new AtomicLongArray(GERACOES);
+
+    private final CargaCompartilhada<Long, Optional<Pessoa>> consultasEmAndamento = new CargaCompartilhada<>();
+
+    private final Duration esperaMaxima;
+
+    /**
+     * Cria o cache de acordo com a configuração da aplicação.
+     *
+     * @param habilitado    indica se o cache está habilitado
+     * @param tamanhoMaximo a quantidade máxima de pessoas mantidas em cache
+     * @param expiracao     o tempo de vida de cada entrada a partir da sua carga
+     * @param esperaMaxima  o tempo máximo de espera por uma carga em andamento do mesmo identificador
+     * @param registros     o registro de métricas, se disponível
+     */
+    public PessoaCache(@Value("${cadastro.pessoa.cache.habilitado:true}") boolean habilitado,
+                       @Value("${cadastro.pessoa.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                       @Value("${cadastro.pessoa.cache.expiracao:5m}") Duration expiracao,
+                       @Value("${cadastro.pessoa.cache.espera-maxima:5s}") Duration esperaMaxima,
+                       ObjectProvider<MeterRegistry> registros) {
+        this.cache = habilitado ? Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .recordStats()
+                .build() : null;
+        this.esperaMaxima = esperaMaxima;
+        registros.ifAvailable(registro -> {
+            if (cache != null) CaffeineCacheMetrics.monitor(registro, cache, NOME);
+            FunctionCounter.builder(METRICA_COMPARTILHAMENTOS, consultasEmAndamento, CargaCompartilhada::getCompartilhamentos)
+                    .description("Consultas de pessoa atendidas por uma carga em andamento")
+                    .register(registro);
+        });
+    }
+
+    private PessoaCache() {
+        this.cache = null;
+        this.esperaMaxima = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Retorna um cache desabilitado, que sempre delega ao carregador.
+     *
+     * @return o cache desabilitado
+     */
+    public static PessoaCache desabilitado() {
+        return new PessoaCache();
+    }
+
+    /**
+     * Consulta a pessoa em cache ou, na ausência, carrega-a e a mantém em cache.
+     *
+     * <p>Pessoas não encontradas não são mantidas em cache. Na ausência, consultas simultâneas ao mesmo identificador
+     * compartilham uma única carga, exceto dentro de uma transação, em que a consulta precisa enxergar as alterações
+     * ainda não confirmadas.</p>
+     *
+     * @param id         o identificador da pessoa
+     * @param carregador a função que consulta a pessoa no banco
+     * @return um {@link Optional} contendo a pessoa, se encontrada
+     * @throws TempoEsgotadoException se a carga em andamento não for concluída dentro do tempo de espera
+     */
+    public Optional<Pessoa> consultar(Long id, Function<Long, Optional<Pessoa>> carregador) {
+        if (cache != null) {
+            Pessoa emCache = cache.getIfPresent(id);
+            if (emCache != null) return Optional.of(emCache);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return carregar(id, carregador);
+        return consultasEmAndamento.carregar(id, () -> carregar(id, carregador), esperaMaxima);
+    }
+
+    /**
+     * Carrega a pessoa e a mantém em cache.
+     *
+     * <p>A carga é feita fora do cache, sem bloquear as demais chaves nem as invalidações. A pessoa carregada só é
+     * mantida em cache se nenhuma invalidação do identificador tiver ocorrido desde o início da carga; caso contrário,
+     * ela é entregue apenas a quem a consultou. Se outra carga já tiver incluído a pessoa em cache, prevalece a
+     * entrada existente.</p>
+     *
+     * @param id         o identificador da pessoa
+     * @param carregador a função que consulta a pessoa no banco
+     * @return um {@link Optional} contendo a pessoa, se encontrada
+     */
+    private Optional<Pessoa> carregar(Long id, Function<Long, Optional<Pessoa>> carregador) {
+        if (cache == null) return carregador.apply(id);
+        long geracao = geracoes.get(indiceGeracao(id));
+        Optional<Pessoa> carregada = carregador.apply(id);
+        if (carregada.isEmpty()) return carregada;
+        Pessoa existente = cache.asMap().putIfAbsent(id, carregada.get());
+        if (existente != null) return Optional.of(existente);
+        if (geracoes.get(indiceGeracao(id)) != geracao) cache.asMap().remove(id, carregada.get());
+        return carregada;
+    }
+
+    /**
+     * Consulta várias pessoas em cache e carrega, de uma só vez, as que estiverem ausentes.
+     *
+     * <p>O carregador recebe apenas os identificadores ausentes do cache e deve devolver as pessoas encontradas
+     * indexadas pelo identificador. As pessoas carregadas não são incluídas no cache: diferente da carga individual,
+     * a carga em bloco não aguarda as invalidações concorrentes e poderia manter em cache uma leitura anterior a um
+     * commit.</p>
+     *
+     * @param ids        os identificadores das pessoas
+     * @param carregador a função que consulta no banco as pessoas com os identificadores ausentes do cache
+     * @return as pessoas encontradas, indexadas pelo identificador
+     */
+    public Map<Long, Pessoa> consultarTodos(Collection<Long> ids, Function<Set<Long>, Map<Long, Pessoa>> carregador) {
+        Set<Long> ausentes = new LinkedHashSet<>(ids);
+        Map<Long, Pessoa> encontradas = new HashMap<>(cache != null ? cache.getAllPresent(ausentes) : Map.of());
+        ausentes.removeAll(encontradas.keySet());
+        if (!ausentes.isEmpty()) encontradas.putAll(carregador.apply(ausentes));
+        return encontradas;
+    }
+
+    /**
+     * Invalida a pessoa em cache após o commit da transação em andamento, ou imediatamente se não houver transação.
+     *
+     * <p>Uma carga em andamento do mesmo identificador deixa de ser compartilhada.</p>
+     *
+     * @param id o identificador da pessoa alterada ou excluída
+     */
+    public void invalidarAposCommit(Long id) {
+        aposCommit(() -> {
+            if (id != null) invalidar(id);
+        });
+    }
+
+    /**
+     * Invalida as pessoas em cache após o commit da transação em andamento, ou imediatamente se não houver transação.
+     *
+     * <p>Equivalente a {@link #invalidarAposCommit(Long)} para cada identificador, com um único registro na
+     * transação.</p>
+     *
+     * @param ids os identificadores das pessoas excluídas
+     */
+    public void invalidarAposCommit(long[] ids) {
+        aposCommit(() -> {
+            for (long id : ids) invalidar(id);
+        });
+    }
+
+    /**
+     * Remove a pessoa do cache e das cargas compartilhadas.
+     *
+     * <p>A geração é avançada antes da remoção, de modo que uma carga em andamento, ao terminar, encontre a geração
+     * alterada ou a sua entrada seja removida em seguida.</p>
+     *
+     * @param id o identificador da pessoa
+     */
+    private void invalidar(long id) {
+        consultasEmAndamento.esquecer(id);
+        if (cache == null) return;
+        geracoes.incrementAndGet(indiceGeracao(id));
+        cache.invalidate(id);
+    }
+
+    private static int indiceGeracao(long id) {
+        return Long.hashCode(id) & (GERACOES - 1);
+    }
+
+    private void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    /**
+     * Indica se o cache está habilitado.
+     *
+     * @return {@code true} se o cache estiver habilitado, {@code false} caso contrário
+     */
+    public boolean isHabilitado() {
+        return cache != null;
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.aplicacao.cadastro.pessoa.infra.data;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.SituacaoImportacao;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA que representa uma importação de pessoas a partir de um arquivo CSV.
+ *
+ * <p>Além da situação e dos totais, guarda o ponto de retomada da importação: {@code posicao} é a posição, em bytes,
+ * do início da primeira linha ainda não processada e {@code linha} a quantidade de linhas já processadas. Ambos são
+ * gravados na mesma transação das pessoas incluídas em cada bloco, de modo que uma importação interrompida continua
+ * exatamente após o último bloco confirmado, sem repetir nem perder linhas.</p>
+ *
+ * <p>{@code inicioExecucao} e {@code linhaInicioExecucao} registram o momento e a linha em que a execução atual
+ * começou, utilizados no cálculo da vazão. {@code idTarefa} identifica a tarefa em segundo plano da execução mais
+ * recente.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "cadastro_importacao")
+public class ImportacaoPessoaData {
+
+    @Id
+    @Column(name = "id_importacao")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cadastro_importacao_seq")
+    @SequenceGenerator(name = "cadastro_importacao_seq", sequenceName = "cadastro_importacao_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "arquivo", nullable = false, length = 500)
+    private String arquivo;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "situacao", nullable = false, length = 20)
+    private SituacaoImportacao situacao;
+
+    @Column(name = "tamanho", nullable = false)
+    private long tamanho;
+
+    @Column(name = "posicao", nullable = false)
+    private long posicao;
+
+    @Column(name = "linha", nullable = false)
+    private long linha;
+
+    @Column(name = "incluidas", nullable = false)
+    private long incluidas;
+
+    @Column(name = "rejeitadas", nullable = false)
+    private long rejeitadas;
+
+    @Column(name = "inicio_execucao")
+    private Instant inicioExecucao;
+
+    @Column(name = "linha_inicio_execucao", nullable = false)
+    private long linhaInicioExecucao;
+
+    @Column(name = "fim")
+    private Instant fim;
+
+    @Column(name = "mensagem", length = 500)
+    private String mensagem;
+
+    @Column(name = "id_tarefa")
+    private Long idTarefa;
+}
@@ -7,6 +7,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Entidade JPA que representa uma Pessoa no contexto de persistência de dados.
@@ -16,33 +19,55 @@ import lombok.NoArgsConstructor;
  * armazenada e recuperada através de um repositório JPA.</p>
  *
  * <p>A tabela correspondente no banco de dados é especificada pela anotação {@link Table}, onde o nome da tabela
- * é definido como "cadastro_pessoa". Os atributos são mapeados para colunas específicas usando as anotações
- * {@link Column} e {@link JoinColumn}.</p>
+ * é definido como "cadastro_pessoa". Os atributos são mapeados para colunas específicas usando a anotação
+ * {@link Column}.</p>
  *
- * <p>Os relacionamentos com as entidades {@link EnderecoData} e {@link ContatoData} são definidos pelas anotações
- * {@link OneToOne} com {@link JoinColumn}, utilizando {@link CascadeType#ALL} para garantir que as operações
- * de persistência, atualização e remoção sejam propagadas automaticamente para as entidades relacionadas.</p>
+ * <p>Endereço e contato são incorporados com {@link Embedded}: {@link EnderecoData} e {@link ContatoData} são gravados
+ * nas colunas {@code bairro} e {@code telefone} da própria {@code cadastro_pessoa}. A pessoa completa é lida de uma
+ * única tabela, sem junções, e cada inclusão ou alteração grava uma única linha. O telefone é único na tabela,
+ * garantido pelo índice {@value #UNICIDADE_TELEFONE}.</p>
+ *
+ * <p>O atributo {@code versao}, anotado com {@link Version}, faz com que toda alteração seja gravada com
+ * {@code where id_pessoa = ? and versao = ?}, recusando alterações baseadas em uma versão desatualizada. Como contato e
+ * endereço pertencem à mesma linha, qualquer alteração neles também incrementa a versão.</p>
+ *
+ * <p>Com {@link DynamicUpdate}, o {@code update} contém apenas as colunas cujo valor mudou, além da versão: alterar o
+ * nome não regrava o telefone nem atualiza o índice {@value #UNICIDADE_TELEFONE}.</p>
  *
  * <p>Atributos como {@code id}, {@code nome}, {@code endereco} e {@code contato} são mapeados para suas respectivas
  * colunas no banco de dados, facilitando a integração entre o modelo de domínio da aplicação e sua representação
  * persistente.</p>
  *
+ * <p>A entidade é mantida no cache de segundo nível do Hibernate com concorrência {@code READ_WRITE}, incluindo o
+ * contato e o endereço incorporados. A consulta por identificador e o {@code merge} realizado na alteração resolvem a
+ * pessoa pelo cache, sem consultar o banco, enquanto as escritas atualizam o cache somente após o commit.</p>
+ *
  * <p>Autor: João Cleber Dias Maciel</p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "cadastro_pessoa")
+@Table(name = "cadastro_pessoa",
+        uniqueConstraints = @UniqueConstraint(name = PessoaData.UNICIDADE_TELEFONE, columnNames = "telefone"))
 public class PessoaData {
 
+    /**
+     * Nome do índice único que impede o cadastro de duas pessoas com o mesmo telefone.
+     */
+    public static final String UNICIDADE_TELEFONE = "uk_cadastro_pessoa_telefone";
+
     /**
      * O identificador único da pessoa.
      */
     @Id
     @Column(name = "id_pessoa")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cadastro_pessoa_seq")
+    @SequenceGenerator(name = "cadastro_pessoa_seq", sequenceName = "cadastro_pessoa_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -54,14 +79,31 @@ public class PessoaData {
     /**
      * O endereço associado à pessoa.
      */
-    @OneToOne(cascade = CascadeType.ALL)
-    @JoinColumn(name = "id_endereco")
+    @Embedded
     private EnderecoData endereco;
 
     /**
      * O contato associado à pessoa.
      */
-    @OneToOne(cascade = CascadeType.ALL)
-    @JoinColumn(name = "id_contato")
+    @Embedded
     private ContatoData contato;
+
+    /**
+     * A versão do registro, incrementada a cada alteração e utilizada no controle de concorrência otimista.
+     */
+    @Version
+    @Column(name = "versao")
+    private Long versao;
+
+    /**
+     * Construtor que inicializa uma pessoa ainda sem versão.
+     *
+     * @param id       o identificador único da pessoa
+     * @param nome     o nome da pessoa
+     * @param endereco o endereço associado à pessoa
+     * @param contato  o contato associado à pessoa
+     */
+    public PessoaData(Long id, String nome, EnderecoData endereco, ContatoData contato) {
+        this(id, nome, endereco, contato, null);
+    }
 }
@@ -1,20 +1,45 @@
 package br.com.aplicacao.cadastro.pessoa.infra.impl;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.pessoa.PessoaMapper;
 import br.com.aplicacao.cadastro.pessoa.dominio.PessoaRepository;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
 import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.cache.PessoaCache;
 import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
 import br.com.aplicacao.core.BaseMapper;
+import br.com.aplicacao.core.concorrencia.CargaEmLote;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
 import br.com.aplicacao.core.infra.impl.BaseRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementação concreta da interface {@link PessoaRepository} que utiliza o Spring Data JPA para acessar e manipular
@@ -27,6 +52,11 @@ import java.util.Optional;
  * <p>As operações de consulta, inclusão, alteração e exclusão são realizadas através dos métodos herdados de
  * {@link BaseRepositoryImpl}, garantindo o uso consistente e eficiente das funcionalidades providas pelo Spring Data JPA.</p>
  *
+ * <p>As consultas por identificador passam pelo {@link PessoaCache}, que é invalidado após o commit de cada alteração
+ * ou exclusão. As inclusões, alterações e exclusões também incrementam a versão da listagem, gravada no banco na
+ * própria transação ({@link PessoaDataRepository#registrarAlteracaoListagem()}). O incremento é a última instrução de
+ * cada operação, para que o bloqueio da linha da versão seja mantido apenas até o commit.</p>
+ *
  * <p>Esta classe é anotada com {@link Repository} para ser reconhecida como um componente de repositório pelo Spring,
  * {@link Transactional} para garantir que todas as operações sejam transacionais, e {@link RequiredArgsConstructor}
  * para gerar um construtor com injeção de dependências para os campos marcados como {@code final}.</p>
@@ -38,8 +68,48 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PessoaRepositoryImpl extends BaseRepositoryImpl<Pessoa, PessoaData> implements PessoaRepository {
 
+    private static final String GRAVAR_POR_TELEFONE = "insert into cadastro_pessoa (id_pessoa, nome, telefone, bairro, versao) " +
+            "values (?1, ?2, ?3, ?4, 0) " +
+            "on conflict (telefone) do update " +
+            "set nome = excluded.nome, bairro = excluded.bairro, versao = cadastro_pessoa.versao + 1 " +
+            "returning id_pessoa, versao, (xmax = 0) as incluida";
+
     private final PessoaMapper pessoaMapper;
     private final PessoaDataRepository pessoaDataRepository;
+    private final PessoaCache pessoaCache;
+
+    @Value("${cadastro.pessoa.exportacao.tamanho-fetch:1000}")
+    private int tamanhoFetch;
+
+    @Value("${cadastro.pessoa.lote.tamanho:500}")
+    private int tamanhoLote;
+
+    private CargaEmLote<Long, Pessoa> consultasEmLote;
+
+    /**
+     * Configura o agrupamento das consultas por identificador em lotes.
+     *
+     * <p>As consultas a identificadores diferentes recebidas dentro de {@code cadastro.pessoa.consulta.lote.janela}
+     * são atendidas por uma única consulta, com até {@code cadastro.pessoa.consulta.lote.tamanho-maximo}
+     * identificadores. Uma janela nula ou um tamanho máximo de 1 desativam o agrupamento.</p>
+     *
+     * @param janela        o tempo máximo de espera por outras consultas antes da execução do lote
+     * @param tamanhoMaximo a quantidade de identificadores que executa o lote antes do fim da janela
+     * @param esperaMaxima  o tempo máximo de espera de cada consulta pelo resultado do lote
+     * @param registros     o registro de métricas, se disponível
+     */
+    @Autowired
+    void configurarConsultasEmLote(@Value("${cadastro.pessoa.consulta.lote.janela:2ms}") Duration janela,
+                                   @Value("${cadastro.pessoa.consulta.lote.tamanho-maximo:100}") int tamanhoMaximo,
+                                   @Value("${cadastro.pessoa.cache.espera-maxima:5s}") Duration esperaMaxima,
+                                   ObjectProvider<MeterRegistry> registros) {
+        if (janela.isZero() || tamanhoMaximo <= 1) {
+            consultasEmLote = null;
+            return;
+        }
+        consultasEmLote = new CargaEmLote<>(this::consultarLote, janela, tamanhoMaximo, esperaMaxima);
+        registros.ifAvailable(registro -> consultasEmLote.monitorar(registro, "cadastro.pessoa.consultas"));
+    }
 
     /**
      * Retorna o {@link BaseMapper} utilizado para converter entre {@link Pessoa} (domínio) e {@link PessoaData} (entidade).
@@ -51,6 +121,16 @@ public class PessoaRepositoryImpl extends BaseRepositoryImpl<Pessoa, PessoaData>
         return pessoaMapper;
     }
 
+    /**
+     * Retorna a quantidade de registros de cada bloco das operações em lote, {@code cadastro.pessoa.lote.tamanho}.
+     *
+     * @return A quantidade de registros de cada bloco.
+     */
+    @Override
+    protected int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
     /**
      * Retorna o repositório JPA {@link JpaRepository} utilizado para acessar dados de {@link PessoaData}.
      *
@@ -64,45 +144,397 @@ public class PessoaRepositoryImpl extends BaseRepositoryImpl<Pessoa, PessoaData>
     /**
      * Consulta uma pessoa pelo seu ID.
      *
+     * <p>A pessoa é obtida do {@link PessoaCache} e, na ausência, consultada no banco. A consulta não abre uma
+     * transação própria, de modo que um acerto no cache não ocupa uma conexão do banco.</p>
+     *
+     * <p>Fora de uma transação, as consultas ao banco de identificadores diferentes feitas ao mesmo tempo são agrupadas
+     * em uma única consulta (ver {@link #configurarConsultasEmLote}).</p>
+     *
      * @param id O ID da pessoa a ser consultada.
      * @return Um {@link Optional} que pode conter a {@link Pessoa} encontrada, convertida de {@link PessoaData},
      * ou vazio se não encontrada.
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Pessoa> consultar(Long id) {
+        return pessoaCache.consultar(id, chave -> {
+            if (consultasEmLote == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+                return pessoaDataRepository.findById(chave).map(pessoaMapper::toDomain);
+            }
+            return Optional.ofNullable(consultasEmLote.carregar(chave));
+        });
+    }
+
+    /**
+     * Consulta uma pessoa pelo seu ID sem passar pelo {@link PessoaCache}.
+     *
+     * <p>A leitura pode ser atendida pelo cache de segundo nível, que só é atualizado após o commit de cada
+     * alteração e, portanto, não devolve uma versão anterior à última confirmada.</p>
+     *
+     * @param id O ID da pessoa a ser consultada.
+     * @return Um {@link Optional} que pode conter a {@link Pessoa} gravada, ou vazio se não encontrada.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Pessoa> consultarGravada(Long id) {
         return pessoaDataRepository.findById(id).map(pessoaMapper::toDomain);
     }
 
     /**
-     * Lista todas as pessoas cadastradas.
+     * Consulta as pessoas de um lote de identificadores.
+     *
+     * <p>Um lote com um único identificador é consultado por {@code findById}, que pode ser atendido pelo cache de
+     * segundo nível; os demais utilizam uma única instrução {@code in}.</p>
+     *
+     * @param ids Os IDs das pessoas do lote.
+     * @return As {@link Pessoa} encontradas, indexadas pelo ID.
+     */
+    private Map<Long, Pessoa> consultarLote(Set<Long> ids) {
+        Map<Long, Pessoa> encontradas = new HashMap<>();
+        if (ids.size() == 1) {
+            Long id = ids.iterator().next();
+            pessoaDataRepository.findById(id).ifPresent(data -> encontradas.put(id, pessoaMapper.toDomain(data)));
+        } else {
+            pessoaDataRepository.findAllById(ids).forEach(data -> encontradas.put(data.getId(), pessoaMapper.toDomain(data)));
+        }
+        return encontradas;
+    }
+
+    /**
+     * Consulta várias pessoas pelos seus IDs.
+     *
+     * <p>As pessoas presentes no {@link PessoaCache} não são consultadas no banco. As demais são consultadas em blocos
+     * de {@code cadastro.pessoa.lote.tamanho} identificadores, cada bloco com uma única instrução {@code in} que
+     * carrega também contato e endereço.</p>
+     *
+     * @param ids Os IDs das pessoas a serem consultadas.
+     * @return As {@link Pessoa} encontradas, convertidas de {@link PessoaData} e indexadas pelo ID.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, Pessoa> consultarPorIds(Collection<Long> ids) {
+        return pessoaCache.consultarTodos(ids, ausentes -> {
+            List<Long> pendentes = new ArrayList<>(ausentes);
+            Map<Long, Pessoa> encontradas = new HashMap<>();
+            for (int inicio = 0; inicio < pendentes.size(); inicio += tamanhoLote) {
+                pessoaDataRepository.findAllById(pendentes.subList(inicio, Math.min(inicio + tamanhoLote, pendentes.size())))
+                        .forEach(data -> encontradas.put(data.getId(), pessoaMapper.toDomain(data)));
+            }
+            return encontradas;
+        });
+    }
+
+    /**
+     * Inclui uma pessoa e incrementa a versão da listagem.
+     *
+     * @param pessoa A {@link Pessoa} a ser incluída.
+     * @return A {@link Pessoa} incluída.
+     */
+    @Override
+    public Pessoa incluir(Pessoa pessoa) {
+        Pessoa incluida = super.incluir(pessoa);
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return incluida;
+    }
+
+    /**
+     * Altera uma pessoa e invalida a sua entrada no {@link PessoaCache} após o commit.
+     *
+     * <p>A alteração é condicionada à versão da pessoa: quando informada, uma versão diferente da gravada recusa a
+     * alteração; quando ausente, é utilizada a versão gravada, lida na própria transação e não do
+     * {@link PessoaCache}, cuja cópia pode estar desatualizada. A pessoa gravada é resolvida pelo cache de segundo
+     * nível, de modo que o {@code merge} não precisa consultá-la antes do {@code update}.</p>
+     *
+     * <p>Uma pessoa inexistente é recusada antes do {@code merge}, que, para uma entidade desanexada sem registro,
+     * incluiria uma nova pessoa com outro identificador.</p>
+     *
+     * @param pessoa A {@link Pessoa} a ser alterada.
+     * @return A {@link Pessoa} alterada, com a nova versão.
+     * @throws VersaoDivergenteException Se a pessoa tiver sido alterada por outra operação, ou excluída quando a versão
+     *                                   for informada.
+     * @throws NaoEncontradoException Se a pessoa não existir e a versão não for informada.
+     */
+    @Override
+    public Pessoa alterar(Pessoa pessoa) {
+        PessoaData atual = pessoa.getId() != null ? pessoaDataRepository.findById(pessoa.getId()).orElse(null) : null;
+        if (atual == null) throw naoEncontrada(pessoa);
+        if (pessoa.getVersao() == null) pessoa.setVersao(atual.getVersao());
+        Pessoa alterada = super.alterar(pessoa);
+        pessoaCache.invalidarAposCommit(pessoa.getId());
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return alterada;
+    }
+
+    /**
+     * Exclui uma pessoa com uma única instrução {@code delete} e invalida a sua entrada no {@link PessoaCache} após o
+     * commit.
+     *
+     * <p>A pessoa não é consultada antes da exclusão: a sua ausência é identificada pela quantidade de registros
+     * excluídos. Como contato e endereço são colunas da própria pessoa, nenhum registro associado permanece.</p>
+     *
+     * @param id O ID da pessoa a ser excluída.
+     * @return O ID da pessoa excluída.
+     * @throws NaoEncontradoException Se não existir pessoa com o identificador informado.
+     */
+    @Override
+    public Long excluir(Long id) {
+        if (pessoaDataRepository.excluirPorId(id) == 0) throw new NaoEncontradoException("Pessoa não encontrada");
+        pessoaCache.invalidarAposCommit(id);
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return id;
+    }
+
+    /**
+     * Retorna a versão atual da listagem, lida do banco pela chave primária de uma tabela de uma única linha.
+     *
+     * <p>Como a versão é incrementada na transação de cada escrita, ela muda no mesmo commit que os dados e é a mesma
+     * em todas as instâncias da aplicação.</p>
+     *
+     * @return A versão da listagem.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String versaoListagem() {
+        return String.valueOf(pessoaDataRepository.versaoListagem());
+    }
+
+    /**
+     * Lista o resumo das pessoas posteriores ao cursor informado, ordenadas pelo identificador.
+     *
+     * <p>É consultado um registro além do limite apenas para saber se existe uma próxima página, evitando a
+     * execução de um {@code count} sobre a tabela.</p>
+     *
+     * @param apos   O identificador da última pessoa da página anterior, ou {@code null} para a primeira página.
+     * @param limite A quantidade máxima de pessoas da página.
+     * @return Um {@link Slice} contendo o {@link PessoaListagemDto} de cada pessoa encontrada.
+     */
+    @Override
+    public Slice<PessoaListagemDto> listar(Long apos, int limite) {
+        List<PessoaListagemDto> pessoas = pessoaDataRepository.listarResumoAposId(apos != null ? apos : 0L, Limit.of(limite + 1));
+        boolean possuiProxima = pessoas.size() > limite;
+        return new SliceImpl<>(possuiProxima ? pessoas.subList(0, limite) : pessoas, PageRequest.ofSize(limite), possuiProxima);
+    }
+
+    /**
+     * Percorre todas as pessoas cadastradas através de um cursor somente de avanço.
+     *
+     * <p>Os registros são lidos do banco em blocos de {@code cadastro.pessoa.exportacao.tamanho-fetch} linhas e o
+     * contexto de persistência é limpo ao final de cada bloco, mantendo constante o consumo de memória. Contato e
+     * endereço são lidos das colunas da própria pessoa, sem consultas adicionais por registro.</p>
+     *
+     * @param consumidor O consumidor que receberá cada {@link Pessoa} lida, convertida de {@link PessoaData}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportar(Consumer<Pessoa> consumidor) {
+        try (Stream<PessoaData> datas = getEntityManager().createQuery("select pessoa from PessoaData pessoa", PessoaData.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, tamanhoFetch)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<PessoaData> iterator = datas.iterator();
+            long lidos = 0;
+            while (iterator.hasNext()) {
+                consumidor.accept(pessoaMapper.toDomain(iterator.next()));
+                if (++lidos % tamanhoFetch == 0) getEntityManager().clear();
+            }
+        }
+    }
+
+    /**
+     * Inclui várias pessoas através de {@link #incluirTodos(List)}.
+     *
+     * @param pessoas As {@link Pessoa} a serem incluídas.
+     * @return As {@link Pessoa} incluídas, na mesma ordem, com os identificadores gerados.
+     * @throws IllegalArgumentException Se algum dos telefones já estiver cadastrado.
+     */
+    @Override
+    public List<Pessoa> incluirLote(List<Pessoa> pessoas) {
+        return incluirTodos(pessoas);
+    }
+
+    /**
+     * Inclui várias pessoas em blocos de {@code cadastro.pessoa.lote.tamanho} registros e incrementa a versão da
+     * listagem.
+     *
+     * <p>Como os identificadores são obtidos de sequências com otimizador {@code pooled}, o Hibernate agrupa os
+     * {@code INSERT} em lotes JDBC.</p>
+     *
+     * @param pessoas As {@link Pessoa} a serem incluídas.
+     * @return As {@link Pessoa} incluídas, na mesma ordem, com os identificadores gerados.
+     * @throws IllegalArgumentException Se algum dos telefones já estiver cadastrado.
+     */
+    @Override
+    public List<Pessoa> incluirTodos(List<Pessoa> pessoas) {
+        List<Pessoa> incluidas = super.incluirTodos(pessoas);
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return incluidas;
+    }
+
+    /**
+     * Altera várias pessoas em blocos de {@code cadastro.pessoa.lote.tamanho} registros e invalida as suas entradas no
+     * {@link PessoaCache} após o commit.
+     *
+     * <p>Como em {@link #alterar(Pessoa)}, as pessoas são lidas na própria transação, em blocos de
+     * {@code cadastro.pessoa.lote.tamanho} identificadores: uma pessoa inexistente recusa todo o lote, e as pessoas sem
+     * versão são alteradas a partir da versão gravada. Como {@link PessoaData} usa {@code @DynamicUpdate}, cada
+     * pessoa gera o seu próprio {@code update}, sem agrupamento em lotes JDBC, mas nenhuma é lida individualmente
+     * antes do {@code merge}.</p>
+     *
+     * @param pessoas As {@link Pessoa} a serem alteradas.
+     * @return As {@link Pessoa} alteradas, na mesma ordem, com as novas versões.
+     * @throws VersaoDivergenteException Se alguma pessoa tiver sido alterada por outra operação, ou excluída quando a
+     *                                   versão for informada.
+     * @throws NaoEncontradoException Se alguma pessoa não existir e a versão não for informada.
+     * @throws IllegalArgumentException Se algum dos telefones já estiver cadastrado.
+     */
+    @Override
+    public List<Pessoa> alterarTodos(List<Pessoa> pessoas) {
+        List<Long> ids = pessoas.stream().map(Pessoa::getId).filter(Objects::nonNull).distinct().toList();
+        Map<Long, Long> versoes = new HashMap<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLote) {
+            pessoaDataRepository.findAllById(ids.subList(inicio, Math.min(inicio + tamanhoLote, ids.size())))
+                    .forEach(data -> versoes.put(data.getId(), data.getVersao()));
+        }
+        for (Pessoa pessoa : pessoas) {
+            if (!versoes.containsKey(pessoa.getId())) throw naoEncontrada(pessoa);
+            if (pessoa.getVersao() == null) pessoa.setVersao(versoes.get(pessoa.getId()));
+        }
+        List<Pessoa> alteradas = super.alterarTodos(pessoas);
+        pessoaCache.invalidarAposCommit(pessoas.stream().map(Pessoa::getId).filter(Objects::nonNull).mapToLong(Long::longValue).toArray());
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return alteradas;
+    }
+
+    /**
+     * Cria a exceção para a alteração de uma pessoa sem registro: com a versão informada, a pessoa é tratada como
+     * alterada por outra operação; sem ela, como não encontrada.
+     *
+     * @param pessoa A {@link Pessoa} sem registro.
+     * @return A exceção a ser lançada.
+     */
+    private static RuntimeException naoEncontrada(Pessoa pessoa) {
+        if (pessoa.getVersao() != null) return new VersaoDivergenteException("Registro alterado por outra operação");
+        return new NaoEncontradoException("Pessoa não encontrada");
+    }
+
+    /**
+     * Exclui várias pessoas através de {@link #excluirLote(long[])}.
+     *
+     * @param ids Os identificadores das pessoas a serem excluídas.
+     */
+    @Override
+    public void excluirTodos(Collection<Long> ids) {
+        excluirLote(ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).sorted().distinct().toArray());
+    }
+
+    /**
+     * Exclui várias pessoas em blocos de {@code cadastro.pessoa.lote.tamanho} identificadores.
+     *
+     * <p>Cada bloco é excluído com uma única instrução {@code delete ... where id_pessoa in (...)}, sem consultar as
+     * pessoas antes. Os identificadores permanecem em um {@code long[]} e apenas o bloco em execução é convertido
+     * para a lista de parâmetros da consulta. As entradas do {@link PessoaCache} são invalidadas após o commit.</p>
+     *
+     * @param ids Os identificadores distintos das pessoas a serem excluídas.
+     * @return A quantidade de pessoas excluídas.
+     */
+    @Override
+    public long excluirLote(long[] ids) {
+        long excluidas = 0;
+        for (int inicio = 0; inicio < ids.length; inicio += tamanhoLote) {
+            excluidas += pessoaDataRepository.excluirPorIds(Arrays.stream(ids, inicio, Math.min(inicio + tamanhoLote, ids.length)).boxed().toList());
+        }
+        pessoaCache.invalidarAposCommit(ids);
+        if (excluidas > 0) pessoaDataRepository.registrarAlteracaoListagem();
+        return excluidas;
+    }
+
+    /**
+     * Verifica, em blocos de {@code cadastro.pessoa.lote.tamanho} telefones, quais já estão cadastrados.
      *
-     * @return Uma {@link Page} contendo as {@link Pessoa} encontradas, convertidas de {@link PessoaData}.
+     * @param telefones Os telefones a serem verificados.
+     * @return O conjunto dos telefones informados que já estão em uso.
      */
     @Override
-    public Page<Pessoa> listar() {
-        return pessoaDataRepository.findAll(Pageable.unpaged()).map(pessoaMapper::toDomain);
+    @Transactional(readOnly = true)
+    public Set<Telefone> telefonesJaUtilizados(Collection<Telefone> telefones) {
+        List<Telefone> pendentes = new ArrayList<>(telefones);
+        Set<Telefone> utilizados = new HashSet<>();
+        for (int inicio = 0; inicio < pendentes.size(); inicio += tamanhoLote) {
+            utilizados.addAll(pessoaDataRepository.telefonesCadastrados(pendentes.subList(inicio, Math.min(inicio + tamanhoLote, pendentes.size()))));
+        }
+        return utilizados;
     }
 
     /**
-     * Verifica se o telefone de contato já está sendo utilizado por outra pessoa.
+     * Inclui a pessoa ou, se o telefone já estiver cadastrado, altera o nome e o bairro da pessoa com esse telefone,
+     * em uma única instrução {@code insert ... on conflict (telefone) do update}.
      *
-     * @param pessoa A {@link Pessoa} contendo o telefone de contato a ser verificado.
-     * @return {@code true} se o telefone já está em uso por outra pessoa, {@code false} caso contrário.
+     * <p>A decisão entre inclusão e alteração é tomada pelo banco sobre o índice único do telefone, sem consulta prévia
+     * e sem janela para uma inclusão concorrente do mesmo telefone. O identificador da inclusão é obtido do gerador de
+     * {@link PessoaData}, que reserva os valores da sequência em blocos, e é descartado quando a pessoa já existe. O
+     * identificador, a versão e a indicação de inclusão são lidos do {@code returning} da própria instrução: no
+     * PostgreSQL, {@code xmax} é {@code 0} apenas na linha recém-incluída, e é preenchido quando a linha existente é
+     * alterada pelo {@code on conflict do update}.</p>
+     *
+     * <p>Como a instrução não passa pelo contexto de persistência, a entrada da pessoa no cache de segundo nível e no
+     * {@link PessoaCache} é invalidada após o commit. A instrução utiliza a sintaxe do PostgreSQL.</p>
+     *
+     * @param pessoa A {@link Pessoa} a ser gravada, com o telefone de contato.
+     * @return A {@link Pessoa} gravada, com o identificador e a versão, e a indicação de inclusão.
      */
     @Override
-    public boolean contatoJaUtilizado(Pessoa pessoa) {
-        return pessoaDataRepository.telefoneJaCadastrado(pessoaMapper.toData(pessoa).getContato().getTelefone());
+    public PessoaGravada gravarPorTelefone(Pessoa pessoa) {
+        Object[] gravada = (Object[]) getEntityManager().createNativeQuery(GRAVAR_POR_TELEFONE)
+                .setParameter(1, gerarId())
+                .setParameter(2, pessoa.getNome())
+                .setParameter(3, pessoa.getContato().telefoneNormalizado().getValor())
+                .setParameter(4, pessoa.getEndereco() != null ? pessoa.getEndereco().getBairro() : null)
+                .getSingleResult();
+        Long id = ((Number) gravada[0]).longValue();
+        pessoa.setId(id);
+        pessoa.setVersao(((Number) gravada[1]).longValue());
+        Cache segundoNivel = getEntityManager().getEntityManagerFactory().getCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    segundoNivel.evict(PessoaData.class, id);
+                }
+            });
+        } else {
+            segundoNivel.evict(PessoaData.class, id);
+        }
+        pessoaCache.invalidarAposCommit(id);
+        pessoaDataRepository.registrarAlteracaoListagem();
+        return new PessoaGravada(pessoa, (Boolean) gravada[2]);
+    }
+
+    /**
+     * Obtém um novo identificador do gerador de {@link PessoaData}, o mesmo utilizado nas inclusões pelo Hibernate.
+     *
+     * @return O identificador gerado.
+     */
+    private Long gerarId() {
+        SharedSessionContractImplementor sessao = getEntityManager().unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator gerador = (IdentifierGenerator) sessao.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(PessoaData.class).getGenerator();
+        return (Long) gerador.generate(sessao, null);
     }
 
     /**
-     * Verifica se o telefone de contato já está sendo utilizado por outra pessoa, excluindo a própria pessoa.
+     * Converte a violação do índice único de telefone na mensagem de validação "Contato já cadastrado".
+     *
+     * <p>Demais violações seguem o tratamento padrão de {@link BaseRepositoryImpl}.</p>
      *
-     * @param pessoa A {@link Pessoa} contendo o telefone de contato a ser verificado.
-     * @return {@code true} se o telefone já está em uso por outra pessoa, excluindo a própria pessoa,
-     * {@code false} caso contrário.
+     * @param e A violação de integridade lançada pelo banco.
+     * @return Uma {@link IllegalArgumentException} se o telefone já estiver cadastrado, ou a exceção padrão caso contrário.
      */
     @Override
-    public boolean contatoJaUtilizadoSemSerEu(Pessoa pessoa) {
-        return pessoaDataRepository.telefoneJaCadastradoSemSerEu(pessoaMapper.toData(pessoa).getContato().getTelefone(), pessoa.getId());
+    protected RuntimeException traduzirViolacaoIntegridade(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null
+                && violacao.getConstraintName().toLowerCase().contains(PessoaData.UNICIDADE_TELEFONE)) {
+            return new IllegalArgumentException("Contato já cadastrado");
+        }
+        return super.traduzirViolacaoIntegridade(e);
     }
 }
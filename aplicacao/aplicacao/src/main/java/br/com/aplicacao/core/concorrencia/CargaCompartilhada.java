@@ -0,0 +1,118 @@
+package br.com.aplicacao.core.concorrencia;
+
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Classe que compartilha uma mesma carga entre as chamadas simultâneas para uma mesma chave.
+ *
+ * <p>A primeira chamada para uma chave executa o carregador na própria thread. As chamadas para a mesma chave que
+ * chegarem enquanto essa carga estiver em andamento não executam o carregador: aguardam e recebem o mesmo resultado,
+ * inclusive um resultado vazio, ou a mesma exceção lançada pelo carregador. Concluída a carga, a chave é liberada e a
+ * próxima chamada executa uma nova carga; nenhum resultado é mantido além da carga em andamento.</p>
+ *
+ * <p>A espera de cada chamada é limitada pelo tempo informado. Uma chamada que desiste de esperar não interrompe a
+ * carga, que continua disponível para as demais, e não deixa nenhum registro pendente.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     CargaCompartilhada<Long, Optional<Pessoa>> consultas = new CargaCompartilhada<>();
+ *     Optional<Pessoa> pessoa = consultas.carregar(id, () -> repository.findById(id), Duration.ofSeconds(5));
+ * }</pre>
+ *
+ * @param <K> Tipo das chaves.
+ * @param <V> Tipo dos resultados carregados.
+ */
+public class CargaCompartilhada<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    private final LongAdder cargas = new LongAdder();
+
+    private final LongAdder compartilhamentos = new LongAdder();
+
+    /**
+     * Obtém o resultado da carga em andamento para a chave ou, na ausência, executa o carregador.
+     *
+     * @param chave        A chave a ser carregada.
+     * @param carregador   A função que executa a carga, chamada na thread atual quando não houver carga em andamento.
+     * @param esperaMaxima O tempo máximo de espera pela carga em andamento iniciada por outra chamada.
+     * @return O resultado da carga.
+     * @throws TempoEsgotadoException Se a carga em andamento não for concluída dentro do tempo de espera, ou se a
+     *                                thread for interrompida durante a espera.
+     */
+    public V carregar(K chave, Supplier<V> carregador, Duration esperaMaxima) {
+        CompletableFuture<V> carga = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, carga);
+        if (existente != null) {
+            compartilhamentos.increment();
+            return aguardar(existente, esperaMaxima);
+        }
+        cargas.increment();
+        try {
+            V resultado = carregador.get();
+            carga.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            carga.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, carga);
+        }
+    }
+
+    /**
+     * Desassocia da chave a carga em andamento, de modo que as próximas chamadas executem uma nova carga.
+     *
+     * <p>As chamadas que já aguardam a carga anterior continuam recebendo o seu resultado. Deve ser utilizado quando o
+     * dado da chave for alterado, para que uma carga iniciada antes da alteração não seja entregue a quem chegar
+     * depois dela.</p>
+     *
+     * @param chave A chave cuja carga em andamento deve ser desassociada.
+     */
+    public void esquecer(K chave) {
+        emAndamento.remove(chave);
+    }
+
+    /**
+     * Retorna a quantidade de cargas executadas.
+     *
+     * @return A quantidade de chamadas que executaram o carregador.
+     */
+    public long getCargas() {
+        return cargas.sum();
+    }
+
+    /**
+     * Retorna a quantidade de chamadas atendidas por uma carga em andamento, sem executar o carregador.
+     *
+     * @return A quantidade de cargas evitadas.
+     */
+    public long getCompartilhamentos() {
+        return compartilhamentos.sum();
+    }
+
+    private V aguardar(CompletableFuture<V> carga, Duration esperaMaxima) {
+        try {
+            return carga.get(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) throw causa;
+            if (e.getCause() instanceof Error causa) throw causa;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new TempoEsgotadoException("Tempo de espera esgotado");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TempoEsgotadoException("Espera interrompida");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.aplicacao.core.concorrencia;
+
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Classe que agrupa em uma única carga as chamadas simultâneas para chaves diferentes.
+ *
+ * <p>A primeira chamada abre um lote e aguarda, por até {@code janela}, a chegada de outras chaves; o lote é fechado
+ * ao fim da janela ou assim que atingir {@code tamanhoMaximo} chaves distintas. A própria primeira chamada executa
+ * então o carregador uma única vez com todas as chaves do lote e entrega a cada chamada o valor da sua chave, ou
+ * {@code null} se o carregador não o tiver devolvido. Uma falha do carregador é entregue a todas as chamadas do lote.
+ * Chamadas para uma chave que já está no lote aberto compartilham o mesmo resultado.</p>
+ *
+ * <p>A espera das demais chamadas pelo resultado é limitada a {@code esperaMaxima}. O carregador é executado na thread
+ * da primeira chamada, sem threads adicionais; com pouca concorrência, cada carga apenas é atrasada pela janela.</p>
+ *
+ * <p>Após {@link #monitorar(MeterRegistry, String)} são publicados no Micrometer o preenchimento de cada lote
+ * ({@code <nome>.lote.preenchimento}, de 0 a 1 em relação ao tamanho máximo) e a latência acrescentada a cada chamada
+ * até o início da carga ({@code <nome>.lote.espera}).</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     CargaEmLote<Long, Contato> contatos = new CargaEmLote<>(ids -> consultarPorIds(ids),
+ *             Duration.ofMillis(2), 100, Duration.ofSeconds(5));
+ *     Contato contato = contatos.carregar(id);
+ * }</pre>
+ *
+ * @param <K> Tipo das chaves.
+ * @param <V> Tipo dos valores carregados.
+ */
+public class CargaEmLote<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> carregador;
+
+    private final Duration janela;
+
+    private final int tamanhoMaximo;
+
+    private final Duration esperaMaxima;
+
+    private Lote<K, V> aberto;
+
+    private volatile DistributionSummary preenchimento;
+
+    private volatile Timer espera;
+
+    /**
+     * Cria o agrupador de cargas.
+     *
+     * @param carregador    A função que carrega de uma só vez os valores das chaves informadas, indexados pela chave.
+     * @param janela        O tempo máximo que um lote permanece aberto aguardando outras chaves.
+     * @param tamanhoMaximo A quantidade de chaves distintas que fecha o lote antes do fim da janela.
+     * @param esperaMaxima  O tempo máximo de espera de cada chamada pelo resultado do lote.
+     * @throws IllegalArgumentException Se a janela for negativa ou o tamanho máximo for menor que 1.
+     */
+    public CargaEmLote(Function<Set<K>, Map<K, V>> carregador, Duration janela, int tamanhoMaximo, Duration esperaMaxima) {
+        if (janela.isNegative()) throw new IllegalArgumentException("Janela inválida");
+        if (tamanhoMaximo < 1) throw new IllegalArgumentException("Tamanho máximo do lote inválido");
+        this.carregador = carregador;
+        this.janela = janela;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    /**
+     * Publica as métricas de preenchimento dos lotes e de latência acrescentada no registro informado.
+     *
+     * @param registro O registro de métricas.
+     * @param nome     O prefixo do nome das métricas.
+     * @return Esta instância.
+     */
+    public CargaEmLote<K, V> monitorar(MeterRegistry registro, String nome) {
+        this.preenchimento = DistributionSummary.builder(nome + ".lote.preenchimento")
+                .description("Proporção do tamanho máximo ocupada por cada lote")
+                .register(registro);
+        this.espera = Timer.builder(nome + ".lote.espera")
+                .description("Tempo entre a chamada e o início da carga do seu lote")
+                .register(registro);
+        return this;
+    }
+
+    /**
+     * Carrega o valor da chave junto com as demais chaves solicitadas na mesma janela.
+     *
+     * @param chave A chave a ser carregada.
+     * @return O valor da chave, ou {@code null} se o carregador não o tiver devolvido.
+     * @throws TempoEsgotadoException Se o lote não for concluído dentro do tempo de espera, ou se a thread for
+     *                                interrompida durante a espera.
+     */
+    public V carregar(K chave) {
+        long chegada = System.nanoTime();
+        Lote<K, V> lote;
+        CompletableFuture<V> pedido;
+        boolean lider;
+        synchronized (this) {
+            lider = aberto == null;
+            if (lider) aberto = new Lote<>();
+            lote = aberto;
+            pedido = lote.pedidos.computeIfAbsent(chave, k -> new CompletableFuture<>());
+            if (lote.pedidos.size() >= tamanhoMaximo) fechar(lote);
+        }
+        if (lider) executar(lote);
+        V valor = aguardar(pedido);
+        Timer temporizador = espera;
+        if (temporizador != null) temporizador.record(Math.max(0, lote.inicio - chegada), TimeUnit.NANOSECONDS);
+        return valor;
+    }
+
+    private void executar(Lote<K, V> lote) {
+        boolean interrompida = false;
+        try {
+            if (!lote.cheio.await(janela.toNanos(), TimeUnit.NANOSECONDS)) {
+                synchronized (this) {
+                    fechar(lote);
+                }
+            }
+        } catch (InterruptedException e) {
+            interrompida = true;
+            synchronized (this) {
+                fechar(lote);
+            }
+        }
+        lote.inicio = System.nanoTime();
+        DistributionSummary resumo = preenchimento;
+        if (resumo != null) resumo.record((double) lote.pedidos.size() / tamanhoMaximo);
+        try {
+            Map<K, V> valores = carregador.apply(new LinkedHashSet<>(lote.pedidos.keySet()));
+            lote.pedidos.forEach((chave, pedido) -> pedido.complete(valores.get(chave)));
+        } catch (RuntimeException | Error e) {
+            lote.pedidos.values().forEach(pedido -> pedido.completeExceptionally(e));
+        } finally {
+            if (interrompida) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fechar(Lote<K, V> lote) {
+        if (aberto == lote) aberto = null;
+        lote.cheio.countDown();
+    }
+
+    private V aguardar(CompletableFuture<V> pedido) {
+        try {
+            return pedido.get(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) throw causa;
+            if (e.getCause() instanceof Error causa) throw causa;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new TempoEsgotadoException("Tempo de espera esgotado");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TempoEsgotadoException("Espera interrompida");
+        }
+    }
+
+    /**
+     * Lote de chaves aguardando uma mesma carga.
+     *
+     * <p>Os pedidos só são alterados enquanto o lote está aberto, sob o monitor de {@link CargaEmLote}; a leitura pela
+     * thread que executa a carga ocorre após o fechamento.</p>
+     */
+    private static final class Lote<K, V> {
+
+        private final Map<K, CompletableFuture<V>> pedidos = new LinkedHashMap<>();
+
+        private final CountDownLatch cheio = new CountDownLatch(1);
+
+        private volatile long inicio;
+    }
+}
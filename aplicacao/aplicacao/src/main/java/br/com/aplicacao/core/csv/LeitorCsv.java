@@ -0,0 +1,140 @@
+package br.com.aplicacao.core.csv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe que lê um arquivo CSV em UTF-8 uma linha por vez, mantendo a posição em bytes de cada linha.
+ *
+ * <p>Apenas a linha em leitura é mantida em memória, de modo que arquivos de qualquer tamanho são lidos com memória
+ * constante. Após cada linha, {@link #getPosicao()} devolve a posição do byte seguinte ao seu final; essa posição,
+ * informada ao construtor junto com um {@link InputStream} já posicionado nela, permite continuar a leitura a partir
+ * da linha seguinte.</p>
+ *
+ * <p>Os campos são separados por vírgula e podem ser delimitados por aspas duplas, com {@code ""} representando uma
+ * aspa dentro do campo. Quebras de linha dentro de campos delimitados não são suportadas: cada linha do arquivo é um
+ * registro. O {@code \r} de finais de linha {@code \r\n} é descartado.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     try (LeitorCsv leitor = new LeitorCsv(Files.newInputStream(arquivo), 0)) {
+ *         List<String> campos;
+ *         while ((campos = leitor.proximaLinha()) != null) {
+ *             processar(campos, leitor.getPosicao());
+ *         }
+ *     }
+ * }</pre>
+ */
+public class LeitorCsv implements Closeable {
+
+    private final InputStream entrada;
+
+    private final byte[] buffer = new byte[64 * 1024];
+
+    private int inicioBuffer;
+
+    private int fimBuffer;
+
+    private final ByteArrayOutputStream linha = new ByteArrayOutputStream(256);
+
+    private long posicao;
+
+    /**
+     * Cria o leitor sobre uma entrada já posicionada no início de uma linha.
+     *
+     * @param entrada        A entrada do arquivo, posicionada em {@code posicaoInicial}.
+     * @param posicaoInicial A posição, em bytes a partir do início do arquivo, em que a entrada se encontra.
+     */
+    public LeitorCsv(InputStream entrada, long posicaoInicial) {
+        this.entrada = entrada;
+        this.posicao = posicaoInicial;
+    }
+
+    /**
+     * Lê a próxima linha e a separa em campos.
+     *
+     * @return Os campos da linha, ou {@code null} ao final do arquivo.
+     * @throws IOException Se ocorrer um erro de leitura.
+     */
+    public List<String> proximaLinha() throws IOException {
+        linha.reset();
+        boolean fimDaLinha = false;
+        while (!fimDaLinha) {
+            if (inicioBuffer == fimBuffer && !preencherBuffer()) {
+                if (linha.size() == 0) return null;
+                break;
+            }
+            int fim = inicioBuffer;
+            while (fim < fimBuffer && buffer[fim] != '\n') fim++;
+            fimDaLinha = fim < fimBuffer;
+            linha.write(buffer, inicioBuffer, fim - inicioBuffer);
+            int consumidos = fim - inicioBuffer + (fimDaLinha ? 1 : 0);
+            posicao += consumidos;
+            inicioBuffer += consumidos;
+        }
+        String texto = linha.toString(StandardCharsets.UTF_8);
+        if (texto.endsWith("\r")) texto = texto.substring(0, texto.length() - 1);
+        return separar(texto);
+    }
+
+    /**
+     * Retorna a posição, em bytes a partir do início do arquivo, do byte seguinte à última linha lida.
+     *
+     * @return A posição da próxima linha.
+     */
+    public long getPosicao() {
+        return posicao;
+    }
+
+    private boolean preencherBuffer() throws IOException {
+        int lidos = entrada.read(buffer);
+        if (lidos <= 0) return false;
+        inicioBuffer = 0;
+        fimBuffer = lidos;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+
+    /**
+     * Separa uma linha em campos.
+     *
+     * @param texto A linha, sem o final de linha.
+     * @return Os campos da linha.
+     */
+    static List<String> separar(String texto) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < texto.length(); i++) {
+            char caractere = texto.charAt(i);
+            if (entreAspas) {
+                if (caractere != '"') {
+                    campo.append(caractere);
+                } else if (i + 1 < texto.length() && texto.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (caractere == '"') {
+                entreAspas = true;
+            } else if (caractere == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(caractere);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
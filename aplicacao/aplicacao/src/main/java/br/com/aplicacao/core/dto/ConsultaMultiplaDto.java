@@ -0,0 +1,34 @@
+package br.com.aplicacao.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Classe que representa o resultado de uma consulta de vários registros pelos seus identificadores.
+ *
+ * <p>Os {@code itens} encontrados são devolvidos na ordem em que os identificadores foram informados, e os
+ * identificadores sem registro correspondente são listados em {@code naoEncontrados}, na mesma ordem.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     ConsultaMultiplaDto<Pessoa> resultado = pessoaService.consultarPorIds(List.of(1L, 2L, 3L));
+ * }</pre>
+ *
+ * @param <T> Tipo dos itens consultados.
+ */
+@Data
+@AllArgsConstructor
+public class ConsultaMultiplaDto<T> {
+
+    /**
+     * Itens encontrados, na ordem dos identificadores informados.
+     */
+    private List<T> itens;
+
+    /**
+     * Identificadores informados para os quais nenhum item foi encontrado.
+     */
+    private List<Long> naoEncontrados;
+}
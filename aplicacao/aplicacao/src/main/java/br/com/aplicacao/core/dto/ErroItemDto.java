@@ -0,0 +1,30 @@
+package br.com.aplicacao.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Classe que representa o erro ocorrido no processamento de um item de uma operação em lote.
+ *
+ * <p>O {@code ErroItemDto} associa a posição do item na requisição original à mensagem da regra de negócio que
+ * impediu seu processamento.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     ErroItemDto erro = new ErroItemDto(3, "Telefone inválido");
+ * }</pre>
+ */
+@Data
+@AllArgsConstructor
+public class ErroItemDto {
+
+    /**
+     * Posição, iniciada em zero, do item na requisição original.
+     */
+    private int indice;
+
+    /**
+     * Mensagem que descreve o motivo da falha.
+     */
+    private String mensagem;
+}
@@ -0,0 +1,30 @@
+package br.com.aplicacao.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Classe que representa o resultado de uma exclusão em lote.
+ *
+ * <p>Identificadores repetidos são contados uma única vez: {@code excluidos} é a quantidade de registros removidos e
+ * {@code naoEncontrados} a quantidade de identificadores distintos sem registro correspondente.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     ExclusaoLoteDto resultado = new ExclusaoLoteDto(excluidos, ids.length - excluidos);
+ * }</pre>
+ */
+@Data
+@AllArgsConstructor
+public class ExclusaoLoteDto {
+
+    /**
+     * Quantidade de registros excluídos.
+     */
+    private long excluidos;
+
+    /**
+     * Quantidade de identificadores sem registro correspondente.
+     */
+    private long naoEncontrados;
+}
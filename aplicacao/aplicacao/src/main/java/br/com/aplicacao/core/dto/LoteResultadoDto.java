@@ -0,0 +1,33 @@
+package br.com.aplicacao.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Classe que representa o resultado de uma inclusão em lote.
+ *
+ * <p>A lista {@code ids} possui a mesma quantidade e ordem dos itens enviados: cada posição contém o identificador
+ * gerado para o item correspondente, ou {@code null} quando o item foi rejeitado. Os itens rejeitados são detalhados
+ * em {@code erros}.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     LoteResultadoDto resultado = new LoteResultadoDto(ids, erros);
+ * }</pre>
+ */
+@Data
+@AllArgsConstructor
+public class LoteResultadoDto {
+
+    /**
+     * Identificadores gerados, na ordem dos itens enviados, com {@code null} para os itens rejeitados.
+     */
+    private List<Long> ids;
+
+    /**
+     * Erros dos itens rejeitados.
+     */
+    private List<ErroItemDto> erros;
+}
@@ -0,0 +1,52 @@
+package br.com.aplicacao.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Classe que representa uma página de resultados navegada por cursor.
+ *
+ * <p>O {@code PaginaDto} encapsula os itens de uma página e o cursor {@code proximo}, que corresponde ao identificador
+ * do último item retornado. Para obter a página seguinte basta repetir a requisição informando esse cursor; quando não
+ * houver mais itens o cursor é {@code null}.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     Slice<Pessoa> slice = pessoaService.listar(apos, limite);
+ *     PaginaDto<Pessoa> pagina = PaginaDto.de(slice, Pessoa::getId);
+ * }</pre>
+ *
+ * @param <T> Tipo dos itens contidos na página.
+ */
+@Data
+@AllArgsConstructor
+public class PaginaDto<T> {
+
+    /**
+     * Itens contidos na página.
+     */
+    private List<T> itens;
+
+    /**
+     * Cursor a ser informado para obter a próxima página, ou {@code null} se esta for a última.
+     */
+    private Long proximo;
+
+    /**
+     * Cria um {@code PaginaDto} a partir de um {@link Slice}, utilizando o identificador do último item como cursor.
+     *
+     * @param slice         Fatia de resultados retornada pela consulta.
+     * @param identificador Função que extrai o identificador utilizado como cursor de cada item.
+     * @param <T>           Tipo dos itens contidos na página.
+     * @return O {@code PaginaDto} correspondente à fatia informada.
+     */
+    public static <T> PaginaDto<T> de(Slice<T> slice, Function<T, Long> identificador) {
+        List<T> itens = slice.getContent();
+        Long proximo = slice.hasNext() && !itens.isEmpty() ? identificador.apply(itens.get(itens.size() - 1)) : null;
+        return new PaginaDto<>(itens, proximo);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.aplicacao.core.dto;
+
+import br.com.aplicacao.core.tarefa.SituacaoTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO (Data Transfer Object) que representa a situação de uma tarefa executada em segundo plano.
+ *
+ * <p>A vazão é calculada desde o início da execução atual, e a previsão de término supõe que ela se mantenha até o
+ * final. Ambas só são informadas para tarefas em andamento que já registraram algum progresso.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaDto {
+
+    /**
+     * O identificador da tarefa.
+     */
+    private Long id;
+
+    /**
+     * O tipo da tarefa.
+     */
+    private String tipo;
+
+    /**
+     * A situação da tarefa.
+     */
+    private SituacaoTarefa situacao;
+
+    /**
+     * A quantidade total de itens da tarefa, conforme o último progresso informado.
+     */
+    private long total;
+
+    /**
+     * A quantidade de itens já processados.
+     */
+    private long processados;
+
+    /**
+     * O percentual já processado, de 0 a 100.
+     */
+    private double percentual;
+
+    /**
+     * A vazão da execução atual, em itens por segundo.
+     */
+    private double itensPorSegundo;
+
+    /**
+     * A previsão do tempo restante, em segundos, ou {@code null} se ainda não puder ser calculada.
+     */
+    private Long segundosRestantes;
+
+    /**
+     * A previsão do momento de término, ou {@code null} se ainda não puder ser calculada.
+     */
+    private Instant previsaoTermino;
+
+    /**
+     * Indica se o cancelamento da tarefa foi solicitado.
+     */
+    private boolean cancelamentoSolicitado;
+
+    /**
+     * O momento em que a tarefa foi submetida.
+     */
+    private Instant criacao;
+
+    /**
+     * O momento em que a execução atual começou.
+     */
+    private Instant inicioExecucao;
+
+    /**
+     * O momento em que a tarefa foi encerrada.
+     */
+    private Instant fim;
+
+    /**
+     * A mensagem do erro que encerrou a tarefa, quando houver.
+     */
+    private String mensagem;
+}
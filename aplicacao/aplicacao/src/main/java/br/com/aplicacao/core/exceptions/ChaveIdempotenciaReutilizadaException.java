@@ -0,0 +1,30 @@
+package br.com.aplicacao.core.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção personalizada para indicar que uma chave de idempotência foi reutilizada com outra requisição.
+ *
+ * <p>A {@code ChaveIdempotenciaReutilizadaException} é uma subclasse de {@link RuntimeException} lançada quando uma
+ * requisição informa, no cabeçalho {@code Idempotency-Key}, uma chave já utilizada por uma requisição com conteúdo
+ * diferente. A resposta registrada para a chave não é devolvida, pois não corresponde à requisição recebida.</p>
+ *
+ * <p>Esta exceção utiliza a anotação {@link ResponseStatus} para configurar o código de status HTTP como
+ * {@link HttpStatus#UNPROCESSABLE_ENTITY} (422) quando lançada em um controlador Spring MVC.</p>
+ *
+ * @see ResponseStatus
+ * @see HttpStatus#UNPROCESSABLE_ENTITY
+ */
+@ResponseStatus(value = HttpStatus.UNPROCESSABLE_ENTITY)
+public class ChaveIdempotenciaReutilizadaException extends RuntimeException {
+
+    /**
+     * Construtor que recebe uma mensagem descritiva da exceção.
+     *
+     * @param mensagem Mensagem que descreve a causa da exceção.
+     */
+    public ChaveIdempotenciaReutilizadaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.aplicacao.core.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção personalizada para indicar que uma operação não foi concluída dentro do tempo de espera permitido.
+ *
+ * <p>A {@code TempoEsgotadoException} é uma subclasse de {@link RuntimeException} lançada quando a espera pelo
+ * resultado de uma operação em andamento é encerrada antes da sua conclusão, seja pelo tempo máximo de espera ou pela
+ * interrupção da thread.</p>
+ *
+ * <p>Esta exceção utiliza a anotação {@link ResponseStatus} para configurar o código de status HTTP como
+ * {@link HttpStatus#SERVICE_UNAVAILABLE} (503) quando lançada em um controlador Spring MVC.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     try {
+ *         return carga.get(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS);
+ *     } catch (TimeoutException e) {
+ *         throw new TempoEsgotadoException("Tempo de espera esgotado");
+ *     }
+ * }</pre>
+ *
+ * @see ResponseStatus
+ * @see HttpStatus#SERVICE_UNAVAILABLE
+ */
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class TempoEsgotadoException extends RuntimeException {
+
+    /**
+     * Construtor que recebe uma mensagem descritiva da exceção.
+     *
+     * @param mensagem Mensagem que descreve a causa da exceção.
+     */
+    public TempoEsgotadoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.aplicacao.core.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção personalizada para indicar que um registro foi alterado por outra operação.
+ *
+ * <p>A {@code VersaoDivergenteException} é uma subclasse de {@link RuntimeException} que é lançada quando a versão
+ * informada para uma alteração não corresponde mais à versão gravada, evitando que uma alteração concorrente seja
+ * sobrescrita.</p>
+ *
+ * <p>Esta exceção utiliza a anotação {@link ResponseStatus} para configurar o código de status HTTP como
+ * {@link HttpStatus#PRECONDITION_FAILED} (412) quando lançada em um controlador Spring MVC, que é a resposta esperada
+ * para um cabeçalho {@code If-Match} que não corresponde ao {@code ETag} atual.</p>
+ *
+ * @see ResponseStatus
+ * @see HttpStatus#PRECONDITION_FAILED
+ */
+@ResponseStatus(value = HttpStatus.PRECONDITION_FAILED)
+public class VersaoDivergenteException extends RuntimeException {
+
+    /**
+     * Construtor que recebe uma mensagem descritiva da exceção.
+     *
+     * @param mensagem Mensagem que descreve a causa da exceção.
+     */
+    public VersaoDivergenteException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.aplicacao.core.idempotencia;
+
+import br.com.aplicacao.core.concorrencia.CargaCompartilhada;
+import br.com.aplicacao.core.exceptions.ChaveIdempotenciaReutilizadaException;
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Registro das respostas de operações identificadas pelo cabeçalho {@value #CABECALHO}.
+ *
+ * <p>A primeira requisição com uma chave executa a operação e registra o código de status e o corpo da resposta. As
+ * repetições da mesma chave são respondidas a partir desse registro, com o cabeçalho {@value #CABECALHO_REPETICAO},
+ * sem executar novamente a operação: nenhuma validação é refeita e nenhuma tabela é consultada. Repetições que
+ * chegarem enquanto a primeira execução estiver em andamento aguardam a sua conclusão ({@link CargaCompartilhada}) e
+ * recebem a mesma resposta ou a mesma exceção, limitadas a {@code core.idempotencia.espera-maxima}.</p>
+ *
+ * <p>Somente respostas são registradas: uma execução que termina com exceção libera a chave para uma nova tentativa.
+ * Cada registro guarda apenas o código de status, o corpo e o resumo SHA-256 da requisição serializada em JSON, que
+ * permite recusar com {@link ChaveIdempotenciaReutilizadaException} a reutilização de uma chave com outro conteúdo. Os registros expiram
+ * após {@code core.idempotencia.expiracao} e são limitados a {@code core.idempotencia.tamanho-maximo} entradas. O
+ * registro é mantido em memória, por instância da aplicação.</p>
+ *
+ * <p>As respostas repetidas e as executadas são publicadas no Micrometer como acertos e falhas do cache
+ * {@value #NOME}.</p>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     return idempotencia.executar("cadastro.pessoa.incluir", chave, pessoaDto,
+ *             () -> ResponseEntity.ok(inserirPessoaRegras.execute(pessoaDto.toEntity()).getId()));
+ * }</pre>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Component
+public class Idempotencia {
+
+    /**
+     * Nome do cabeçalho com a chave de idempotência informada pelo cliente.
+     */
+    public static final String CABECALHO = "Idempotency-Key";
+
+    /**
+     * Nome do cabeçalho incluído nas respostas obtidas do registro.
+     */
+    public static final String CABECALHO_REPETICAO = "Idempotent-Replayed";
+
+    /**
+     * Nome do cache nas métricas.
+     */
+    public static final String NOME = "idempotencia";
+
+    /**
+     * Tamanho máximo de uma chave de idempotência.
+     */
+    public static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final Cache<String, Resposta> respostas;
+
+    private final CargaCompartilhada<String, Resposta> emAndamento = new CargaCompartilhada<>();
+
+    private final Duration esperaMaxima;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Cria o registro de acordo com a configuração da aplicação.
+     *
+     * @param tamanhoMaximo a quantidade máxima de respostas registradas
+     * @param expiracao     o tempo de vida de cada resposta a partir do seu registro
+     * @param esperaMaxima  o tempo máximo de espera por uma execução em andamento da mesma chave
+     * @param objectMapper  o conversor que serializa as requisições para o cálculo do resumo
+     * @param registros     o registro de métricas, se disponível
+     */
+    public Idempotencia(@Value("${core.idempotencia.tamanho-maximo:100000}") long tamanhoMaximo,
+                        @Value("${core.idempotencia.expiracao:24h}") Duration expiracao,
+                        @Value("${core.idempotencia.espera-maxima:30s}") Duration esperaMaxima,
+                        ObjectMapper objectMapper,
+                        ObjectProvider<MeterRegistry> registros) {
+        this.respostas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(expiracao)
+                .recordStats()
+                .build();
+        this.esperaMaxima = esperaMaxima;
+        this.objectMapper = objectMapper;
+        registros.ifAvailable(registro -> CaffeineCacheMetrics.monitor(registro, respostas, NOME));
+    }
+
+    /**
+     * Executa a operação uma única vez por chave e devolve a resposta registrada nas repetições.
+     *
+     * <p>Sem chave, a operação é executada diretamente, sem registro.</p>
+     *
+     * @param operacao   o nome da operação, que separa as chaves de operações diferentes
+     * @param chave      a chave de idempotência informada pelo cliente, ou {@code null}
+     * @param requisicao o conteúdo da requisição, comparado pelo resumo da sua serialização nas repetições
+     * @param execucao   a operação a ser executada
+     * @param <T>        o tipo do corpo da resposta
+     * @return a resposta da operação ou, nas repetições, a resposta registrada
+     * @throws IllegalArgumentException              se a chave for vazia ou maior que {@value #TAMANHO_MAXIMO_CHAVE}
+     *                                               caracteres
+     * @throws ChaveIdempotenciaReutilizadaException se a chave já tiver sido utilizada com outra requisição
+     * @throws TempoEsgotadoException                se a execução em andamento não for concluída dentro do tempo de
+     *                                               espera
+     */
+    public <T> ResponseEntity<T> executar(String operacao, String chave, Object requisicao, Supplier<ResponseEntity<T>> execucao) {
+        if (chave == null) return execucao.get();
+        validarChave(chave);
+        String registro = operacao + ':' + chave;
+        byte[] impressao = resumir(requisicao);
+
+        Resposta registrada = respostas.getIfPresent(registro);
+        if (registrada != null) return repetir(registrada, impressao);
+
+        boolean[] executada = {false};
+        Resposta resposta = emAndamento.carregar(registro, () -> {
+            Resposta anterior = respostas.asMap().get(registro);
+            if (anterior != null) return anterior;
+            ResponseEntity<T> executadaAgora = execucao.get();
+            Resposta nova = new Resposta(executadaAgora.getStatusCode().value(), executadaAgora.getBody(), impressao);
+            respostas.put(registro, nova);
+            executada[0] = true;
+            return nova;
+        }, esperaMaxima);
+        return executada[0] ? resposta.toResponseEntity(false) : repetir(resposta, impressao);
+    }
+
+    /**
+     * Remove todas as respostas registradas.
+     */
+    public void limpar() {
+        respostas.invalidateAll();
+    }
+
+    private void validarChave(String chave) {
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("Chave de idempotência inválida");
+        }
+    }
+
+    /**
+     * Calcula o resumo SHA-256 da requisição serializada em JSON.
+     *
+     * @param requisicao o conteúdo da requisição
+     * @return o resumo da requisição
+     */
+    private byte[] resumir(Object requisicao) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requisicao));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Não foi possível calcular o resumo da requisição", e);
+        }
+    }
+
+    private <T> ResponseEntity<T> repetir(Resposta resposta, byte[] impressao) {
+        if (!MessageDigest.isEqual(resposta.impressao(), impressao)) {
+            throw new ChaveIdempotenciaReutilizadaException("Chave de idempotência utilizada com outra requisição");
+        }
+        return resposta.toResponseEntity(true);
+    }
+
+    /**
+     * Resposta registrada para uma chave.
+     *
+     * @param status    o código de status HTTP
+     * @param corpo     o corpo da resposta
+     * @param impressao o resumo SHA-256 da requisição que originou a resposta
+     */
+    private record Resposta(int status, Object corpo, byte[] impressao) {
+
+        @SuppressWarnings("unchecked")
+        <T> ResponseEntity<T> toResponseEntity(boolean repeticao) {
+            ResponseEntity.BodyBuilder resposta = ResponseEntity.status(status);
+            if (repeticao) resposta.header(CABECALHO_REPETICAO, "true");
+            return resposta.body((T) corpo);
+        }
+    }
+}
@@ -3,6 +3,9 @@ package br.com.aplicacao.core.infra;
 import br.com.aplicacao.core.BaseMapper;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Interface genérica para definir operações básicas de um repositório.
  *
@@ -11,7 +14,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * ({@code DATA}).</p>
  *
  * <p>Os métodos definidos incluem operações comuns de CRUD (Create, Read, Update, Delete) que devem ser implementadas
- * por classes concretas para interagir com um banco de dados através de um repositório JPA.</p>
+ * por classes concretas para interagir com um banco de dados através de um repositório JPA, tanto para uma entidade
+ * quanto para várias entidades de uma vez.</p>
  *
  * <p>Exemplo de uso:</p>
  * <pre>{@code
@@ -51,6 +55,30 @@ public interface BaseRepository<DOMAIN, DATA> {
      */
     Long excluir(Long id);
 
+    /**
+     * Método para incluir várias entidades de domínio no repositório, em blocos enviados ao banco com lotes JDBC.
+     *
+     * @param domains Entidades de domínio a serem incluídas.
+     * @return As entidades de domínio incluídas, na mesma ordem, com os identificadores gerados.
+     */
+    List<DOMAIN> incluirTodos(List<DOMAIN> domains);
+
+    /**
+     * Método para alterar várias entidades de domínio existentes no repositório, em blocos enviados ao banco com lotes
+     * JDBC.
+     *
+     * @param domains Entidades de domínio a serem alteradas.
+     * @return As entidades de domínio alteradas, na mesma ordem.
+     */
+    List<DOMAIN> alterarTodos(List<DOMAIN> domains);
+
+    /**
+     * Método para excluir várias entidades de domínio do repositório pelos seus identificadores, em blocos.
+     *
+     * @param ids Identificadores das entidades de domínio a serem excluídas.
+     */
+    void excluirTodos(Collection<Long> ids);
+
     /**
      * Método para obter o mapeador utilizado para converter entre a entidade de domínio e a entidade de dados.
      *
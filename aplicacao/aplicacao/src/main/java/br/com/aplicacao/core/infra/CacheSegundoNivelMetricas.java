@@ -0,0 +1,47 @@
+package br.com.aplicacao.core.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+
+/**
+ * Publica no Micrometer os acertos, falhas, inclusões e remoções de cada região do cache de segundo nível do
+ * Hibernate.
+ *
+ * <p>As métricas são lidas das estatísticas do próprio JCache (Caffeine), mantidas por região, e não dependem das
+ * estatísticas do Hibernate ({@code hibernate.generate_statistics}), que são contabilizadas em cada sessão e ficam
+ * desligadas por padrão. Cada região é publicada como um cache ({@code cache.gets}, {@code cache.puts},
+ * {@code cache.removals}) com o nome da região na tag {@code cache}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Component
+public class CacheSegundoNivelMetricas {
+
+    /**
+     * Cria o componente e registra as métricas das regiões já criadas pelo Hibernate.
+     *
+     * <p>As regiões das entidades são criadas na inicialização do {@link EntityManagerFactory}. Nada é registrado
+     * se o cache de segundo nível não utilizar o JCache ou se não houver registro de métricas.</p>
+     *
+     * @param entityManagerFactory a fábrica de {@code EntityManager} da aplicação
+     * @param registros            o registro de métricas, se disponível
+     */
+    public CacheSegundoNivelMetricas(EntityManagerFactory entityManagerFactory, ObjectProvider<MeterRegistry> registros) {
+        if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory()
+                instanceof JCacheRegionFactory regionFactory)) return;
+        CacheManager cacheManager = regionFactory.getCacheManager();
+        registros.ifAvailable(registro -> {
+            for (String regiao : cacheManager.getCacheNames()) {
+                cacheManager.enableStatistics(regiao, true);
+                JCacheMetrics.monitor(registro, cacheManager.getCache(regiao));
+            }
+        });
+    }
+}
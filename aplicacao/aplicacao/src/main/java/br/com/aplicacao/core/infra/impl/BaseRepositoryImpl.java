@@ -1,8 +1,21 @@
 package br.com.aplicacao.core.infra.impl;
 
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
 import br.com.aplicacao.core.infra.BaseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Implementação abstrata da interface {@link BaseRepository} que fornece operações básicas de persistência.
@@ -15,6 +28,20 @@ import org.apache.logging.log4j.Logger;
  * <p>Os métodos {@link #incluir(Object)}, {@link #alterar(Object)} e {@link #excluir(Long)} são implementados para
  * realizar operações comuns de CRUD (Create, Read, Update, Delete) em uma entidade específica.</p>
  *
+ * <p>A inclusão e a alteração são enviadas ao banco imediatamente ({@code saveAndFlush}), de modo que violações de
+ * restrições do banco sejam capturadas aqui e convertidas por {@link #traduzirViolacaoIntegridade(DataIntegrityViolationException)}.</p>
+ *
+ * <p>Entidades com controle de concorrência otimista ({@code @Version}) têm a alteração recusada com
+ * {@link VersaoDivergenteException} quando a versão informada não corresponde à versão gravada.</p>
+ *
+ * <p>{@link #incluirTodos(List)}, {@link #alterarTodos(List)} e {@link #excluirTodos(Collection)} processam as
+ * entidades em blocos de {@link #getTamanhoLote()} registros. Cada bloco é enviado ao banco com {@code flush} e o
+ * contexto de persistência é limpo em seguida, mantendo constante o consumo de memória. Os {@code insert} e
+ * {@code update} de um bloco são agrupados em lotes JDBC de acordo com {@code hibernate.jdbc.batch_size},
+ * {@code hibernate.order_inserts} e {@code hibernate.order_updates}, e os resultados são convertidos das próprias
+ * entidades gravadas, sem consultá-las novamente. O Hibernate não agrupa os {@code update} de entidades anotadas com
+ * {@code @DynamicUpdate}, que são enviados um a um no {@code flush} do bloco.</p>
+ *
  * <p>Exemplo de uso:</p>
  * <pre>{@code
  *     @Repository
@@ -32,6 +59,14 @@ public abstract class BaseRepositoryImpl<DOMAIN, DATA> implements BaseRepository
 
     private static final Logger logger = LogManager.getLogger(BaseRepositoryImpl.class.getName());
 
+    /**
+     * Quantidade padrão de registros de cada bloco das operações em lote.
+     */
+    protected static final int TAMANHO_LOTE_PADRAO = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Método para incluir uma nova entidade de domínio no repositório.
      *
@@ -42,8 +77,10 @@ public abstract class BaseRepositoryImpl<DOMAIN, DATA> implements BaseRepository
     public DOMAIN incluir(DOMAIN domain) {
         try {
             DATA data = getMapper().toData(domain);
-            data = getRepository().save(data);
+            data = getRepository().saveAndFlush(data);
             return getMapper().toDomain(data);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoIntegridade(e);
         } catch (Exception e) {
             logger.error("Erro ao inserir registro:", e);
             throw new RuntimeException(e);
@@ -55,13 +92,19 @@ public abstract class BaseRepositoryImpl<DOMAIN, DATA> implements BaseRepository
      *
      * @param domain Entidade de domínio a ser alterada.
      * @return A entidade de domínio alterada no repositório após a operação.
+     * @throws VersaoDivergenteException Se o registro tiver sido alterado por outra operação.
      * @throws RuntimeException Se ocorrer um erro durante a operação de alteração.
      */
     public DOMAIN alterar(DOMAIN domain) {
         try {
             DATA data = getMapper().toData(domain);
-            data = getRepository().save(data);
+            data = getRepository().saveAndFlush(data);
+            aposAlterar(domain, data);
             return getMapper().toDomain(data);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoIntegridade(e);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            throw new VersaoDivergenteException("Registro alterado por outra operação");
         } catch (Exception e) {
             logger.error("Erro ao alterar registro:", e);
             throw new RuntimeException(e);
@@ -84,4 +127,146 @@ public abstract class BaseRepositoryImpl<DOMAIN, DATA> implements BaseRepository
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Método para incluir várias entidades de domínio no repositório.
+     *
+     * <p>Como os identificadores são obtidos de sequências, os {@code insert} de cada bloco são agrupados em lotes
+     * JDBC.</p>
+     *
+     * @param domains Entidades de domínio a serem incluídas.
+     * @return As entidades de domínio incluídas, na mesma ordem, com os identificadores gerados.
+     * @throws RuntimeException Se ocorrer um erro durante a operação de inclusão.
+     */
+    public List<DOMAIN> incluirTodos(List<DOMAIN> domains) {
+        List<DOMAIN> incluidos = new ArrayList<>(domains.size());
+        try {
+            for (int inicio = 0; inicio < domains.size(); inicio += getTamanhoLote()) {
+                List<DOMAIN> bloco = domains.subList(inicio, Math.min(inicio + getTamanhoLote(), domains.size()));
+                List<DATA> datas = getRepository().saveAll(getMapper().toData(bloco));
+                getRepository().flush();
+                incluidos.addAll(getMapper().toDomain(datas));
+                getEntityManager().clear();
+            }
+            return incluidos;
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoIntegridade(e);
+        } catch (Exception e) {
+            logger.error("Erro ao inserir registros:", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Método para alterar várias entidades de domínio existentes no repositório.
+     *
+     * <p>Os registros de cada bloco são carregados antes do {@code merge} por uma única leitura, que aproveita o
+     * contexto de persistência e o cache de segundo nível e consulta no banco apenas os ausentes, em vez de uma
+     * consulta por registro. As versões são verificadas como em {@link #alterar(Object)}.</p>
+     *
+     * @param domains Entidades de domínio a serem alteradas.
+     * @return As entidades de domínio alteradas, na mesma ordem.
+     * @throws VersaoDivergenteException Se algum registro tiver sido alterado por outra operação.
+     * @throws RuntimeException Se ocorrer um erro durante a operação de alteração.
+     */
+    public List<DOMAIN> alterarTodos(List<DOMAIN> domains) {
+        List<DOMAIN> alterados = new ArrayList<>(domains.size());
+        try {
+            for (int inicio = 0; inicio < domains.size(); inicio += getTamanhoLote()) {
+                List<DOMAIN> bloco = domains.subList(inicio, Math.min(inicio + getTamanhoLote(), domains.size()));
+                List<DATA> datas = getMapper().toData(bloco);
+                carregar(datas);
+                datas = getRepository().saveAll(datas);
+                getRepository().flush();
+                for (int i = 0; i < bloco.size(); i++) aposAlterar(bloco.get(i), datas.get(i));
+                alterados.addAll(getMapper().toDomain(datas));
+                getEntityManager().clear();
+            }
+            return alterados;
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoIntegridade(e);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            throw new VersaoDivergenteException("Registro alterado por outra operação");
+        } catch (Exception e) {
+            logger.error("Erro ao alterar registros:", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Método para excluir várias entidades de domínio do repositório pelos seus identificadores.
+     *
+     * <p>Cada bloco é excluído com uma única instrução {@code delete ... where id in (...)}, sem carregar os
+     * registros.</p>
+     *
+     * @param ids Identificadores das entidades de domínio a serem excluídas.
+     * @throws RuntimeException Se ocorrer um erro durante a operação de exclusão.
+     */
+    public void excluirTodos(Collection<Long> ids) {
+        List<Long> pendentes = new ArrayList<>(ids);
+        try {
+            for (int inicio = 0; inicio < pendentes.size(); inicio += getTamanhoLote()) {
+                getRepository().deleteAllByIdInBatch(pendentes.subList(inicio, Math.min(inicio + getTamanhoLote(), pendentes.size())));
+            }
+        } catch (Exception e) {
+            logger.error("Erro ao excluir registros:", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Retorna a quantidade de registros de cada bloco das operações em lote.
+     *
+     * <p>Por padrão, {@value #TAMANHO_LOTE_PADRAO}.</p>
+     *
+     * @return A quantidade de registros de cada bloco.
+     */
+    protected int getTamanhoLote() {
+        return TAMANHO_LOTE_PADRAO;
+    }
+
+    /**
+     * Retorna o {@link EntityManager} da transação em andamento.
+     *
+     * @return O {@link EntityManager} injetado.
+     */
+    protected EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Carrega no contexto de persistência, em uma única leitura, os registros gravados das entidades de dados.
+     */
+    private void carregar(List<DATA> datas) {
+        if (datas.isEmpty()) return;
+        PersistenceUnitUtil unidade = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Object> ids = datas.stream().map(unidade::getIdentifier).filter(Objects::nonNull).toList();
+        getEntityManager().unwrap(Session.class).byMultipleIds(datas.get(0).getClass()).multiLoad(ids);
+    }
+
+    /**
+     * Complementa a alteração na mesma transação, depois que a entidade de dados foi enviada ao banco.
+     *
+     * <p>Por padrão não faz nada.</p>
+     *
+     * @param domain A entidade de domínio recebida para alteração.
+     * @param data   A entidade de dados gerenciada, já sincronizada com o banco.
+     */
+    protected void aposAlterar(DOMAIN domain, DATA data) {
+    }
+
+    /**
+     * Converte a violação de uma restrição do banco na exceção a ser lançada ao chamador.
+     *
+     * <p>Por padrão a violação é registrada e encapsulada em uma {@link RuntimeException}. Repositórios que possuem
+     * restrições com significado de negócio, como a unicidade de um campo, podem sobrescrever este método para
+     * lançar a mensagem de validação correspondente.</p>
+     *
+     * @param e A violação de integridade lançada pelo banco.
+     * @return A exceção a ser lançada.
+     */
+    protected RuntimeException traduzirViolacaoIntegridade(DataIntegrityViolationException e) {
+        logger.error("Erro de integridade ao gravar registro:", e);
+        return new RuntimeException(e);
+    }
 }
@@ -0,0 +1,48 @@
+package br.com.aplicacao.core.tarefa;
+
+/**
+ * Interface que representa a execução em andamento de uma tarefa, oferecida a {@link Tarefa#executar(ExecucaoTarefa)}.
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public interface ExecucaoTarefa {
+
+    /**
+     * Retorna o identificador da tarefa.
+     *
+     * @return o identificador da tarefa
+     */
+    Long getId();
+
+    /**
+     * Retorna os parâmetros informados na submissão da tarefa.
+     *
+     * @return os parâmetros, ou {@code null}
+     */
+    String getParametros();
+
+    /**
+     * Grava o progresso da tarefa, utilizado no cálculo do percentual e da previsão de término.
+     *
+     * <p>Chamado dentro de uma transação, o progresso é gravado junto com ela.</p>
+     *
+     * @param processados a quantidade de itens já processados
+     * @param total       a quantidade total de itens
+     */
+    void registrarProgresso(long processados, long total);
+
+    /**
+     * Indica se a execução deve parar, porque o cancelamento da tarefa foi solicitado ou porque a aplicação está sendo
+     * encerrada.
+     *
+     * @return {@code true} se a execução deve retornar assim que possível
+     */
+    boolean deveParar();
+
+    /**
+     * Indica se o cancelamento da tarefa foi solicitado, distinguindo-o da parada pelo encerramento da aplicação.
+     *
+     * @return {@code true} se a tarefa foi cancelada
+     */
+    boolean isCancelamentoSolicitado();
+}
@@ -0,0 +1,322 @@
+package br.com.aplicacao.core.tarefa;
+
+import br.com.aplicacao.core.dto.TarefaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.tarefa.infra.TarefaDataRepository;
+import br.com.aplicacao.core.tarefa.infra.data.TarefaData;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço que registra e executa em segundo plano as tarefas de longa duração.
+ *
+ * <p>Cada tarefa submetida é gravada na tabela {@code core_tarefa} e executada pela {@link Tarefa} do seu tipo em um
+ * pool próprio de {@code core.tarefa.trabalhadores} threads, separado das threads de requisição do Tomcat. Como o
+ * pool é fixo, no máximo essa quantidade de tarefas ocupa processador e conexões do banco ao mesmo tempo,
+ * independentemente de quantas forem submetidas; as demais aguardam na ordem de submissão. A latência das
+ * requisições interativas fica assim limitada ao que sobra desses recursos, que deve ser considerado no
+ * dimensionamento do pool de conexões.</p>
+ *
+ * <p>O cancelamento é cooperativo: uma tarefa pendente é cancelada imediatamente, e uma tarefa em andamento é
+ * avisada por {@link ExecucaoTarefa#deveParar()} e encerrada como cancelada quando a sua execução retornar. Ao
+ * encerrar a aplicação os trabalhadores são interrompidos e as tarefas em andamento permanecem nessa situação, sendo
+ * agendadas novamente, junto com as pendentes, na próxima inicialização. As tarefas devem ser executadas por uma
+ * única instância da aplicação.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Service
+public class GerenciadorTarefas {
+
+    private static final Logger logger = LogManager.getLogger(GerenciadorTarefas.class.getName());
+
+    private final TarefaDataRepository repository;
+
+    private final Supplier<List<Tarefa>> implementacoes;
+
+    private final Clock relogio;
+
+    private final ExecutorService executor;
+
+    private final Set<Long> agendadas = ConcurrentHashMap.newKeySet();
+
+    private final Set<Long> cancelamentos = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<String, Tarefa> tipos;
+
+    private volatile boolean encerrando;
+
+    /**
+     * Cria o gerenciador de acordo com a configuração da aplicação.
+     *
+     * <p>As implementações de {@link Tarefa} são obtidas apenas no primeiro uso, pois podem depender deste
+     * gerenciador para submeter as suas tarefas.</p>
+     *
+     * @param repository    o repositório das tarefas
+     * @param tarefas       as implementações dos tipos de tarefa
+     * @param trabalhadores a quantidade de tarefas executadas simultaneamente
+     */
+    public GerenciadorTarefas(TarefaDataRepository repository, ObjectProvider<Tarefa> tarefas,
+                              @Value("${core.tarefa.trabalhadores:2}") int trabalhadores) {
+        this(repository, () -> tarefas.orderedStream().toList(), trabalhadores, Clock.systemUTC());
+    }
+
+    GerenciadorTarefas(TarefaDataRepository repository, Supplier<List<Tarefa>> implementacoes, int trabalhadores,
+                       Clock relogio) {
+        if (trabalhadores < 1) throw new IllegalArgumentException("Quantidade de trabalhadores inválida");
+        this.repository = repository;
+        this.implementacoes = implementacoes;
+        this.relogio = relogio;
+        this.executor = Executors.newFixedThreadPool(trabalhadores, new Trabalhadores());
+    }
+
+    /**
+     * Registra uma tarefa e agenda a sua execução.
+     *
+     * <p>Dentro de uma transação, a execução é agendada apenas após o commit.</p>
+     *
+     * @param tipo       o tipo da tarefa
+     * @param parametros os parâmetros repassados à execução
+     * @return a situação da tarefa registrada
+     * @throws IllegalArgumentException se não houver implementação para o tipo informado
+     */
+    public TarefaDto submeter(String tipo, String parametros) {
+        if (!tipos().containsKey(tipo)) throw new IllegalArgumentException("Tipo de tarefa desconhecido");
+        TarefaData tarefa = repository.save(TarefaData.builder()
+                .tipo(tipo)
+                .parametros(parametros)
+                .situacao(SituacaoTarefa.PENDENTE)
+                .criacao(relogio.instant())
+                .build());
+        Long id = tarefa.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    agendar(id);
+                }
+            });
+        } else {
+            agendar(id);
+        }
+        return paraDto(tarefa);
+    }
+
+    /**
+     * Consulta a situação de uma tarefa.
+     *
+     * @param id o identificador da tarefa
+     * @return a situação da tarefa, com o progresso e a previsão de término
+     * @throws NaoEncontradoException se a tarefa não existir
+     */
+    public TarefaDto consultar(Long id) {
+        return paraDto(buscar(id));
+    }
+
+    /**
+     * Solicita o cancelamento de uma tarefa.
+     *
+     * @param id o identificador da tarefa
+     * @return a situação da tarefa após o pedido
+     * @throws NaoEncontradoException   se a tarefa não existir
+     * @throws IllegalArgumentException se a tarefa já estiver encerrada
+     */
+    public TarefaDto cancelar(Long id) {
+        buscar(id);
+        if (repository.solicitarCancelamento(id, SituacaoTarefa.ABERTAS) == 0) {
+            throw new IllegalArgumentException("Tarefa já encerrada");
+        }
+        cancelamentos.add(id);
+        repository.encerrar(id, List.of(SituacaoTarefa.PENDENTE), SituacaoTarefa.CANCELADA, relogio.instant(), null);
+        return paraDto(buscar(id));
+    }
+
+    /**
+     * Agenda, na inicialização da aplicação, as tarefas pendentes ou interrompidas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarInterrompidas() {
+        repository.findBySituacaoInOrderById(SituacaoTarefa.ABERTAS).forEach(tarefa -> agendar(tarefa.getId()));
+    }
+
+    /**
+     * Interrompe os trabalhadores ao encerrar a aplicação. As tarefas em andamento são retomadas na próxima
+     * inicialização.
+     */
+    @PreDestroy
+    public void encerrar() {
+        encerrando = true;
+        executor.shutdownNow();
+    }
+
+    private void agendar(Long id) {
+        if (!agendadas.add(id)) return;
+        executor.execute(() -> {
+            try {
+                executar(id);
+            } finally {
+                agendadas.remove(id);
+                cancelamentos.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Executa a tarefa e registra a situação em que ela terminou.
+     *
+     * @param id o identificador da tarefa
+     */
+    void executar(Long id) {
+        TarefaData tarefa = repository.findById(id).orElse(null);
+        if (tarefa == null || tarefa.getSituacao().isEncerrada()) return;
+        if (tarefa.isCancelamentoSolicitado()) {
+            repository.encerrar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.CANCELADA, relogio.instant(), null);
+            return;
+        }
+        Tarefa implementacao = tipos().get(tarefa.getTipo());
+        if (implementacao == null) {
+            repository.encerrar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.FALHOU, relogio.instant(), "Tipo de tarefa desconhecido");
+            return;
+        }
+        if (repository.iniciar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.EM_ANDAMENTO, relogio.instant()) == 0) return;
+        Execucao execucao = new Execucao(id, tarefa.getParametros());
+        try {
+            implementacao.executar(execucao);
+            if (encerrando) return;
+            SituacaoTarefa situacao = execucao.isCancelamentoSolicitado() ? SituacaoTarefa.CANCELADA : SituacaoTarefa.CONCLUIDA;
+            repository.encerrar(id, SituacaoTarefa.ABERTAS, situacao, relogio.instant(), null);
+        } catch (Exception e) {
+            if (encerrando) return;
+            logger.error("Falha na tarefa {} do tipo {}", id, tarefa.getTipo(), e);
+            String mensagem = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+            repository.encerrar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.FALHOU, relogio.instant(),
+                    mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem);
+        }
+    }
+
+    private Map<String, Tarefa> tipos() {
+        Map<String, Tarefa> atuais = tipos;
+        if (atuais == null) {
+            atuais = implementacoes.get().stream().collect(Collectors.toUnmodifiableMap(Tarefa::getTipo, Function.identity()));
+            tipos = atuais;
+        }
+        return atuais;
+    }
+
+    private TarefaData buscar(Long id) {
+        return repository.findById(id).orElseThrow(() -> new NaoEncontradoException("Tarefa não encontrada"));
+    }
+
+    private TarefaDto paraDto(TarefaData tarefa) {
+        double itensPorSegundo = 0;
+        Long segundosRestantes = null;
+        Instant previsaoTermino = null;
+        if (tarefa.getSituacao() == SituacaoTarefa.EM_ANDAMENTO && tarefa.getInicioExecucao() != null) {
+            Instant agora = relogio.instant();
+            long milissegundos = Duration.between(tarefa.getInicioExecucao(), agora).toMillis();
+            long itens = tarefa.getProcessados() - tarefa.getProcessadosInicioExecucao();
+            if (milissegundos > 0 && itens > 0) {
+                itensPorSegundo = itens * 1000.0 / milissegundos;
+                if (tarefa.getTotal() >= tarefa.getProcessados()) {
+                    segundosRestantes = (long) Math.ceil((tarefa.getTotal() - tarefa.getProcessados()) / itensPorSegundo);
+                    previsaoTermino = agora.plusSeconds(segundosRestantes);
+                }
+            }
+        }
+        double percentual = tarefa.getTotal() > 0 ? 100.0 * tarefa.getProcessados() / tarefa.getTotal()
+                : tarefa.getSituacao() == SituacaoTarefa.CONCLUIDA ? 100 : 0;
+        return TarefaDto.builder()
+                .id(tarefa.getId())
+                .tipo(tarefa.getTipo())
+                .situacao(tarefa.getSituacao())
+                .total(tarefa.getTotal())
+                .processados(tarefa.getProcessados())
+                .percentual(percentual)
+                .itensPorSegundo(itensPorSegundo)
+                .segundosRestantes(segundosRestantes)
+                .previsaoTermino(previsaoTermino)
+                .cancelamentoSolicitado(tarefa.isCancelamentoSolicitado())
+                .criacao(tarefa.getCriacao())
+                .inicioExecucao(tarefa.getInicioExecucao())
+                .fim(tarefa.getFim())
+                .mensagem(tarefa.getMensagem())
+                .build();
+    }
+
+    /**
+     * Execução em andamento de uma tarefa.
+     */
+    private final class Execucao implements ExecucaoTarefa {
+
+        private final Long id;
+
+        private final String parametros;
+
+        private Execucao(Long id, String parametros) {
+            this.id = id;
+            this.parametros = parametros;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getParametros() {
+            return parametros;
+        }
+
+        @Override
+        public void registrarProgresso(long processados, long total) {
+            repository.registrarProgresso(id, processados, total);
+        }
+
+        @Override
+        public boolean deveParar() {
+            return encerrando || isCancelamentoSolicitado() || Thread.currentThread().isInterrupted();
+        }
+
+        @Override
+        public boolean isCancelamentoSolicitado() {
+            return cancelamentos.contains(id);
+        }
+    }
+
+    /**
+     * Fábrica das threads do pool, identificadas como {@code tarefa-N} para distingui-las das threads de requisição.
+     */
+    private static final class Trabalhadores implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable acao) {
+            return new Thread(acao, "tarefa-" + contador.incrementAndGet());
+        }
+    }
+}
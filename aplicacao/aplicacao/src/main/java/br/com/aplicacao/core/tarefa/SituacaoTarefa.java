@@ -0,0 +1,51 @@
+package br.com.aplicacao.core.tarefa;
+
+import java.util.List;
+
+/**
+ * Enumeração que define as situações de uma tarefa executada em segundo plano.
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public enum SituacaoTarefa {
+
+    /**
+     * A tarefa foi registrada e aguarda um trabalhador livre.
+     */
+    PENDENTE,
+
+    /**
+     * A tarefa está sendo executada, ou a execução foi interrompida pela parada da aplicação e será retomada na próxima
+     * inicialização.
+     */
+    EM_ANDAMENTO,
+
+    /**
+     * A execução terminou normalmente.
+     */
+    CONCLUIDA,
+
+    /**
+     * A execução foi encerrada por um erro.
+     */
+    FALHOU,
+
+    /**
+     * A tarefa foi cancelada antes de terminar.
+     */
+    CANCELADA;
+
+    /**
+     * As situações em que a tarefa ainda não terminou.
+     */
+    public static final List<SituacaoTarefa> ABERTAS = List.of(PENDENTE, EM_ANDAMENTO);
+
+    /**
+     * Indica se a tarefa já terminou, com ou sem sucesso.
+     *
+     * @return {@code true} se a situação for final
+     */
+    public boolean isEncerrada() {
+        return !ABERTAS.contains(this);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.aplicacao.core.tarefa;
+
+/**
+ * Interface que define um tipo de tarefa executada em segundo plano por {@link GerenciadorTarefas}.
+ *
+ * <p>Cada implementação registrada como bean atende às tarefas submetidas com o seu {@link #getTipo() tipo}. A
+ * execução ocorre em um trabalhador do pool de tarefas, fora das threads de requisição, e deve:</p>
+ * <ul>
+ *     <li>informar o progresso por {@link ExecucaoTarefa#registrarProgresso(long, long)};</li>
+ *     <li>consultar {@link ExecucaoTarefa#deveParar()} entre as unidades de trabalho e retornar assim que ele indicar
+ *     a parada, deixando gravado o ponto a partir do qual o trabalho continua;</li>
+ *     <li>ser capaz de continuar a partir desse ponto, pois uma tarefa interrompida pela parada da aplicação é
+ *     executada novamente na próxima inicialização.</li>
+ * </ul>
+ *
+ * <p>Exemplo de uso:</p>
+ * <pre>{@code
+ *     @Named
+ *     public class ReprocessarTarefa implements Tarefa {
+ *
+ *         public String getTipo() {
+ *             return "reprocessar";
+ *         }
+ *
+ *         public void executar(ExecucaoTarefa execucao) {
+ *             while (haPendentes() && !execucao.deveParar()) {
+ *                 processarProximoBloco();
+ *                 execucao.registrarProgresso(processados(), total());
+ *             }
+ *         }
+ *     }
+ * }</pre>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public interface Tarefa {
+
+    /**
+     * Retorna o tipo das tarefas atendidas por esta implementação.
+     *
+     * @return o tipo, único entre as implementações
+     */
+    String getTipo();
+
+    /**
+     * Executa a tarefa a partir do ponto em que ela se encontra.
+     *
+     * @param execucao a execução em andamento, com os parâmetros da tarefa
+     * @throws Exception se a tarefa não puder ser concluída; a tarefa é encerrada como {@link SituacaoTarefa#FALHOU}
+     */
+    void executar(ExecucaoTarefa execucao) throws Exception;
+}
@@ -0,0 +1,46 @@
+package br.com.aplicacao.core.tarefa;
+
+import br.com.aplicacao.core.dto.TarefaDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para o acompanhamento das tarefas executadas em segundo plano.
+ *
+ * <p>As operações que submetem tarefas respondem com {@code 202 Accepted} e apontam, no cabeçalho {@code Location},
+ * para o endpoint deste controlador que informa o progresso e a previsão de término da tarefa. O caminho base para os
+ * endpoints é {@code /tarefas}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/tarefas")
+@RequiredArgsConstructor
+public class TarefaController {
+
+    private final GerenciadorTarefas gerenciadorTarefas;
+
+    /**
+     * Consulta a situação de uma tarefa.
+     *
+     * @param id o identificador da tarefa
+     * @return ResponseEntity contendo a situação, o progresso e a previsão de término da tarefa
+     */
+    @GetMapping("{id}")
+    public ResponseEntity<TarefaDto> consultar(@PathVariable Long id) {
+        return ResponseEntity.ok(gerenciadorTarefas.consultar(id));
+    }
+
+    /**
+     * Solicita o cancelamento de uma tarefa. Uma tarefa em andamento é encerrada ao final da unidade de trabalho atual.
+     *
+     * @param id o identificador da tarefa
+     * @return ResponseEntity com {@code 202 Accepted} e a situação da tarefa
+     */
+    @PostMapping("{id}/cancelar")
+    public ResponseEntity<TarefaDto> cancelar(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(gerenciadorTarefas.cancelar(id));
+    }
+}
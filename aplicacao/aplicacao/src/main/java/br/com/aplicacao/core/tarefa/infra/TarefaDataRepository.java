@@ -0,0 +1,90 @@
+package br.com.aplicacao.core.tarefa.infra;
+
+import br.com.aplicacao.core.tarefa.SituacaoTarefa;
+import br.com.aplicacao.core.tarefa.infra.data.TarefaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface de repositório Spring Data JPA para acessar e manipular dados da entidade {@link TarefaData}.
+ *
+ * <p>As alterações são feitas por instruções {@code update} condicionadas à situação atual da tarefa: a quantidade de
+ * registros alterados informa se a transição ocorreu ou se outra thread alterou a tarefa antes.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Repository
+public interface TarefaDataRepository extends JpaRepository<TarefaData, Long> {
+
+    /**
+     * Lista as tarefas que se encontram em alguma das situações informadas.
+     *
+     * @param situacoes As situações procuradas.
+     * @return As tarefas encontradas, ordenadas pelo identificador.
+     */
+    List<TarefaData> findBySituacaoInOrderById(Collection<SituacaoTarefa> situacoes);
+
+    /**
+     * Inicia uma execução da tarefa, registrando o seu início e o progresso a partir do qual ela continua.
+     *
+     * @param id       O identificador da tarefa.
+     * @param atuais   As situações a partir das quais a execução pode ser iniciada.
+     * @param situacao A situação da tarefa em execução.
+     * @param inicio   O momento do início da execução.
+     * @return A quantidade de registros alterados: {@code 0} se a tarefa não estiver em uma das situações atuais.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TarefaData tarefa set tarefa.situacao = ?3, tarefa.inicioExecucao = ?4, tarefa.fim = null, "
+            + "tarefa.processadosInicioExecucao = tarefa.processados, tarefa.mensagem = null "
+            + "where tarefa.id = ?1 and tarefa.situacao in ?2")
+    int iniciar(Long id, Collection<SituacaoTarefa> atuais, SituacaoTarefa situacao, Instant inicio);
+
+    /**
+     * Encerra a tarefa na situação informada.
+     *
+     * @param id       O identificador da tarefa.
+     * @param atuais   As situações a partir das quais a tarefa pode ser encerrada.
+     * @param situacao A situação final da tarefa.
+     * @param fim      O momento do encerramento.
+     * @param mensagem A mensagem do erro que encerrou a tarefa, ou {@code null}.
+     * @return A quantidade de registros alterados: {@code 0} se a tarefa não estiver em uma das situações atuais.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TarefaData tarefa set tarefa.situacao = ?3, tarefa.fim = ?4, tarefa.mensagem = ?5 "
+            + "where tarefa.id = ?1 and tarefa.situacao in ?2")
+    int encerrar(Long id, Collection<SituacaoTarefa> atuais, SituacaoTarefa situacao, Instant fim, String mensagem);
+
+    /**
+     * Grava o progresso informado pela execução da tarefa.
+     *
+     * @param id          O identificador da tarefa.
+     * @param processados A quantidade de itens já processados.
+     * @param total       A quantidade total de itens.
+     * @return A quantidade de registros alterados.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TarefaData tarefa set tarefa.processados = ?2, tarefa.total = ?3 where tarefa.id = ?1")
+    int registrarProgresso(Long id, long processados, long total);
+
+    /**
+     * Registra o pedido de cancelamento da tarefa.
+     *
+     * @param id     O identificador da tarefa.
+     * @param atuais As situações em que o cancelamento pode ser solicitado.
+     * @return A quantidade de registros alterados: {@code 0} se a tarefa não estiver em uma das situações atuais.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TarefaData tarefa set tarefa.cancelamentoSolicitado = true where tarefa.id = ?1 and tarefa.situacao in ?2")
+    int solicitarCancelamento(Long id, Collection<SituacaoTarefa> atuais);
+}
@@ -0,0 +1,79 @@
+package br.com.aplicacao.core.tarefa.infra.data;
+
+import br.com.aplicacao.core.tarefa.SituacaoTarefa;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA que representa uma tarefa executada em segundo plano.
+ *
+ * <p>{@code tipo} identifica a {@link br.com.aplicacao.core.tarefa.Tarefa} que executa o trabalho e
+ * {@code parametros} o que ela deve processar, em um formato definido pelo próprio tipo. {@code total} e
+ * {@code processados} registram o último progresso informado pela execução; {@code inicioExecucao} e
+ * {@code processadosInicioExecucao} o momento e o progresso em que a execução atual começou, utilizados no cálculo
+ * da vazão e da previsão de término.</p>
+ *
+ * <p>Depois de inserida, a tarefa é alterada apenas por instruções {@code update} condicionadas à sua situação, de
+ * modo que o cancelamento solicitado por uma requisição e o progresso gravado pelo trabalhador não sobrescrevam um
+ * ao outro.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "core_tarefa")
+public class TarefaData {
+
+    @Id
+    @Column(name = "id_tarefa")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "core_tarefa_seq")
+    @SequenceGenerator(name = "core_tarefa_seq", sequenceName = "core_tarefa_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "tipo", nullable = false, length = 100)
+    private String tipo;
+
+    @Column(name = "parametros", length = 4000)
+    private String parametros;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "situacao", nullable = false, length = 20)
+    private SituacaoTarefa situacao;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "processados", nullable = false)
+    private long processados;
+
+    @Column(name = "processados_inicio_execucao", nullable = false)
+    private long processadosInicioExecucao;
+
+    @Column(name = "cancelamento_solicitado", nullable = false)
+    private boolean cancelamentoSolicitado;
+
+    @Column(name = "criacao", nullable = false)
+    private Instant criacao;
+
+    @Column(name = "inicio_execucao")
+    private Instant inicioExecucao;
+
+    @Column(name = "fim")
+    private Instant fim;
+
+    @Column(name = "mensagem", length = 500)
+    private String mensagem;
+}
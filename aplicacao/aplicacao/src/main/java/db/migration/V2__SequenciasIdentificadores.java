@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Migração que cria as sequências dos identificadores de pessoa, contato e endereço.
+ *
+ * <p>Na estrutura original os identificadores eram gerados por colunas {@code IDENTITY}. As entidades passam a obter
+ * os identificadores de sequências reservadas pelo Hibernate em blocos de {@value #INCREMENTO} ({@code pooled}), o
+ * que permite agrupar as inclusões em lotes JDBC. Em uma base com registros, cada sequência começa
+ * {@value #INCREMENTO} valores acima do maior identificador da sua tabela, de modo que o primeiro bloco reservado
+ * não coincida com nenhum registro existente.</p>
+ *
+ * <p>A migração é escrita em Java porque o valor inicial depende dos dados e {@code CREATE SEQUENCE} não aceita
+ * expressões; assim a mesma migração é executada no PostgreSQL e no H2 dos testes.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public class V2__SequenciasIdentificadores extends BaseJavaMigration {
+
+    /**
+     * Incremento das sequências, igual ao {@code allocationSize} das entidades.
+     */
+    static final int INCREMENTO = 50;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            criarSequencia(statement, "cadastro_pessoa_seq", "cadastro_pessoa", "id_pessoa");
+            criarSequencia(statement, "cadastro_contato_seq", "cadastro_contato", "id_contato");
+            criarSequencia(statement, "cadastro_endereco_seq", "cadastro_endereco", "id_endereco");
+        }
+    }
+
+    private static void criarSequencia(Statement statement, String sequencia, String tabela, String coluna) throws SQLException {
+        long maiorId;
+        try (ResultSet resultado = statement.executeQuery("SELECT COALESCE(MAX(" + coluna + "), 0) FROM " + tabela)) {
+            resultado.next();
+            maiorId = resultado.getLong(1);
+        }
+        long inicio = maiorId == 0 ? 1 : maiorId + INCREMENTO;
+        statement.execute("CREATE SEQUENCE " + sequencia + " START WITH " + inicio + " INCREMENT BY " + INCREMENTO);
+    }
+}
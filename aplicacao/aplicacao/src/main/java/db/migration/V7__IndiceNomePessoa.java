@@ -0,0 +1,30 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Migração que cria o índice {@code ix_cadastro_pessoa_nome}, utilizado nas consultas por prefixo do nome
+ * ({@code nome LIKE 'Mar%'}).
+ *
+ * <p>No PostgreSQL o índice usa a classe de operadores {@code varchar_pattern_ops}, sem a qual um índice comum só
+ * atende a consultas por prefixo quando a base usa a collation {@code C}. Essa classe de operadores não existe no H2
+ * dos testes, onde o índice é criado sem ela; por isso a migração é escrita em Java, como
+ * {@link V2__SequenciasIdentificadores}.</p>
+ *
+ * <p>Autor: João Cleber Dias Maciel</p>
+ */
+public class V7__IndiceNomePessoa extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        boolean postgreSql = "PostgreSQL".equals(context.getConnection().getMetaData().getDatabaseProductName());
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute("CREATE INDEX ix_cadastro_pessoa_nome ON cadastro_pessoa (nome"
+                    + (postgreSql ? " varchar_pattern_ops" : "") + ")");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Estrutura original do cadastro, anterior às migrações: pessoa associada a um contato e a um endereço em tabelas
+-- próprias, identificadores gerados por colunas IDENTITY e telefone gravado com a máscara (XX) XXXXX-XXXX.
+-- Bases já existentes, criadas antes das migrações, são registradas nesta versão (baseline) e seguem a partir da V2.
+
+CREATE TABLE cadastro_contato (
+    id_contato bigint GENERATED BY DEFAULT AS IDENTITY,
+    telefone   varchar(255),
+    CONSTRAINT pk_cadastro_contato PRIMARY KEY (id_contato)
+);
+
+CREATE TABLE cadastro_endereco (
+    id_endereco bigint GENERATED BY DEFAULT AS IDENTITY,
+    bairro      varchar(255),
+    CONSTRAINT pk_cadastro_endereco PRIMARY KEY (id_endereco)
+);
+
+CREATE TABLE cadastro_pessoa (
+    id_pessoa   bigint GENERATED BY DEFAULT AS IDENTITY,
+    nome        varchar(255),
+    id_endereco bigint,
+    id_contato  bigint,
+    CONSTRAINT pk_cadastro_pessoa PRIMARY KEY (id_pessoa),
+    CONSTRAINT uk_cadastro_pessoa_endereco UNIQUE (id_endereco),
+    CONSTRAINT uk_cadastro_pessoa_contato UNIQUE (id_contato),
+    CONSTRAINT fk_cadastro_pessoa_endereco FOREIGN KEY (id_endereco) REFERENCES cadastro_endereco (id_endereco),
+    CONSTRAINT fk_cadastro_pessoa_contato FOREIGN KEY (id_contato) REFERENCES cadastro_contato (id_contato)
+);
@@ -0,0 +1,3 @@
+-- Versão da pessoa para o controle de concorrência otimista (ETag/If-Match). As pessoas existentes começam na versão 0.
+
+ALTER TABLE cadastro_pessoa ADD COLUMN versao bigint DEFAULT 0 NOT NULL;
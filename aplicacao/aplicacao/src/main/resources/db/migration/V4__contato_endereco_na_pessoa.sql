@@ -0,0 +1,28 @@
+-- Contato e endereço passam a ser colunas de cadastro_pessoa: a pessoa completa é lida e gravada em uma única linha.
+-- O telefone, gravado com a máscara (XX) XXXX-XXXX ou (XX) XXXXX-XXXX, é convertido para o número empacotado de
+-- Telefone: DDD * 10^10, mais 10^9 para números de nove dígitos, mais o número. Por exemplo, (12) 34567-8910 passa a
+-- 121345678910. O índice único do telefone atende tanto à unicidade quanto à busca por igualdade de telefone.
+
+ALTER TABLE cadastro_pessoa ADD COLUMN telefone bigint;
+ALTER TABLE cadastro_pessoa ADD COLUMN bairro varchar(255);
+
+UPDATE cadastro_pessoa
+SET telefone = (SELECT CAST(SUBSTRING(contato.telefone FROM 2 FOR 2) AS bigint) * 10000000000
+                       + CASE WHEN CHAR_LENGTH(contato.telefone) = 15 THEN 1000000000 ELSE 0 END
+                       + CAST(SUBSTRING(contato.telefone FROM 6 FOR CHAR_LENGTH(contato.telefone) - 10)
+                              || SUBSTRING(contato.telefone FROM CHAR_LENGTH(contato.telefone) - 3 FOR 4) AS bigint)
+                FROM cadastro_contato contato
+                WHERE contato.id_contato = cadastro_pessoa.id_contato),
+    bairro   = (SELECT endereco.bairro
+                FROM cadastro_endereco endereco
+                WHERE endereco.id_endereco = cadastro_pessoa.id_endereco);
+
+ALTER TABLE cadastro_pessoa ADD CONSTRAINT uk_cadastro_pessoa_telefone UNIQUE (telefone);
+
+ALTER TABLE cadastro_pessoa DROP COLUMN id_contato;
+ALTER TABLE cadastro_pessoa DROP COLUMN id_endereco;
+
+DROP TABLE cadastro_contato;
+DROP TABLE cadastro_endereco;
+DROP SEQUENCE IF EXISTS cadastro_contato_seq;
+DROP SEQUENCE IF EXISTS cadastro_endereco_seq;
@@ -0,0 +1,20 @@
+-- Importações de pessoas a partir de arquivos CSV. Cada linha registra a situação da importação e o seu ponto de
+-- retomada (posicao em bytes e linha), gravado na mesma transação das pessoas incluídas em cada bloco.
+
+CREATE SEQUENCE cadastro_importacao_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE cadastro_importacao (
+    id_importacao         bigint       NOT NULL,
+    arquivo               varchar(500) NOT NULL,
+    situacao              varchar(20)  NOT NULL,
+    tamanho               bigint       NOT NULL,
+    posicao               bigint       NOT NULL,
+    linha                 bigint       NOT NULL,
+    incluidas             bigint       NOT NULL,
+    rejeitadas            bigint       NOT NULL,
+    inicio_execucao       timestamp with time zone,
+    linha_inicio_execucao bigint       NOT NULL,
+    fim                   timestamp with time zone,
+    mensagem              varchar(500),
+    CONSTRAINT pk_cadastro_importacao PRIMARY KEY (id_importacao)
+);
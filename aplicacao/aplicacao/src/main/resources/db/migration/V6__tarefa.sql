@@ -0,0 +1,27 @@
+-- Tarefas executadas em segundo plano pelo pool de trabalhadores de GerenciadorTarefas. Cada linha registra o tipo e
+-- os parâmetros da tarefa, a sua situação e o progresso informado pela execução, utilizado no cálculo da previsão de
+-- término. Tarefas pendentes ou em andamento são agendadas novamente na inicialização da aplicação.
+
+CREATE SEQUENCE core_tarefa_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE core_tarefa (
+    id_tarefa                   bigint        NOT NULL,
+    tipo                        varchar(100)  NOT NULL,
+    parametros                  varchar(4000),
+    situacao                    varchar(20)   NOT NULL,
+    total                       bigint        NOT NULL,
+    processados                 bigint        NOT NULL,
+    processados_inicio_execucao bigint        NOT NULL,
+    cancelamento_solicitado     boolean       NOT NULL,
+    criacao                     timestamp with time zone NOT NULL,
+    inicio_execucao             timestamp with time zone,
+    fim                         timestamp with time zone,
+    mensagem                    varchar(500),
+    CONSTRAINT pk_core_tarefa PRIMARY KEY (id_tarefa)
+);
+
+CREATE INDEX ix_core_tarefa_situacao ON core_tarefa (situacao);
+
+-- Tarefa que executa cada importação de pessoas.
+
+ALTER TABLE cadastro_importacao ADD COLUMN id_tarefa bigint;
@@ -0,0 +1,11 @@
+-- Versão da listagem de pessoas, devolvida no ETag de GET /cadastro/pessoa/listar. A única linha é incrementada na
+-- mesma transação de cada inclusão, alteração ou exclusão de pessoas, de modo que a versão muda junto com o commit dos
+-- dados e é a mesma em todas as instâncias da aplicação.
+
+CREATE TABLE cadastro_pessoa_listagem (
+    id_listagem smallint NOT NULL,
+    versao      bigint   NOT NULL,
+    CONSTRAINT pk_cadastro_pessoa_listagem PRIMARY KEY (id_listagem)
+);
+
+INSERT INTO cadastro_pessoa_listagem (id_listagem, versao) VALUES (1, 0);
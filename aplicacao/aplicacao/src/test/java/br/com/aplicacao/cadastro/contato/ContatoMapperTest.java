@@ -1,6 +1,7 @@
 package br.com.aplicacao.cadastro.contato;
 
 import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
 import org.junit.Test;
 
@@ -11,142 +12,95 @@ public class ContatoMapperTest {
     @Test
     public void test_converts_to_domain_valid_id_and_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone("123456789").build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(Telefone.parse("(12) 3456-7890")).build();
+        Contato contato = mapper.toDomain(contatoData, 1L);
         assertNotNull(contato);
         assertEquals(1L, contato.getId().longValue());
-        assertEquals("123456789", contato.getTelefone());
+        assertEquals("(12) 3456-7890", contato.getTelefone());
     }
 
     @Test
-    public void test_to_domain_handles_null_id_and_valid_telefone() {
+    public void test_converts_to_domain_null_id_and_valid_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(null).telefone("123456789").build();
+        ContatoData contatoData = ContatoData.builder().telefone(Telefone.parse("(12) 3456-7890")).build();
         Contato contato = mapper.toDomain(contatoData);
         assertNotNull(contato);
         assertNull(contato.getId());
-        assertEquals("123456789", contato.getTelefone());
+        assertEquals("(12) 3456-7890", contato.getTelefone());
     }
 
     @Test
-    public void test_to_domain_handles_valid_id_and_null_telefone() {
+    public void test_converts_to_domain_valid_id_and_null_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone(null).build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(null).build();
+        Contato contato = mapper.toDomain(contatoData, 1L);
         assertNotNull(contato);
         assertEquals(1L, contato.getId().longValue());
         assertNull(contato.getTelefone());
     }
 
     @Test
-    public void test_converts_both_id_and_telefone_as_null() {
+    public void test_converts_to_domain_null_id_and_null_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(null).telefone(null).build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(null).build();
+        Contato contato = mapper.toDomain(contatoData, null);
         assertNotNull(contato);
         assertNull(contato.getId());
         assertNull(contato.getTelefone());
     }
 
     @Test
-    public void test_converts_non_null_id_and_empty_telefone() {
+    public void test_converts_to_domain_nine_digit_telefone_with_mask() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone("").build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(Telefone.of(121345678910L)).build();
+        Contato contato = mapper.toDomain(contatoData, 1L);
         assertNotNull(contato);
         assertEquals(1L, contato.getId().longValue());
-        assertEquals("", contato.getTelefone());
+        assertEquals("(12) 34567-8910", contato.getTelefone());
     }
 
     @Test
-    public void test_handles_null_contatodata_input() {
+    public void test_converts_to_domain_null_contato_data() {
         ContatoMapper mapper = new ContatoMapper();
         Contato contato = mapper.toDomain((ContatoData) null);
         assertNull(contato);
     }
 
     @Test
-    public void test_converts_special_characters_in_telefone() {
-        ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone("!@#$%^&*()").build();
-        Contato contato = mapper.toDomain(contatoData);
-        assertNotNull(contato);
-        assertEquals(1L, contato.getId().longValue());
-        assertEquals("!@#$%^&*()", contato.getTelefone());
-    }
-
-    @Test
-    public void test_converts_maximum_length_telefone_string() {
-        String maxLengthTelefone = "12345678901234567890";
-        ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone(maxLengthTelefone).build();
-        Contato contato = mapper.toDomain(contatoData);
-        assertNotNull(contato);
-        assertEquals(1L, contato.getId().longValue());
-        assertEquals(maxLengthTelefone, contato.getTelefone());
-    }
-
-    @Test
-    public void test_converts_minimum_length_telefone_string() {
-        String minLengthTelefone = "1";
-        ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone(minLengthTelefone).build();
-        Contato contato = mapper.toDomain(contatoData);
-        assertNotNull(contato);
-        assertEquals(1L, contato.getId().longValue());
-        assertEquals(minLengthTelefone, contato.getTelefone());
-    }
-
-    @Test
-    public void test_converts_whitespace_only_telefone_string() {
-        String whitespaceTelefone = "   ";
+    public void test_converts_to_domain_keeps_leading_zeros_of_number() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone(whitespaceTelefone).build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(Telefone.parse("(01) 0012-0003")).build();
+        Contato contato = mapper.toDomain(contatoData, 1L);
         assertNotNull(contato);
-        assertEquals(1L, contato.getId().longValue());
-        assertEquals(whitespaceTelefone, contato.getTelefone());
+        assertEquals("(01) 0012-0003", contato.getTelefone());
     }
 
     @Test
     public void test_handles_negative_id_correctly() {
         ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(-1L).telefone("123456789").build();
-        Contato contato = mapper.toDomain(contatoData);
+        ContatoData contatoData = ContatoData.builder().telefone(Telefone.parse("(12) 3456-7890")).build();
+        Contato contato = mapper.toDomain(contatoData, -1L);
         assertNotNull(contato);
         assertEquals(-1L, contato.getId().longValue());
-        assertEquals("123456789", contato.getTelefone());
-    }
-
-    @Test
-    public void test_converts_leading_trailing_spaces_in_telefone() {
-        String telefoneWithSpaces = " 123456789 ";
-        ContatoMapper mapper = new ContatoMapper();
-        ContatoData contatoData = ContatoData.builder().id(1L).telefone(telefoneWithSpaces).build();
-        Contato contato = mapper.toDomain(contatoData);
-        assertNotNull(contato);
-        assertEquals(1L, contato.getId().longValue());
-        assertEquals(telefoneWithSpaces, contato.getTelefone());
+        assertEquals("(12) 3456-7890", contato.getTelefone());
     }
 
     @Test
     public void test_converts_to_data_valid_id_and_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        Contato contato = Contato.builder().id(1L).telefone("123456789").build();
+        Contato contato = Contato.builder().id(1L).telefone("(12) 3456-7890").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(1L, contatoData.getId().longValue());
-        assertEquals("123456789", contatoData.getTelefone());
+        assertEquals(Telefone.parse("(12) 3456-7890"), contatoData.getTelefone());
     }
 
     @Test
     public void test_to_data_handles_null_id_and_valid_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        Contato contato = Contato.builder().id(null).telefone("123456789").build();
+        Contato contato = Contato.builder().id(null).telefone("(12) 34567-8910").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertNull(contatoData.getId());
-        assertEquals("123456789", contatoData.getTelefone());
+        assertEquals(121345678910L, contatoData.getTelefone().getValor());
     }
 
     @Test
@@ -155,7 +109,6 @@ public class ContatoMapperTest {
         Contato contato = Contato.builder().id(1L).telefone(null).build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(1L, contatoData.getId().longValue());
         assertNull(contatoData.getTelefone());
     }
 
@@ -165,18 +118,58 @@ public class ContatoMapperTest {
         Contato contato = Contato.builder().id(null).telefone(null).build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertNull(contatoData.getId());
         assertNull(contatoData.getTelefone());
     }
 
     @Test
     public void test_returns_matching_id_and_telefone() {
         ContatoMapper mapper = new ContatoMapper();
-        Contato contato = Contato.builder().id(1L).telefone("123456789").build();
+        Contato contato = Contato.builder().id(1L).telefone("(12) 3456-7890").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(contato.getId(), contatoData.getId());
-        assertEquals(contato.getTelefone(), contatoData.getTelefone());
+        assertEquals(contato.getTelefone(), contatoData.getTelefone().formatar());
+    }
+
+    @Test
+    public void test_to_domain_keeps_converted_telefone() {
+        ContatoMapper mapper = new ContatoMapper();
+        Telefone telefone = Telefone.parse("(12) 34567-8910");
+        Contato contato = mapper.toDomain(ContatoData.builder().telefone(telefone).build(), 1L);
+        assertSame(telefone, contato.telefoneNormalizado());
+        assertSame(telefone, mapper.toData(contato).getTelefone());
+    }
+
+    @Test
+    public void test_to_data_reuses_telefone_converted_by_validation() {
+        ContatoMapper mapper = new ContatoMapper();
+        Contato contato = new Contato("(12) 34567-8910");
+        assertTrue(contato.telefoneValido());
+        assertSame(contato.telefoneNormalizado(), mapper.toData(contato).getTelefone());
+    }
+
+    @Test
+    public void test_changing_telefone_discards_previous_conversion() {
+        Contato contato = new Contato("(12) 34567-8910");
+        contato.telefoneNormalizado();
+        contato.setTelefone("(12) 3456-7890");
+        assertEquals(120034567890L, contato.telefoneNormalizado().getValor());
+    }
+
+    @Test
+    public void test_to_data_rejects_invalid_telefone() {
+        ContatoMapper mapper = new ContatoMapper();
+        Contato contato = new Contato("12345");
+        assertFalse(contato.telefoneValido());
+        assertThrows(IllegalArgumentException.class, () -> mapper.toData(contato));
+    }
+
+    @Test
+    public void test_round_trip_preserves_telefone() {
+        ContatoMapper mapper = new ContatoMapper();
+        Contato contato = Contato.builder().id(1L).telefone("(98) 76543-2100").build();
+        Contato convertido = mapper.toDomain(mapper.toData(contato), contato.getId());
+        assertEquals(contato.getId(), convertido.getId());
+        assertEquals(contato.getTelefone(), convertido.getTelefone());
     }
 
     @Test
@@ -190,62 +183,57 @@ public class ContatoMapperTest {
     public void test_contato_has_empty_telefone_string() {
         ContatoMapper mapper = new ContatoMapper();
         Contato contato = Contato.builder().id(1L).telefone("").build();
-        ContatoData contatoData = mapper.toData(contato);
-        assertNotNull(contatoData);
-        assertEquals(1L, contatoData.getId().longValue());
-        assertEquals("", contatoData.getTelefone());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> mapper.toData(contato));
+        assertEquals("Telefone inválido", exception.getMessage());
     }
 
     @Test
     public void test_contato_has_special_characters_in_telefone() {
         ContatoMapper mapper = new ContatoMapper();
         Contato contato = Contato.builder().id(1L).telefone("!@#$%^&*()").build();
-        ContatoData contatoData = mapper.toData(contato);
-        assertNotNull(contatoData);
-        assertEquals(1L, contatoData.getId().longValue());
-        assertEquals("!@#$%^&*()", contatoData.getTelefone());
+        assertThrows(IllegalArgumentException.class, () -> mapper.toData(contato));
     }
 
     @Test
     public void test_contato_has_very_long_telefone_string() {
         ContatoMapper mapper = new ContatoMapper();
-        String longTelefone = "1".repeat(1000);
-        Contato contato = Contato.builder().id(1L).telefone(longTelefone).build();
-        ContatoData contatoData = mapper.toData(contato);
-        assertNotNull(contatoData);
-        assertEquals(1L, contatoData.getId().longValue());
-        assertEquals(longTelefone, contatoData.getTelefone());
+        Contato contato = Contato.builder().id(1L).telefone("1".repeat(1000)).build();
+        assertThrows(IllegalArgumentException.class, () -> mapper.toData(contato));
+    }
+
+    @Test
+    public void test_contato_has_unmasked_telefone() {
+        ContatoMapper mapper = new ContatoMapper();
+        Contato contato = Contato.builder().id(1L).telefone("12345678901").build();
+        assertThrows(IllegalArgumentException.class, () -> mapper.toData(contato));
     }
 
     @Test
     public void test_contato_has_negative_id() {
         ContatoMapper mapper = new ContatoMapper();
-        Contato contato = Contato.builder().id(-1L).telefone("123456789").build();
+        Contato contato = Contato.builder().id(-1L).telefone("(12) 3456-7890").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(-1L, contatoData.getId().longValue());
-        assertEquals("123456789", contatoData.getTelefone());
+        assertEquals(Telefone.parse("(12) 3456-7890"), contatoData.getTelefone());
     }
 
     @Test
     public void test_contato_maximum_possible_id_value() {
         ContatoMapper mapper = new ContatoMapper();
         Long maxId = Long.MAX_VALUE;
-        Contato contato = Contato.builder().id(maxId).telefone("123456789").build();
+        Contato contato = Contato.builder().id(maxId).telefone("(12) 3456-7890").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(maxId, contatoData.getId());
-        assertEquals("123456789", contatoData.getTelefone());
+        assertEquals(Telefone.parse("(12) 3456-7890"), contatoData.getTelefone());
     }
 
     @Test
     public void test_contato_minimum_possible_id_value() {
         ContatoMapper mapper = new ContatoMapper();
         Long minId = Long.MIN_VALUE;
-        Contato contato = Contato.builder().id(minId).telefone("123456789").build();
+        Contato contato = Contato.builder().id(minId).telefone("(12) 3456-7890").build();
         ContatoData contatoData = mapper.toData(contato);
         assertNotNull(contatoData);
-        assertEquals(minId, contatoData.getId());
-        assertEquals("123456789", contatoData.getTelefone());
+        assertEquals(Telefone.parse("(12) 3456-7890"), contatoData.getTelefone());
     }
 }
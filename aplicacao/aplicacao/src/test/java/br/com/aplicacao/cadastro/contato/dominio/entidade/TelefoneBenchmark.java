@@ -0,0 +1,73 @@
+package br.com.aplicacao.cadastro.contato.dominio.entidade;
+
+import br.com.aplicacao.cadastro.contato.dominio.enums.TelefoneEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara a validação de telefones por expressão regular com o parser de {@link Telefone}.
+ *
+ * <p>Executar pela IDE através do método {@code main}, ou pela linha de comando após {@code mvn test-compile}:</p>
+ * <pre>{@code
+ *     mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *     java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *         br.com.aplicacao.cadastro.contato.dominio.entidade.TelefoneBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TelefoneBenchmark {
+
+    private static final Pattern MASCARA = Pattern.compile(TelefoneEnum.TELEFONE_MASCARA_REGEX.getRegex());
+
+    @Param({"(12) 34567-8910", "(12) 3456-7890", "(12) 3456-789x"})
+    private String texto;
+
+    private Telefone telefone;
+
+    @Setup
+    public void setUp() {
+        telefone = Telefone.valido(texto) ? Telefone.parse(texto) : Telefone.parse("(12) 34567-8910");
+    }
+
+    @Benchmark
+    public boolean regexStringMatches() {
+        return texto.matches(TelefoneEnum.TELEFONE_MASCARA_REGEX.getRegex());
+    }
+
+    @Benchmark
+    public boolean regexPrecompilada() {
+        return MASCARA.matcher(texto).matches();
+    }
+
+    @Benchmark
+    public boolean parserValido() {
+        return Telefone.valido(texto);
+    }
+
+    @Benchmark
+    public long parserEmpacotar() {
+        return Telefone.empacotar(texto);
+    }
+
+    @Benchmark
+    public String formatar() {
+        return telefone.formatar();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TelefoneBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.aplicacao.cadastro.contato.dominio.entidade;
+
+import br.com.aplicacao.cadastro.contato.dominio.enums.TelefoneEnum;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TelefoneTest {
+
+    private static final List<String> VALIDOS = List.of("(12) 3456-7890", "(12) 34567-8910", "(00) 0000-0000",
+            "(99) 99999-9999", "(01) 00012-0003");
+
+    private static final List<String> INVALIDOS = List.of("", " ", "123", "1234567890", "12345678901",
+            "(12)3456-7890", "(12) 3456 7890", "(12) 345-67890", "(1a) 3456-7890", "(12) 3456-789a", "[12] 3456-7890",
+            "(12) 34567-891", "(12) 345678-9101", " (12) 3456-7890", "(12) 3456-7890 ", "(12) 3456–7890",
+            "(12) ３456-7890");
+
+    @Test
+    public void test_parse_packs_ddd_and_eight_digit_number() {
+        Telefone telefone = Telefone.parse("(12) 3456-7890");
+        assertEquals(120034567890L, telefone.getValor());
+        assertEquals(12, telefone.getDdd());
+        assertEquals(34567890, telefone.getNumero());
+        assertFalse(telefone.isNoveDigitos());
+    }
+
+    @Test
+    public void test_parse_packs_ddd_and_nine_digit_number() {
+        Telefone telefone = Telefone.parse("(12) 34567-8910");
+        assertEquals(121345678910L, telefone.getValor());
+        assertEquals(12, telefone.getDdd());
+        assertEquals(345678910, telefone.getNumero());
+        assertTrue(telefone.isNoveDigitos());
+    }
+
+    @Test
+    public void test_eight_and_nine_digit_numbers_with_same_digits_are_different() {
+        assertNotEquals(Telefone.parse("(12) 1234-5678"), Telefone.parse("(12) 01234-5678"));
+    }
+
+    @Test
+    public void test_formatar_restores_the_mask() {
+        for (String texto : VALIDOS) {
+            assertEquals(texto, Telefone.parse(texto).formatar());
+            assertEquals(texto, Telefone.parse(texto).toString());
+        }
+    }
+
+    @Test
+    public void test_of_restores_the_parsed_value() {
+        for (String texto : VALIDOS) {
+            Telefone telefone = Telefone.parse(texto);
+            assertEquals(telefone, Telefone.of(telefone.getValor()));
+            assertEquals(telefone.hashCode(), Telefone.of(telefone.getValor()).hashCode());
+        }
+    }
+
+    @Test
+    public void test_of_rejects_values_that_are_not_telefones() {
+        assertThrows(IllegalArgumentException.class, () -> Telefone.of(-1L));
+        assertThrows(IllegalArgumentException.class, () -> Telefone.of(1_000_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> Telefone.of(122345678910L));
+        assertThrows(IllegalArgumentException.class, () -> Telefone.of(120345678910L));
+    }
+
+    @Test
+    public void test_invalid_texts_are_rejected() {
+        for (String texto : INVALIDOS) {
+            assertFalse(texto, Telefone.valido(texto));
+            assertEquals(texto, Telefone.INVALIDO, Telefone.empacotar(texto));
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> Telefone.parse(texto));
+            assertEquals("Telefone inválido", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void test_null_is_invalid() {
+        assertFalse(Telefone.valido(null));
+        assertThrows(IllegalArgumentException.class, () -> Telefone.parse(null));
+    }
+
+    @Test
+    public void test_parser_agrees_with_mask_regex() {
+        for (String texto : VALIDOS) {
+            assertEquals(texto, texto.matches(TelefoneEnum.TELEFONE_MASCARA_REGEX.getRegex()), Telefone.valido(texto));
+        }
+        for (String texto : INVALIDOS) {
+            assertEquals(texto, texto.matches(TelefoneEnum.TELEFONE_MASCARA_REGEX.getRegex()), Telefone.valido(texto));
+        }
+    }
+}
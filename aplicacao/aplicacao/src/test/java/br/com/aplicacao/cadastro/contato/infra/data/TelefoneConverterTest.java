@@ -0,0 +1,27 @@
+package br.com.aplicacao.cadastro.contato.infra.data;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TelefoneConverterTest {
+
+    private final TelefoneConverter converter = new TelefoneConverter();
+
+    @Test
+    public void test_stores_packed_value() {
+        assertEquals(Long.valueOf(121345678910L), converter.convertToDatabaseColumn(Telefone.parse("(12) 34567-8910")));
+    }
+
+    @Test
+    public void test_reads_packed_value() {
+        assertEquals(Telefone.parse("(12) 3456-7890"), converter.convertToEntityAttribute(120034567890L));
+    }
+
+    @Test
+    public void test_handles_null_in_both_directions() {
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -11,34 +11,34 @@ public class EnderecoMapperTest {
     @Test
     public void test_converts_valid_enderecoData_to_endereco_correctly() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertNotNull(endereco);
-        assertEquals(enderecoData.getId(), endereco.getId());
+        assertEquals(1L, (long) endereco.getId());
         assertEquals(enderecoData.getBairro(), endereco.getBairro());
     }
 
     @Test
     public void test_maps_id_field_from_enderecoData_to_endereco() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
-        assertEquals(enderecoData.getId(), endereco.getId());
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
+        assertEquals(1L, (long) endereco.getId());
     }
 
     @Test
     public void test_maps_bairro_field_from_enderecoData_to_endereco() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertEquals(enderecoData.getBairro(), endereco.getBairro());
     }
 
     @Test
     public void test_returns_fully_populated_endereco_when_enderecoData_is_fully_populated() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertNotNull(endereco);
         assertEquals(1L, (long) endereco.getId());
         assertEquals("Centro", endereco.getBairro());
@@ -54,8 +54,8 @@ public class EnderecoMapperTest {
     @Test
     public void test_handles_enderecoData_with_null_id_gracefully() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(null).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, null);
         assertNull(endereco.getId());
         assertEquals("Centro", endereco.getBairro());
     }
@@ -63,8 +63,8 @@ public class EnderecoMapperTest {
     @Test
     public void test_handles_enderecoData_with_null_bairro_gracefully() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro(null).build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro(null).build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertEquals(1L, (long) endereco.getId());
         assertNull(endereco.getBairro());
     }
@@ -72,8 +72,8 @@ public class EnderecoMapperTest {
     @Test
     public void test_handles_enderecoData_with_empty_bairro_string() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertEquals(1L, (long) endereco.getId());
         assertEquals("", endereco.getBairro());
     }
@@ -81,8 +81,8 @@ public class EnderecoMapperTest {
     @Test
     public void test_handles_enderecoData_with_special_characters_in_bairro() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("@#%&*").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("@#%&*").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertEquals(1L, (long) endereco.getId());
         assertEquals("@#%&*", endereco.getBairro());
     }
@@ -91,8 +91,8 @@ public class EnderecoMapperTest {
     public void test_handles_enderecoData_with_maximum_length_strings() {
         String maxLengthString = "a".repeat(255);
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro(maxLengthString).build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro(maxLengthString).build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
         assertEquals(1L, (long) endereco.getId());
         assertEquals(maxLengthString, endereco.getBairro());
     }
@@ -100,8 +100,8 @@ public class EnderecoMapperTest {
     @Test
     public void test_ensures_immutability_of_endereco_object_after_conversion() {
         EnderecoMapper mapper = new EnderecoMapper();
-        EnderecoData enderecoData = EnderecoData.builder().id(1L).bairro("Centro").build();
-        Endereco endereco = mapper.toDomain(enderecoData);
+        EnderecoData enderecoData = EnderecoData.builder().bairro("Centro").build();
+        Endereco endereco = mapper.toDomain(enderecoData, 1L);
 
         enderecoData.setBairro("Changed");
 
@@ -129,16 +129,15 @@ public class EnderecoMapperTest {
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
         assertNotNull(enderecoData);
-        assertEquals(endereco.getId(), enderecoData.getId());
         assertEquals(endereco.getBairro(), enderecoData.getBairro());
     }
 
     @Test
-    public void preserves_id_field_from_endereco_to_endereco_data() {
+    public void does_not_keep_id_field_from_endereco_in_endereco_data() {
         Endereco endereco = Endereco.builder().id(1L).bairro("Centro").build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-        assertEquals(endereco.getId(), enderecoData.getId());
+        assertNull(mapper.toDomain(enderecoData).getId());
     }
 
     @Test
@@ -168,7 +167,6 @@ public class EnderecoMapperTest {
         Endereco endereco = Endereco.builder().id(null).bairro("Centro").build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-        assertNull(enderecoData.getId());
         assertEquals(endereco.getBairro(), enderecoData.getBairro());
     }
 
@@ -177,7 +175,6 @@ public class EnderecoMapperTest {
         Endereco endereco = Endereco.builder().id(1L).bairro(null).build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-        assertEquals(endereco.getId(), enderecoData.getId());
         assertNull(enderecoData.getBairro());
     }
 
@@ -186,7 +183,6 @@ public class EnderecoMapperTest {
         Endereco endereco = Endereco.builder().id(null).bairro(null).build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-        assertNull(enderecoData.getId());
         assertNull(enderecoData.getBairro());
     }
 
@@ -195,7 +191,6 @@ public class EnderecoMapperTest {
         Endereco endereco = Endereco.builder().id(1L).bairro("Centro").build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-        assertEquals(1L, (long) enderecoData.getId());
         assertEquals("Centro", enderecoData.getBairro());
     }
 
@@ -208,7 +203,6 @@ public class EnderecoMapperTest {
         endereco.setId(2L);
         endereco.setBairro("Changed");
 
-        assertEquals(1L, (long) enderecoData.getId());
         assertEquals("Centro", enderecoData.getBairro());
     }
 
@@ -218,8 +212,6 @@ public class EnderecoMapperTest {
         Endereco endereco = Endereco.builder().id(largeId).bairro("Centro").build();
         EnderecoMapper mapper = new EnderecoMapper();
         EnderecoData enderecoData = mapper.toData(endereco);
-
-        assertEquals(largeId, enderecoData.getId());
         assertEquals("Centro", enderecoData.getBairro());
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package br.com.aplicacao.cadastro.pessoa;
 
 import br.com.aplicacao.cadastro.contato.ContatoMapper;
 import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
 import br.com.aplicacao.cadastro.endereco.EnderecoMapper;
 import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
@@ -23,15 +24,15 @@ public class PessoaMapperTest {
         EnderecoMapper enderecoMapper = mock(EnderecoMapper.class);
         PessoaMapper pessoaMapper = new PessoaMapper(contatoMapper, enderecoMapper);
 
-        EnderecoData enderecoData = new EnderecoData(1L, "Bairro");
-        ContatoData contatoData = new ContatoData(1L, "123456789");
+        EnderecoData enderecoData = new EnderecoData("Bairro");
+        ContatoData contatoData = new ContatoData(Telefone.parse("(12) 3456-7890"));
         PessoaData pessoaData = new PessoaData(1L, "John Doe", enderecoData, contatoData);
 
         Endereco endereco = new Endereco(1L, "Bairro");
-        Contato contato = new Contato(1L, "123456789");
+        Contato contato = new Contato(1L, "(12) 3456-7890");
 
-        when(enderecoMapper.toDomain(enderecoData)).thenReturn(endereco);
-        when(contatoMapper.toDomain(contatoData)).thenReturn(contato);
+        when(enderecoMapper.toDomain(enderecoData, 1L)).thenReturn(endereco);
+        when(contatoMapper.toDomain(contatoData, 1L)).thenReturn(contato);
 
         Pessoa result = pessoaMapper.toDomain(pessoaData);
 
@@ -48,11 +49,11 @@ public class PessoaMapperTest {
         PessoaMapper pessoaMapper = new PessoaMapper(contatoMapper, enderecoMapper);
 
         Endereco endereco = new Endereco(1L, "Bairro");
-        Contato contato = new Contato(1L, "123456789");
+        Contato contato = new Contato(1L, "(12) 3456-7890");
         Pessoa pessoa = new Pessoa(1L, "John Doe", endereco, contato);
 
-        EnderecoData enderecoData = new EnderecoData(1L, "Bairro");
-        ContatoData contatoData = new ContatoData(1L, "123456789");
+        EnderecoData enderecoData = new EnderecoData("Bairro");
+        ContatoData contatoData = new ContatoData(Telefone.parse("(12) 3456-7890"));
 
         when(enderecoMapper.toData(endereco)).thenReturn(enderecoData);
         when(contatoMapper.toData(contato)).thenReturn(contatoData);
@@ -71,15 +72,15 @@ public class PessoaMapperTest {
         EnderecoMapper enderecoMapper = mock(EnderecoMapper.class);
         PessoaMapper pessoaMapper = new PessoaMapper(contatoMapper, enderecoMapper);
 
-        EnderecoData enderecoData = new EnderecoData(1L, "Bairro");
-        ContatoData contatoData = new ContatoData(1L, "123456789");
+        EnderecoData enderecoData = new EnderecoData("Bairro");
+        ContatoData contatoData = new ContatoData(Telefone.parse("(12) 3456-7890"));
         PessoaData pessoaData = new PessoaData(1L, "John Doe", enderecoData, contatoData);
 
         Endereco endereco = new Endereco(1L, "Bairro");
-        Contato contato = new Contato(1L, "123456789");
+        Contato contato = new Contato(1L, "(12) 3456-7890");
 
-        when(enderecoMapper.toDomain(enderecoData)).thenReturn(endereco);
-        when(contatoMapper.toDomain(contatoData)).thenReturn(contato);
+        when(enderecoMapper.toDomain(enderecoData, 1L)).thenReturn(endereco);
+        when(contatoMapper.toDomain(contatoData, 1L)).thenReturn(contato);
 
         Pessoa result = pessoaMapper.toDomain(pessoaData);
 
@@ -96,11 +97,11 @@ public class PessoaMapperTest {
         PessoaMapper pessoaMapper = new PessoaMapper(contatoMapper, enderecoMapper);
 
         Endereco endereco = new Endereco(1L, "Bairro");
-        Contato contato = new Contato(1L, "123456789");
+        Contato contato = new Contato(1L, "(12) 3456-7890");
         Pessoa pessoa = new Pessoa(1L, "John Doe", endereco, contato);
 
-        EnderecoData enderecoData = new EnderecoData(1L, "Bairro");
-        ContatoData contatoData = new ContatoData(1L, "123456789");
+        EnderecoData enderecoData = new EnderecoData("Bairro");
+        ContatoData contatoData = new ContatoData(Telefone.parse("(12) 3456-7890"));
 
         when(enderecoMapper.toData(endereco)).thenReturn(enderecoData);
         when(contatoMapper.toData(contato)).thenReturn(contatoData);
@@ -134,4 +135,18 @@ public class PessoaMapperTest {
 
         assertNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_toDomain_assigns_pessoa_id_to_embedded_endereco_and_contato() {
+        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaData pessoaData = new PessoaData(7L, "John Doe", new EnderecoData("Bairro"),
+                new ContatoData(Telefone.parse("(12) 3456-7890")));
+
+        Pessoa result = pessoaMapper.toDomain(pessoaData);
+
+        assertEquals(7L, result.getEndereco().getId().longValue());
+        assertEquals("Bairro", result.getEndereco().getBairro());
+        assertEquals(7L, result.getContato().getId().longValue());
+        assertEquals("(12) 3456-7890", result.getContato().getTelefone());
+    }
+}
@@ -0,0 +1,340 @@
+package br.com.aplicacao.cadastro.pessoa.aplicacao;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.SituacaoImportacao;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaLoteRegras;
+import br.com.aplicacao.cadastro.pessoa.dto.ImportacaoPessoaDto;
+import br.com.aplicacao.cadastro.pessoa.infra.ImportacaoPessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.data.ImportacaoPessoaData;
+import br.com.aplicacao.core.dto.ErroItemDto;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import br.com.aplicacao.core.dto.TarefaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.tarefa.ExecucaoTarefa;
+import br.com.aplicacao.core.tarefa.GerenciadorTarefas;
+import br.com.aplicacao.core.tarefa.SituacaoTarefa;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ImportacaoPessoaServiceTest {
+
+    private static final String CSV = "nome,telefone,bairro\n"
+            + "Ana,(31) 98765-0001,Centro\n"
+            + "Bruno,(31) 98765-0002,Savassi\n"
+            + "invalido,(31) 98765-0003,Centro\n"
+            + "Dora,(31) 98765-0004\n"
+            + "Eva,(31) 98765-0005,Lourdes\n";
+
+    private final Map<Long, ImportacaoPessoaData> gravadas = new HashMap<>();
+    private final ImportacaoPessoaDataRepository repository = mock(ImportacaoPessoaDataRepository.class);
+    private final IncluirPessoaLoteRegras incluirPessoaLoteRegras = mock(IncluirPessoaLoteRegras.class);
+    private final GerenciadorTarefas gerenciadorTarefas = mock(GerenciadorTarefas.class);
+    private final Execucao execucao = new Execucao();
+    private final List<List<String>> blocos = new ArrayList<>();
+    private Path diretorio;
+    private ImportacaoPessoaService service;
+
+    @Before
+    public void setUp() throws IOException {
+        diretorio = Files.createTempDirectory("importacao-teste");
+        service = novoServico(Clock.systemUTC());
+        when(repository.save(any(ImportacaoPessoaData.class))).thenAnswer(invocacao -> {
+            ImportacaoPessoaData importacao = invocacao.getArgument(0);
+            if (importacao.getId() == null) importacao.setId((long) gravadas.size() + 1);
+            gravadas.put(importacao.getId(), copiar(importacao));
+            return copiar(importacao);
+        });
+        when(repository.findById(any())).thenAnswer(invocacao -> Optional.ofNullable(gravadas.get(invocacao.<Long>getArgument(0))).map(ImportacaoPessoaServiceTest::copiar));
+        when(incluirPessoaLoteRegras.execute(anyList())).thenAnswer(invocacao -> {
+            List<Pessoa> pessoas = invocacao.getArgument(0);
+            blocos.add(pessoas.stream().map(Pessoa::getNome).toList());
+            List<Long> ids = new ArrayList<>();
+            List<ErroItemDto> erros = new ArrayList<>();
+            for (int i = 0; i < pessoas.size(); i++) {
+                boolean valida = !"invalido".equals(pessoas.get(i).getNome());
+                ids.add(valida ? (long) i : null);
+                if (!valida) erros.add(new ErroItemDto(i, "Nome inválido"));
+            }
+            return new LoteResultadoDto(ids, erros);
+        });
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (var arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) Files.delete(arquivo);
+        }
+        Files.delete(diretorio);
+    }
+
+    @Test
+    public void test_imports_in_chunks_and_counts_rejected_lines() throws IOException {
+        Long id = receberSemProcessar(CSV);
+
+        service.processar(id, execucao);
+
+        ImportacaoPessoaDto importacao = service.consultar(id);
+        assertEquals(SituacaoImportacao.CONCLUIDA, importacao.getSituacao());
+        assertEquals(List.of(List.of("Ana", "Bruno"), List.of("invalido"), List.of("Eva")), blocos);
+        assertEquals(6, importacao.getLinhas());
+        assertEquals(3, importacao.getIncluidas());
+        assertEquals(2, importacao.getRejeitadas());
+        assertEquals(CSV.getBytes(StandardCharsets.UTF_8).length, importacao.getProcessados());
+        assertEquals(100.0, importacao.getPercentual(), 0.0);
+        assertFalse(Files.exists(Path.of(gravadas.get(id).getArquivo())));
+    }
+
+    @Test
+    public void test_each_chunk_records_its_checkpoint() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        List<Long> posicoes = new ArrayList<>();
+        doAnswer(invocacao -> {
+            posicoes.add(gravadas.get(id).getPosicao());
+            List<Pessoa> pessoas = invocacao.getArgument(0);
+            return new LoteResultadoDto(pessoas.stream().map(pessoa -> 1L).toList(), List.of());
+        }).when(incluirPessoaLoteRegras).execute(anyList());
+
+        service.processar(id, execucao);
+
+        long aposBruno = ("nome,telefone,bairro\n" + "Ana,(31) 98765-0001,Centro\n" + "Bruno,(31) 98765-0002,Savassi\n").length();
+        long aposDora = aposBruno + ("invalido,(31) 98765-0003,Centro\n" + "Dora,(31) 98765-0004\n").length();
+        assertEquals(List.of(0L, aposBruno, aposDora), posicoes);
+        assertEquals(CSV.length(), gravadas.get(id).getPosicao());
+        assertEquals(List.of(aposBruno, aposDora, (long) CSV.length()), execucao.progresso);
+    }
+
+    @Test
+    public void test_resumes_after_the_last_committed_chunk() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        ImportacaoPessoaData importacao = gravadas.get(id);
+        importacao.setSituacao(SituacaoImportacao.EM_ANDAMENTO);
+        importacao.setPosicao(("nome,telefone,bairro\n" + "Ana,(31) 98765-0001,Centro\n" + "Bruno,(31) 98765-0002,Savassi\n").length());
+        importacao.setLinha(3);
+        importacao.setIncluidas(2);
+
+        service.processar(id, execucao);
+
+        assertEquals(List.of(List.of("invalido"), List.of("Eva")), blocos);
+        ImportacaoPessoaDto resultado = service.consultar(id);
+        assertEquals(SituacaoImportacao.CONCLUIDA, resultado.getSituacao());
+        assertEquals(6, resultado.getLinhas());
+        assertEquals(3, resultado.getIncluidas());
+        assertEquals(2, resultado.getRejeitadas());
+    }
+
+    @Test
+    public void test_failed_chunk_keeps_previous_checkpoint_and_can_be_resumed() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        doReturn(new LoteResultadoDto(List.of(1L, 2L), List.of()))
+                .doThrow(new IllegalStateException("Banco indisponível"))
+                .when(incluirPessoaLoteRegras).execute(anyList());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> service.processar(id, execucao));
+
+        assertEquals("Banco indisponível", exception.getMessage());
+        ImportacaoPessoaDto falha = service.consultar(id);
+        assertEquals(SituacaoImportacao.FALHOU, falha.getSituacao());
+        assertEquals("Banco indisponível", falha.getMensagem());
+        assertEquals(3, falha.getLinhas());
+        assertEquals(2, falha.getIncluidas());
+
+        reset(incluirPessoaLoteRegras);
+        when(incluirPessoaLoteRegras.execute(anyList())).thenAnswer(invocacao -> {
+            List<Pessoa> pessoas = invocacao.getArgument(0);
+            blocos.add(pessoas.stream().map(Pessoa::getNome).toList());
+            return new LoteResultadoDto(pessoas.stream().map(pessoa -> 1L).toList(), List.of());
+        });
+        service.processar(id, execucao);
+
+        assertEquals(List.of(List.of("invalido"), List.of("Eva")), blocos);
+        assertEquals(SituacaoImportacao.CONCLUIDA, service.consultar(id).getSituacao());
+    }
+
+    @Test
+    public void test_resuming_without_the_file_fails_with_clear_message() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        Path arquivo = Path.of(repository.findById(id).orElseThrow().getArquivo());
+        Files.delete(arquivo);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> service.processar(id, execucao));
+
+        ImportacaoPessoaDto falha = service.consultar(id);
+        assertEquals(SituacaoImportacao.FALHOU, falha.getSituacao());
+        assertEquals(exception.getMessage(), falha.getMensagem());
+        assertTrue(falha.getMensagem().startsWith("Arquivo da importação não encontrado em " + arquivo));
+        verify(incluirPessoaLoteRegras, never()).execute(anyList());
+    }
+
+    @Test
+    public void test_received_file_is_submitted_as_background_task() {
+        when(gerenciadorTarefas.submeter(eq(ImportacaoPessoaService.TIPO), anyString()))
+                .thenReturn(TarefaDto.builder().id(40L).situacao(SituacaoTarefa.PENDENTE).build());
+
+        ImportacaoPessoaDto recebida = service.receber(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(SituacaoImportacao.PENDENTE, recebida.getSituacao());
+        assertEquals(CSV.length(), recebida.getTamanho());
+        assertEquals(Long.valueOf(40L), recebida.getIdTarefa());
+        assertEquals(Long.valueOf(40L), gravadas.get(recebida.getId()).getIdTarefa());
+        verify(gerenciadorTarefas).submeter(ImportacaoPessoaService.TIPO, String.valueOf(recebida.getId()));
+        assertTrue(Files.exists(Path.of(gravadas.get(recebida.getId()).getArquivo())));
+    }
+
+    @Test
+    public void test_task_execution_processes_the_import_in_its_parameters() throws Exception {
+        Long id = receberSemProcessar(CSV);
+        execucao.parametros = String.valueOf(id);
+
+        service.executar(execucao);
+
+        assertEquals(SituacaoImportacao.CONCLUIDA, service.consultar(id).getSituacao());
+    }
+
+    @Test
+    public void test_cancelled_task_stops_after_the_current_chunk() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        execucao.cancelada = true;
+
+        service.processar(id, execucao);
+
+        ImportacaoPessoaDto cancelada = service.consultar(id);
+        assertEquals(SituacaoImportacao.CANCELADA, cancelada.getSituacao());
+        assertEquals(List.of(List.of("Ana", "Bruno")), blocos);
+        assertEquals(3, cancelada.getLinhas());
+        assertTrue(Files.exists(Path.of(gravadas.get(id).getArquivo())));
+    }
+
+    @Test
+    public void test_resuming_submits_a_new_task_once_the_previous_one_ended() {
+        Long id = receberSemProcessar(CSV);
+        gravadas.get(id).setSituacao(SituacaoImportacao.CANCELADA);
+        gravadas.get(id).setIdTarefa(40L);
+        when(gerenciadorTarefas.consultar(40L)).thenReturn(TarefaDto.builder().id(40L).situacao(SituacaoTarefa.CANCELADA).build());
+        when(gerenciadorTarefas.submeter(ImportacaoPessoaService.TIPO, String.valueOf(id)))
+                .thenReturn(TarefaDto.builder().id(41L).situacao(SituacaoTarefa.PENDENTE).build());
+
+        assertEquals(Long.valueOf(41L), service.retomar(id).getIdTarefa());
+    }
+
+    @Test
+    public void test_resuming_an_open_task_does_not_submit_again() {
+        Long id = receberSemProcessar(CSV);
+        gravadas.get(id).setIdTarefa(40L);
+        when(gerenciadorTarefas.consultar(40L)).thenReturn(TarefaDto.builder().id(40L).situacao(SituacaoTarefa.EM_ANDAMENTO).build());
+
+        assertEquals(Long.valueOf(40L), service.retomar(id).getIdTarefa());
+        verify(gerenciadorTarefas, never()).submeter(anyString(), anyString());
+    }
+
+    @Test
+    public void test_reports_throughput_of_current_execution() {
+        Instant inicio = Instant.parse("2024-01-01T00:00:00Z");
+        service = novoServico(Clock.fixed(inicio.plus(Duration.ofSeconds(2)), ZoneOffset.UTC));
+        Long id = receberSemProcessar(CSV);
+        ImportacaoPessoaData importacao = gravadas.get(id);
+        importacao.setSituacao(SituacaoImportacao.EM_ANDAMENTO);
+        importacao.setInicioExecucao(inicio);
+        importacao.setLinhaInicioExecucao(1000);
+        importacao.setLinha(3000);
+        importacao.setPosicao(importacao.getTamanho() / 4);
+
+        ImportacaoPessoaDto situacao = service.consultar(id);
+
+        assertEquals(1000.0, situacao.getLinhasPorSegundo(), 0.001);
+        assertEquals(25.0, situacao.getPercentual(), 1.0);
+    }
+
+    @Test
+    public void test_completed_import_cannot_be_resumed() throws IOException {
+        Long id = receberSemProcessar(CSV);
+        service.processar(id, execucao);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.retomar(id));
+        assertEquals("Importação já concluída", exception.getMessage());
+    }
+
+    @Test
+    public void test_missing_import_is_not_found() {
+        assertThrows(NaoEncontradoException.class, () -> service.consultar(99L));
+    }
+
+    private Long receberSemProcessar(String conteudo) {
+        try {
+            Path arquivo = Files.writeString(diretorio.resolve("importacao.csv"), conteudo);
+            ImportacaoPessoaData importacao = repository.save(ImportacaoPessoaData.builder()
+                    .arquivo(arquivo.toString())
+                    .situacao(SituacaoImportacao.PENDENTE)
+                    .tamanho(Files.size(arquivo))
+                    .build());
+            return importacao.getId();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ImportacaoPessoaService novoServico(Clock relogio) {
+        return new ImportacaoPessoaService(repository, incluirPessoaLoteRegras, gerenciadorTarefas,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), diretorio, 2, relogio);
+    }
+
+    private static ImportacaoPessoaData copiar(ImportacaoPessoaData importacao) {
+        return new ImportacaoPessoaData(importacao.getId(), importacao.getArquivo(), importacao.getSituacao(),
+                importacao.getTamanho(), importacao.getPosicao(), importacao.getLinha(), importacao.getIncluidas(),
+                importacao.getRejeitadas(), importacao.getInicioExecucao(), importacao.getLinhaInicioExecucao(),
+                importacao.getFim(), importacao.getMensagem(), importacao.getIdTarefa());
+    }
+
+    private static final class Execucao implements ExecucaoTarefa {
+
+        private final List<Long> progresso = new ArrayList<>();
+        private String parametros;
+        private boolean cancelada;
+
+        @Override
+        public Long getId() {
+            return 40L;
+        }
+
+        @Override
+        public String getParametros() {
+            return parametros;
+        }
+
+        @Override
+        public void registrarProgresso(long processados, long total) {
+            assertEquals(CSV.length(), total);
+            progresso.add(processados);
+        }
+
+        @Override
+        public boolean deveParar() {
+            return cancelada;
+        }
+
+        @Override
+        public boolean isCancelamentoSolicitado() {
+            return cancelada;
+        }
+    }
+}
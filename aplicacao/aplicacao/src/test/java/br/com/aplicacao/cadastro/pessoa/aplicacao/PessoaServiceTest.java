@@ -1,11 +1,21 @@
 package br.com.aplicacao.cadastro.pessoa.aplicacao;
 
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
 import br.com.aplicacao.cadastro.pessoa.dominio.PessoaRepository;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.PessoaEnum;
+import br.com.aplicacao.core.dto.ConsultaMultiplaDto;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
 import br.com.aplicacao.core.exceptions.NaoEncontradoException;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -54,17 +64,6 @@ public class PessoaServiceTest {
         verify(repository, times(1)).consultar(id);
     }
 
-    @Test
-    public void test_validate_if_contact_is_already_used() {
-        PessoaRepository repository = mock(PessoaRepository.class);
-        PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa(1L, "Nome", null, null);
-        when(repository.contatoJaUtilizado(pessoa)).thenReturn(true);
-        boolean result = service.contatoJaUtilizado(pessoa);
-        assertTrue(result);
-        verify(repository, times(1)).contatoJaUtilizado(pessoa);
-    }
-
     @Test
     public void test_attempt_to_delete_non_existent_pessoa() {
         PessoaRepository repository = mock(PessoaRepository.class);
@@ -102,63 +101,209 @@ public class PessoaServiceTest {
     }
 
     @Test
-    public void test_returns_true_when_contact_is_already_used_by_another_person() {
+    public void test_listar_uses_default_limit_when_absent() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        service.listar(null, null);
+        verify(repository, times(1)).listar(null, PessoaEnum.LISTAGEM_LIMITE_PADRAO.getValor());
+    }
+
+    @Test
+    public void test_listar_caps_limit_to_maximum() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        service.listar(10L, 1_000_000);
+        verify(repository, times(1)).listar(10L, PessoaEnum.LISTAGEM_LIMITE_MAXIMO.getValor());
+    }
+
+    @Test
+    public void test_listar_raises_non_positive_limit_to_one() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        service.listar(null, -5);
+        verify(repository, times(1)).listar(null, 1);
+    }
+
+    @Test
+    public void test_sem_alteracao_when_stored_pessoa_is_identical() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        assertTrue(service.semAlteracao(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+    }
+
+    @Test
+    public void test_com_alteracao_when_name_differs() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        assertFalse(service.semAlteracao(pessoaCompleta("Outro", "Centro", "(12) 34567-8910")));
+    }
+
+    @Test
+    public void test_com_alteracao_when_bairro_differs() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        assertFalse(service.semAlteracao(pessoaCompleta("Nome", "Vila", "(12) 34567-8910")));
+    }
+
+    @Test
+    public void test_com_alteracao_when_telefone_differs() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        assertFalse(service.semAlteracao(pessoaCompleta("Nome", "Centro", "(12) 3456-7890")));
+    }
+
+    @Test
+    public void test_com_alteracao_when_endereco_is_removed() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        assertFalse(service.semAlteracao(new Pessoa(1L, "Nome", null, new Contato(20L, "(12) 34567-8910"))));
+    }
+
+    @Test
+    public void test_com_alteracao_when_contato_id_differs() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        Pessoa recebida = new Pessoa(1L, "Nome", new Endereco(10L, "Centro"), new Contato("(12) 34567-8910"));
+        assertFalse(service.semAlteracao(recebida));
+    }
+
+    @Test
+    public void test_com_alteracao_when_pessoa_does_not_exist() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.empty());
+        assertFalse(service.semAlteracao(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+    }
+
+    @Test
+    public void test_sem_alteracao_does_not_query_when_id_is_null() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        assertFalse(service.semAlteracao(new Pessoa(null, "Nome", null, null)));
+        verify(repository, never()).consultarGravada(any());
+    }
+
+    @Test
+    public void test_sem_alteracao_fills_current_version() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        Pessoa gravada = pessoaCompleta("Nome", "Centro", "(12) 34567-8910");
+        gravada.setVersao(5L);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(gravada));
+        Pessoa recebida = pessoaCompleta("Nome", "Centro", "(12) 34567-8910");
+        assertTrue(service.semAlteracao(recebida));
+        assertEquals(Long.valueOf(5L), recebida.getVersao());
+    }
+
+    @Test
+    public void test_com_alteracao_when_version_is_stale_even_if_content_matches() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa();
-        when(repository.contatoJaUtilizadoSemSerEu(pessoa)).thenReturn(true);
-        assertTrue(service.contatoJaUtilizadoSemSerEu(pessoa));
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa);
+        Pessoa gravada = pessoaCompleta("Nome", "Centro", "(12) 34567-8910");
+        gravada.setVersao(5L);
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(gravada));
+        Pessoa recebida = pessoaCompleta("Nome", "Centro", "(12) 34567-8910");
+        recebida.setVersao(4L);
+        assertFalse(service.semAlteracao(recebida));
+        assertEquals(Long.valueOf(4L), recebida.getVersao());
     }
 
     @Test
-    public void test_returns_false_when_contact_is_not_used_by_any_other_person() {
+    public void test_sem_alteracao_ignores_cached_copy() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa();
-        when(repository.contatoJaUtilizadoSemSerEu(pessoa)).thenReturn(false);
-        assertFalse(service.contatoJaUtilizadoSemSerEu(pessoa));
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa);
+        when(repository.consultar(1L)).thenReturn(Optional.of(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        when(repository.consultarGravada(1L)).thenReturn(Optional.of(pessoaCompleta("Outro", "Centro", "(12) 34567-8910")));
+        assertFalse(service.semAlteracao(pessoaCompleta("Nome", "Centro", "(12) 34567-8910")));
+        verify(repository, never()).consultar(any());
+    }
+
+    private static Pessoa pessoaCompleta(String nome, String bairro, String telefone) {
+        return new Pessoa(1L, nome, new Endereco(10L, bairro), new Contato(20L, telefone));
+    }
+
+    @Test
+    public void test_consultar_varias_keeps_request_order_and_lists_missing_ids() {
+        PessoaRepository repository = mock(PessoaRepository.class);
+        PessoaService service = new PessoaService(repository);
+        Pessoa primeira = new Pessoa(1L, "Nome", null, null);
+        Pessoa terceira = new Pessoa(3L, "Outro", null, null);
+        when(repository.consultarPorIds(anyCollection())).thenReturn(Map.of(1L, primeira, 3L, terceira));
+
+        ConsultaMultiplaDto<Pessoa> resultado = service.consultarPorIds(List.of(3L, 2L, 1L, 3L));
+
+        assertEquals(List.of(terceira, primeira), resultado.getItens());
+        assertEquals(List.of(2L), resultado.getNaoEncontrados());
+        verify(repository).consultarPorIds(new LinkedHashSet<>(List.of(3L, 2L, 1L)));
+    }
+
+    @Test
+    public void test_consultar_varias_requires_ids() {
+        PessoaService service = new PessoaService(mock(PessoaRepository.class));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.consultarPorIds(List.of()));
+        assertEquals("Informe ao menos um identificador", exception.getMessage());
+    }
+
+    @Test
+    public void test_consultar_varias_rejects_null_id() {
+        PessoaService service = new PessoaService(mock(PessoaRepository.class));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.consultarPorIds(Arrays.asList(1L, null)));
+        assertEquals("Identificador inválido", exception.getMessage());
     }
 
     @Test
-    public void test_correctly_calls_repository_method_with_given_person_object() {
+    public void test_consultar_varias_rejects_too_many_ids() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa();
-        service.contatoJaUtilizadoSemSerEu(pessoa);
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa);
+        List<Long> ids = LongStream.rangeClosed(1, PessoaEnum.CONSULTA_MULTIPLA_LIMITE_MAXIMO.getValor() + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> service.consultarPorIds(ids));
+        verifyNoInteractions(repository);
     }
 
     @Test
-    public void test_works_with_different_valid_person_ids() {
+    public void test_excluir_lote_deletes_distinct_ids_and_counts_missing() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa1 = new Pessoa(1L);
-        Pessoa pessoa2 = new Pessoa(2L);
-        when(repository.contatoJaUtilizadoSemSerEu(pessoa1)).thenReturn(false);
-        when(repository.contatoJaUtilizadoSemSerEu(pessoa2)).thenReturn(true);
-        assertFalse(service.contatoJaUtilizadoSemSerEu(pessoa1));
-        assertTrue(service.contatoJaUtilizadoSemSerEu(pessoa2));
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa1);
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa2);
+        when(repository.excluirLote(any(long[].class))).thenReturn(2L);
+
+        ExclusaoLoteDto resultado = service.excluirLote(List.of(3L, 1L, 2L, 3L));
+
+        assertEquals(2, resultado.getExcluidos());
+        assertEquals(1, resultado.getNaoEncontrados());
+        verify(repository).excluirLote(new long[]{1L, 2L, 3L});
     }
 
     @Test
-    public void test_ensures_method_is_called_only_once_per_invocation() {
+    public void test_excluir_lote_requires_ids() {
+        PessoaService service = new PessoaService(mock(PessoaRepository.class));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.excluirLote(List.of()));
+        assertEquals("Informe ao menos um identificador", exception.getMessage());
+    }
+
+    @Test
+    public void test_excluir_lote_rejects_null_id() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa();
-        service.contatoJaUtilizadoSemSerEu(pessoa);
-        verify(repository, times(1)).contatoJaUtilizadoSemSerEu(pessoa);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.excluirLote(Arrays.asList(1L, null)));
+        assertEquals("Identificador inválido", exception.getMessage());
+        verifyNoInteractions(repository);
     }
 
     @Test
-    public void test_verifies_repository_interaction_is_as_expected() {
+    public void test_excluir_lote_rejects_too_many_ids() {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService service = new PessoaService(repository);
-        Pessoa pessoa = new Pessoa();
-        service.contatoJaUtilizadoSemSerEu(pessoa);
-        verify(repository).contatoJaUtilizadoSemSerEu(pessoa);
+        List<Long> ids = LongStream.rangeClosed(1, PessoaEnum.EXCLUSAO_LOTE_LIMITE_MAXIMO.getValor() + 1).boxed().toList();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> service.excluirLote(ids));
+        assertEquals("Informe no máximo " + PessoaEnum.EXCLUSAO_LOTE_LIMITE_MAXIMO.getValor() + " identificadores", exception.getMessage());
+        verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package br.com.aplicacao.cadastro.pessoa.controller;
+
+import br.com.aplicacao.cadastro.pessoa.aplicacao.ImportacaoPessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.SituacaoImportacao;
+import br.com.aplicacao.cadastro.pessoa.dto.ImportacaoPessoaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import org.junit.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ImportacaoPessoaControllerTest {
+
+    private final ImportacaoPessoaService service = mock(ImportacaoPessoaService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ImportacaoPessoaController(service)).build();
+
+    @Test
+    public void test_upload_streams_body_to_service_and_points_to_status() throws Exception {
+        when(service.receber(any(InputStream.class))).thenAnswer(invocacao -> {
+            InputStream conteudo = invocacao.getArgument(0);
+            assertEquals("nome,telefone,bairro\n", new String(conteudo.readAllBytes(), StandardCharsets.UTF_8));
+            return ImportacaoPessoaDto.builder().id(5L).situacao(SituacaoImportacao.PENDENTE).build();
+        });
+
+        mockMvc.perform(post("/cadastro/pessoa/importacao").contentType("text/csv").content("nome,telefone,bairro\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/cadastro/pessoa/importacao/5"))
+                .andExpect(jsonPath("$.situacao").value("PENDENTE"));
+    }
+
+    @Test
+    public void test_status_reports_progress_and_throughput() throws Exception {
+        when(service.consultar(5L)).thenReturn(ImportacaoPessoaDto.builder().id(5L).situacao(SituacaoImportacao.EM_ANDAMENTO)
+                .percentual(40.0).linhas(1000).incluidas(990).rejeitadas(9).linhasPorSegundo(250.0).build());
+
+        mockMvc.perform(get("/cadastro/pessoa/importacao/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.percentual").value(40.0))
+                .andExpect(jsonPath("$.incluidas").value(990))
+                .andExpect(jsonPath("$.linhasPorSegundo").value(250.0));
+    }
+
+    @Test
+    public void test_missing_import_returns_not_found() throws Exception {
+        when(service.consultar(5L)).thenThrow(new NaoEncontradoException("Importação não encontrada"));
+
+        mockMvc.perform(get("/cadastro/pessoa/importacao/5")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void test_resume_is_accepted() throws Exception {
+        when(service.retomar(5L)).thenReturn(ImportacaoPessoaDto.builder().id(5L).situacao(SituacaoImportacao.FALHOU).build());
+
+        mockMvc.perform(post("/cadastro/pessoa/importacao/5/retomar")).andExpect(status().isAccepted());
+        verify(service).retomar(5L);
+    }
+}
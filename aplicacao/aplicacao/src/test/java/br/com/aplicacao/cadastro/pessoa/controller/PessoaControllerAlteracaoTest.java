@@ -0,0 +1,130 @@
+package br.com.aplicacao.cadastro.pessoa.controller;
+
+import br.com.aplicacao.cadastro.contato.ContatoMapper;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.EnderecoMapper;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
+import br.com.aplicacao.cadastro.pessoa.PessoaMapper;
+import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.AlterarPessoaRegras;
+import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.cache.PessoaCache;
+import br.com.aplicacao.cadastro.pessoa.infra.impl.PessoaRepositoryImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica a alteração de pessoas pelo {@link PessoaController} contra o banco, com as regras, o serviço e o
+ * repositório reais.
+ *
+ * <p>Cada requisição é confirmada isoladamente, como em produção.</p>
+ */
+@DataJpaTest
+@Import({PessoaRepositoryImpl.class, PessoaMapper.class, ContatoMapper.class, EnderecoMapper.class, PessoaCache.class,
+        PessoaService.class, AlterarPessoaRegras.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PessoaControllerAlteracaoTest {
+
+    private static final long ID_INEXISTENTE = 999_999L;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private AlterarPessoaRegras alterarPessoaRegras;
+
+    @Autowired
+    private PessoaDataRepository pessoaDataRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, alterarPessoaRegras, null, null, null, null, null)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pessoaDataRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void test_put_existing_pessoa_without_if_match_is_applied() throws Exception {
+        Pessoa pessoa = pessoaService.incluir(new Pessoa(null, "Pessoa", new Endereco(null, "Centro"), new Contato("(41) 98765-4321")));
+
+        mockMvc.perform(alteracao(pessoa.getId())).andExpect(status().isOk()).andExpect(header().string("ETag", "\"1\""));
+    }
+
+    @Test
+    public void test_put_missing_pessoa_without_if_match_is_not_found() throws Exception {
+        mockMvc.perform(alteracao(ID_INEXISTENTE)).andExpect(status().isNotFound());
+
+        assertEquals(0, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_put_missing_pessoa_with_if_match_fails_precondition() throws Exception {
+        mockMvc.perform(alteracao(ID_INEXISTENTE).header("If-Match", "\"3\"")).andExpect(status().isPreconditionFailed());
+
+        assertEquals(0, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_put_missing_pessoa_with_if_match_any_fails_precondition() throws Exception {
+        mockMvc.perform(alteracao(ID_INEXISTENTE).header("If-Match", "*")).andExpect(status().isPreconditionFailed());
+
+        assertEquals(0, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_put_existing_pessoa_with_if_match_any_is_applied() throws Exception {
+        Pessoa pessoa = pessoaService.incluir(new Pessoa(null, "Pessoa", new Endereco(null, "Centro"), new Contato("(41) 98765-4321")));
+
+        mockMvc.perform(alteracao(pessoa.getId()).header("If-Match", "*")).andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+    }
+
+    @Test
+    public void test_put_with_if_match_list_containing_current_version_is_applied() throws Exception {
+        Pessoa pessoa = pessoaService.incluir(new Pessoa(null, "Pessoa", new Endereco(null, "Centro"), new Contato("(41) 98765-4321")));
+
+        mockMvc.perform(alteracao(pessoa.getId()).header("If-Match", "\"5\", W/\"0\", \"0\"")).andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""));
+    }
+
+    @Test
+    public void test_put_with_if_match_list_without_current_version_fails_precondition() throws Exception {
+        Pessoa pessoa = pessoaService.incluir(new Pessoa(null, "Pessoa", new Endereco(null, "Centro"), new Contato("(41) 98765-4321")));
+
+        mockMvc.perform(alteracao(pessoa.getId()).header("If-Match", "\"5\", \"6\"")).andExpect(status().isPreconditionFailed());
+
+        assertEquals("Pessoa", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+    }
+
+    private static MockHttpServletRequestBuilder alteracao(long id) {
+        return put("/cadastro/pessoa/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":" + id + ",\"nome\":\"Alterada\",\"contato\":{\"telefone\":\"(41) 98765-4321\"},"
+                        + "\"endereco\":{\"bairro\":\"Centro\"}}");
+    }
+}
@@ -5,29 +5,68 @@ import br.com.aplicacao.cadastro.endereco.dto.EnderecoDto;
 import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
 import br.com.aplicacao.cadastro.pessoa.dominio.PessoaRepository;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.AlterarPessoaRegras;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.DeletarPessoaRegras;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.GravarPessoaPorTelefoneRegras;
+import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaLoteRegras;
 import br.com.aplicacao.cadastro.pessoa.dominio.regras.IncluirPessoaRegras;
 import br.com.aplicacao.cadastro.pessoa.dto.PessoaDto;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
+import br.com.aplicacao.core.dto.ConsultaMultiplaDto;
+import br.com.aplicacao.core.dto.ErroItemDto;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import br.com.aplicacao.core.dto.PaginaDto;
 import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
+import br.com.aplicacao.core.idempotencia.Idempotencia;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class PessoaControllerTest {
 
+    private final Idempotencia idempotencia = new Idempotencia(100, Duration.ofMinutes(5), Duration.ofSeconds(5), new ObjectMapper(), mock(ObjectProvider.class));
+
     private final IncluirPessoaRegras incluirPessoaRegras = mock(IncluirPessoaRegras.class);
     private final AlterarPessoaRegras alterarPessoaRegras = mock(AlterarPessoaRegras.class);
-    private final PessoaController pessoaController = new PessoaController(mock(PessoaService.class), incluirPessoaRegras, alterarPessoaRegras, mock(DeletarPessoaRegras.class));
+    private final GravarPessoaPorTelefoneRegras gravarPessoaPorTelefoneRegras = mock(GravarPessoaPorTelefoneRegras.class);
+    private final PessoaController pessoaController = new PessoaController(mock(PessoaService.class), incluirPessoaRegras, alterarPessoaRegras, mock(DeletarPessoaRegras.class), null, null, idempotencia, gravarPessoaPorTelefoneRegras);
 
     @Test
     public void test_consultar_valid_id() {
@@ -35,7 +74,7 @@ public class PessoaControllerTest {
         IncluirPessoaRegras incluirPessoaRegras = mock(IncluirPessoaRegras.class);
         AlterarPessoaRegras alterarPessoaRegras = mock(AlterarPessoaRegras.class);
         DeletarPessoaRegras deletarPessoaRegras = mock(DeletarPessoaRegras.class);
-        PessoaController controller = new PessoaController(pessoaService, incluirPessoaRegras, alterarPessoaRegras, deletarPessoaRegras);
+        PessoaController controller = new PessoaController(pessoaService, incluirPessoaRegras, alterarPessoaRegras, deletarPessoaRegras, null, null, idempotencia, null);
 
         Pessoa pessoa = new Pessoa(1L, "John Doe", null, null);
         when(pessoaService.consultar(1L)).thenReturn(pessoa);
@@ -49,7 +88,7 @@ public class PessoaControllerTest {
         IncluirPessoaRegras incluirPessoaRegras = mock(IncluirPessoaRegras.class);
         AlterarPessoaRegras alterarPessoaRegras = mock(AlterarPessoaRegras.class);
         DeletarPessoaRegras deletarPessoaRegras = mock(DeletarPessoaRegras.class);
-        PessoaController controller = new PessoaController(pessoaService, incluirPessoaRegras, alterarPessoaRegras, deletarPessoaRegras);
+        PessoaController controller = new PessoaController(pessoaService, incluirPessoaRegras, alterarPessoaRegras, deletarPessoaRegras, null, null, idempotencia, null);
 
         when(pessoaService.consultar(1L)).thenThrow(new NaoEncontradoException(""));
 
@@ -61,7 +100,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = PessoaDto.builder().id(1L).nome("John Doe").contato(new ContatoDto("(12) 34567-8910")).endereco(new EnderecoDto(1L, "bairro")).build();
         Pessoa pessoa = pessoaDto.toEntity();
         when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1L, response.getBody().longValue());
     }
@@ -71,7 +110,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = PessoaDto.builder().nome("John Doe").contato(new ContatoDto("(12) 34567-8910")).endereco(new EnderecoDto(1L, "bairro")).build();
         Pessoa pessoa = pessoaDto.toEntity();
         when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(pessoa.getId(), response.getBody());
     }
@@ -81,7 +120,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = PessoaDto.builder().id(1L).nome("John Doe").contato(new ContatoDto("(12) 34567-8910")).endereco(new EnderecoDto(1L, "bairro")).build();
         Pessoa pessoa = pessoaDto.toEntity();
         when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1L, response.getBody().longValue());
     }
@@ -91,7 +130,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = PessoaDto.builder().nome("Unique Name").contato(new ContatoDto("(12) 34567-8910")).endereco(new EnderecoDto(1L, "bairro")).build();
         Pessoa pessoa = pessoaDto.toEntity();
         when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.incluir(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(pessoa.getId(), response.getBody());
     }
@@ -100,7 +139,7 @@ public class PessoaControllerTest {
     public void test_delete_existing_person_by_valid_id() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
         doNothing().when(pessoaService).deletar(validId);
@@ -114,7 +153,7 @@ public class PessoaControllerTest {
     public void test_service_layer_delete_called_with_correct_id() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
         doNothing().when(pessoaService).deletar(validId);
@@ -124,11 +163,22 @@ public class PessoaControllerTest {
         verify(pessoaService).deletar(validId);
     }
 
+    @Test
+    public void test_delete_missing_person_returns_not_found() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null)).build();
+        doThrow(new NaoEncontradoException("Pessoa não encontrada")).when(pessoaService).deletar(1L);
+
+        mockMvc.perform(delete("/cadastro/pessoa/1"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void test_delete_person_with_null_id() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long nullId = null;
 
@@ -139,7 +189,7 @@ public class PessoaControllerTest {
     public void test_delete_person_with_non_existent_id() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long nonExistentId = 999L;
         doThrow(new EntityNotFoundException("Person not found")).when(pessoaService).deletar(nonExistentId);
@@ -151,7 +201,7 @@ public class PessoaControllerTest {
     public void test_handle_service_layer_exception() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
         doThrow(new RuntimeException("Unexpected error")).when(pessoaService).deletar(validId);
@@ -163,7 +213,7 @@ public class PessoaControllerTest {
     public void test_method_is_idempotent() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
         doNothing().when(pessoaService).deletar(validId);
@@ -178,7 +228,7 @@ public class PessoaControllerTest {
     public void test_transaction_rollback_on_failure() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
         doThrow(new RuntimeException("Unexpected error")).when(pessoaService).deletar(validId);
@@ -192,7 +242,7 @@ public class PessoaControllerTest {
     public void test_concurrent_deletion_requests_handling() throws InterruptedException {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validId = 1L;
 
@@ -216,7 +266,7 @@ public class PessoaControllerTest {
     public void test_no_inadvertent_deletion_of_other_records() {
         PessoaService pessoaService = mock(PessoaService.class);
         DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
-        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras);
+        PessoaController pessoaController = new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null);
 
         Long validIdToDelete = 1L;
         Long otherValidId = 2L;
@@ -234,7 +284,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("1234567890"), new EnderecoDto(1L, "bairro"));
         Pessoa pessoa = pessoaDto.toEntity();
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(pessoa.getId(), response.getBody());
     }
@@ -244,7 +294,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("1234567890"), new EnderecoDto(1L, "bairro"));
         Pessoa pessoa = pessoaDto.toEntity();
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto, null);
         assertEquals(pessoaDto.getId(), response.getBody());
     }
 
@@ -253,7 +303,7 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("1234567890"), new EnderecoDto(1L, "bairro"));
         Pessoa pessoa = pessoaDto.toEntity();
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -262,16 +312,77 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("1234567890"), new EnderecoDto(1L, "bairro"));
         Pessoa pessoa = pessoaDto.toEntity();
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenReturn(pessoa);
-        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto);
+        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto, null);
         assertEquals(pessoa.getId(), response.getBody());
     }
 
+    @Test
+    public void test_consultar_returns_version_as_etag() {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController controller = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        when(pessoaService.consultar(1L)).thenReturn(new Pessoa(1L, "John Doe", null, null, 3L));
+
+        ResponseEntity<Pessoa> response = controller.consultar(1L);
+
+        assertEquals("\"3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void test_update_passes_if_match_version_to_rules() {
+        PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("(12) 34567-8910"), new EnderecoDto(1L, "bairro"));
+        when(alterarPessoaRegras.execute(any(Pessoa.class))).thenAnswer(invocacao -> {
+            Pessoa recebida = invocacao.getArgument(0);
+            return new Pessoa(recebida.getId(), recebida.getNome(), null, null, recebida.getVersao() + 1);
+        });
+
+        ResponseEntity<Long> response = pessoaController.alterar(pessoaDto, "\"4\"");
+
+        verify(alterarPessoaRegras).execute(argThat(pessoa -> Long.valueOf(4L).equals(pessoa.getVersao())));
+        assertEquals("\"5\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void test_update_without_if_match_has_no_version() {
+        PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("(12) 34567-8910"), new EnderecoDto(1L, "bairro"));
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, incluirPessoaRegras, alterarPessoaRegras, mock(DeletarPessoaRegras.class), null, null, idempotencia, gravarPessoaPorTelefoneRegras);
+        when(pessoaService.consultar(1L)).thenReturn(new Pessoa(1L, "Valid Name", null, null, 3L));
+        when(alterarPessoaRegras.execute(any(Pessoa.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        pessoaController.alterar(pessoaDto, "*");
+
+        verify(alterarPessoaRegras).execute(argThat(pessoa -> pessoa.getVersao() == null));
+    }
+
+    @Test
+    public void test_update_with_propagated_version_conflict_fails() {
+        PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("(12) 34567-8910"), new EnderecoDto(1L, "bairro"));
+        when(alterarPessoaRegras.execute(any(Pessoa.class))).thenThrow(new VersaoDivergenteException("Registro alterado por outra operação"));
+        assertThrows(VersaoDivergenteException.class, () -> pessoaController.alterar(pessoaDto, "\"1\""));
+    }
+
+    @Test
+    public void test_versoes_do_if_match_parses_strong_etags() {
+        assertEquals(List.of(7L), PessoaController.versoesDoIfMatch(" \"7\" "));
+        assertEquals(List.of(1L, 2L), PessoaController.versoesDoIfMatch("\"1\", \"2\""));
+        assertEquals(List.of(2L), PessoaController.versoesDoIfMatch("W/\"1\",\"2\""));
+    }
+
+    @Test
+    public void test_versoes_do_if_match_rejects_weak_or_malformed_etags() {
+        assertThrows(VersaoDivergenteException.class, () -> PessoaController.versoesDoIfMatch("W/\"7\""));
+        assertThrows(VersaoDivergenteException.class, () -> PessoaController.versoesDoIfMatch("\"abc\""));
+        assertThrows(VersaoDivergenteException.class, () -> PessoaController.versoesDoIfMatch("7"));
+        assertThrows(VersaoDivergenteException.class, () -> PessoaController.versoesDoIfMatch("\"1234567890123456789\""));
+        assertThrows(VersaoDivergenteException.class, () -> PessoaController.versoesDoIfMatch("\"\", W/\"2\""));
+    }
+
     @Test
     public void test_update_pessoa_with_name_already_in_use() {
         PessoaDto pessoaDto = new PessoaDto(1L, "Existing Name", new ContatoDto("1234567890"), new EnderecoDto(1L, "bairro"));
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenThrow(new IllegalArgumentException("Nome já cadastrado"));
         assertThrows(IllegalArgumentException.class, () -> {
-            pessoaController.alterar(pessoaDto);
+            pessoaController.alterar(pessoaDto, null);
         });
     }
 
@@ -280,92 +391,103 @@ public class PessoaControllerTest {
         PessoaDto pessoaDto = new PessoaDto(1L, "Valid Name", new ContatoDto("existing_contact"), new EnderecoDto(1L, "bairro"));
         when(alterarPessoaRegras.execute(any(Pessoa.class))).thenThrow(new IllegalArgumentException("Contato já cadastrado"));
         assertThrows(IllegalArgumentException.class, () -> {
-            pessoaController.alterar(pessoaDto);
+            pessoaController.alterar(pessoaDto, null);
         });
     }
 
     @Test
     public void test_should_return_list_of_pessoa_when_multiple_entries() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        List<Pessoa> pessoas = List.of(new Pessoa(1L, "John Doe", null, null), new Pessoa(2L, "Jane Doe", null, null));
-        Page<Pessoa> page = new PageImpl<>(pessoas);
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        List<PessoaListagemDto> pessoas = List.of(new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890"), new PessoaListagemDto(2L, "Jane Doe", "Centro", "(12) 3456-7890"));
+        Slice<PessoaListagemDto> page = new SliceImpl<>(pessoas);
+        when(pessoaService.listar(null, null)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(2, response.getBody().size());
+        assertEquals(2, response.getBody().getItens().size());
     }
 
     @Test
     public void test_should_return_empty_list_when_no_entries() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        Page<Pessoa> page = new PageImpl<>(List.of());
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        Slice<PessoaListagemDto> page = new SliceImpl<>(List.of());
+        when(pessoaService.listar(null, null)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().getItens().isEmpty());
     }
 
     @Test
     public void test_should_return_http_status_200_on_successful_retrieval() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        Page<Pessoa> page = new PageImpl<>(List.of(new Pessoa(1L, "John Doe", null, null)));
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        Slice<PessoaListagemDto> page = new SliceImpl<>(List.of(new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890")));
+        when(pessoaService.listar(null, null)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
     public void test_should_return_list_of_pessoa_with_correct_attributes() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        Pessoa pessoa = new Pessoa(1L, "John Doe", null, null);
-        Page<Pessoa> page = new PageImpl<>(List.of(pessoa));
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        PessoaListagemDto pessoa = new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890");
+        Slice<PessoaListagemDto> page = new SliceImpl<>(List.of(pessoa));
+        when(pessoaService.listar(null, null)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
-        assertEquals("John Doe", response.getBody().get(0).getNome());
+        assertEquals(1, response.getBody().getItens().size());
+        assertEquals("John Doe", response.getBody().getItens().get(0).getNome());
     }
 
     @Test
     public void test_should_handle_pagination_correctly_if_implemented() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        List<Pessoa> pessoas = List.of(new Pessoa(1L, "John Doe", null, null), new Pessoa(2L, "Jane Doe", null, null));
-        Page<Pessoa> page = new PageImpl<>(pessoas);
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        List<PessoaListagemDto> pessoas = List.of(new PessoaListagemDto(11L, "John Doe", "Centro", "(12) 3456-7890"), new PessoaListagemDto(12L, "Jane Doe", "Centro", "(12) 3456-7890"));
+        Slice<PessoaListagemDto> page = new SliceImpl<>(pessoas, PageRequest.ofSize(2), true);
+        when(pessoaService.listar(10L, 2)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(10L, 2, requisicaoGet());
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(2, response.getBody().size());
+        assertEquals(2, response.getBody().getItens().size());
+        assertEquals(12L, response.getBody().getProximo().longValue());
+    }
+
+    @Test
+    public void test_should_return_null_cursor_on_last_page() {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        Slice<PessoaListagemDto> page = new SliceImpl<>(List.of(new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890")), PageRequest.ofSize(2), false);
+        when(pessoaService.listar(null, 2)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, 2, requisicaoGet());
+        assertNull(response.getBody().getProximo());
     }
 
     @Test
     public void test_should_handle_database_connection_lost() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        when(pessoaService.listar()).thenThrow(new RuntimeException("Database connection lost"));
-        assertThrows(RuntimeException.class, () -> pessoaController.listar());
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        when(pessoaService.listar(null, null)).thenThrow(new RuntimeException("Database connection lost"));
+        assertThrows(RuntimeException.class, () -> pessoaController.listar(null, null, requisicaoGet()));
     }
 
     @Test
     public void test_should_handle_repository_throws_exception() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        when(pessoaService.listar()).thenThrow(new RuntimeException("Repository exception"));
-        assertThrows(RuntimeException.class, () -> pessoaController.listar());
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        when(pessoaService.listar(null, null)).thenThrow(new RuntimeException("Repository exception"));
+        assertThrows(RuntimeException.class, () -> pessoaController.listar(null, null, requisicaoGet()));
     }
 
     @Test
     public void test_should_handle_service_layer_returns_empty_page_object() {
         PessoaService pessoaService = mock(PessoaService.class);
-        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null);
-        Page<Pessoa> page = Page.empty();
-        when(pessoaService.listar()).thenReturn(page);
-        ResponseEntity<List<Pessoa>> response = pessoaController.listar();
-        assertTrue(response.getBody().isEmpty());
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        Slice<PessoaListagemDto> page = new SliceImpl<>(List.of());
+        when(pessoaService.listar(null, null)).thenReturn(page);
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
+        assertTrue(response.getBody().getItens().isEmpty());
     }
 
     @Test
@@ -374,9 +496,9 @@ public class PessoaControllerTest {
         PessoaRepository repository = mock(PessoaRepository.class);
         PessoaService pessoaService = new PessoaService(repository);
 
-        when(repository.listar()).thenReturn(Page.empty());
+        when(repository.listar(null, 50)).thenReturn(new SliceImpl<>(List.of()));
 
-        Page<Pessoa> resultPage = pessoaService.listar();
+        Slice<PessoaListagemDto> resultPage = pessoaService.listar(null, null);
 
         verify(repository, never()).incluir(any(Pessoa.class));
         verify(repository, never()).alterar(any(Pessoa.class));
@@ -384,4 +506,254 @@ public class PessoaControllerTest {
 
         assertTrue(resultPage.isEmpty());
     }
+
+    @Test
+    public void test_exportar_writes_one_json_object_per_line() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, new ObjectMapper(), idempotencia, null);
+        doAnswer(invocation -> {
+            Consumer<Pessoa> consumidor = invocation.getArgument(0);
+            consumidor.accept(new Pessoa(1L, "John Doe", null, null));
+            consumidor.accept(new Pessoa(2L, "Jane Doe", null, null));
+            return null;
+        }).when(pessoaService).exportar(any());
+
+        ResponseEntity<StreamingResponseBody> response = pessoaController.exportar();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].contains("\"nome\":\"John Doe\""));
+        assertTrue(linhas[1].contains("\"id\":2"));
+    }
+
+    @Test
+    public void test_exportar_writes_nothing_when_no_entries() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, new ObjectMapper(), idempotencia, null);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaController.exportar().getBody().writeTo(saida);
+
+        assertEquals(0, saida.size());
+    }
+
+    @Test
+    public void test_incluir_lote_converts_dtos_and_returns_result() {
+        IncluirPessoaLoteRegras incluirPessoaLoteRegras = mock(IncluirPessoaLoteRegras.class);
+        PessoaController pessoaController = new PessoaController(null, null, null, null, incluirPessoaLoteRegras, null, idempotencia, null);
+        List<PessoaDto> pessoasDto = Arrays.asList(
+                PessoaDto.builder().nome("Ana").contato(new ContatoDto("(12) 34567-8910")).build(), null);
+        LoteResultadoDto resultado = new LoteResultadoDto(Arrays.asList(1L, null), List.of(new ErroItemDto(1, "Pessoa é obrigatória")));
+        when(incluirPessoaLoteRegras.execute(anyList())).thenReturn(resultado);
+
+        ResponseEntity<LoteResultadoDto> response = pessoaController.incluirLote(pessoasDto);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(resultado, response.getBody());
+        verify(incluirPessoaLoteRegras).execute(argThat(pessoas -> pessoas.size() == 2
+                && "Ana".equals(pessoas.get(0).getNome()) && pessoas.get(1) == null));
+    }
+
+    @Test
+    public void test_listar_returns_listing_version_as_etag() {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        when(pessoaService.versaoListagem()).thenReturn("abc-7");
+        when(pessoaService.listar(null, null)).thenReturn(new SliceImpl<>(List.of()));
+        ResponseEntity<PaginaDto<PessoaListagemDto>> response = pessoaController.listar(null, null, requisicaoGet());
+        assertEquals("\"abc-7\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void test_listar_with_current_version_is_not_modified_without_querying() {
+        PessoaService pessoaService = mock(PessoaService.class);
+        PessoaController pessoaController = new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null);
+        when(pessoaService.versaoListagem()).thenReturn("abc-7");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cadastro/pessoa/listar");
+        request.addHeader("If-None-Match", "\"abc-7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<PaginaDto<PessoaListagemDto>> resultado = pessoaController.listar(null, null, new ServletWebRequest(request, response));
+
+        assertNull(resultado);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        verify(pessoaService, never()).listar(any(), any());
+    }
+
+    @Test
+    public void test_listar_with_outdated_version_queries_page() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null)).build();
+        when(pessoaService.versaoListagem()).thenReturn("abc-8");
+        when(pessoaService.listar(null, null)).thenReturn(new SliceImpl<>(List.of(new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890"))));
+
+        mockMvc.perform(get("/cadastro/pessoa/listar").header("If-None-Match", "\"abc-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-8\""));
+
+        verify(pessoaService).listar(null, null);
+    }
+
+    @Test
+    public void test_consultar_with_current_version_is_not_modified() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null)).build();
+        when(pessoaService.consultar(1L)).thenReturn(new Pessoa(1L, "John Doe", null, null, 3L));
+
+        mockMvc.perform(get("/cadastro/pessoa/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void test_consultar_with_outdated_version_returns_body() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null)).build();
+        when(pessoaService.consultar(1L)).thenReturn(new Pessoa(1L, "John Doe", null, null, 4L));
+
+        mockMvc.perform(get("/cadastro/pessoa/1").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void test_consultar_varias_by_query_parameter() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null)).build();
+        when(pessoaService.consultarPorIds(List.of(3L, 1L, 2L))).thenReturn(new ConsultaMultiplaDto<>(
+                List.of(new Pessoa(3L, "Maria", null, null), new Pessoa(1L, "John Doe", null, null)), List.of(2L)));
+
+        mockMvc.perform(get("/cadastro/pessoa").param("ids", "3,1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id").value(3))
+                .andExpect(jsonPath("$.itens[1].id").value(1))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(2));
+    }
+
+    @Test
+    public void test_consultar_varias_by_request_body() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(pessoaService, null, null, null, null, null, idempotencia, null)).build();
+        when(pessoaService.consultarPorIds(List.of(1L, 2L))).thenReturn(new ConsultaMultiplaDto<>(List.of(new Pessoa(1L, "John Doe", null, null)), List.of(2L)));
+
+        mockMvc.perform(post("/cadastro/pessoa/consulta").contentType(MediaType.APPLICATION_JSON).content("[1, 2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].nome").value("John Doe"))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(2));
+    }
+
+    @Test
+    public void test_excluir_lote_returns_deleted_and_missing_counts() throws Exception {
+        PessoaService pessoaService = mock(PessoaService.class);
+        DeletarPessoaRegras deletarPessoaRegras = new DeletarPessoaRegras(pessoaService);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PessoaController(null, null, null, deletarPessoaRegras, null, null, idempotencia, null)).build();
+        when(pessoaService.excluirLote(List.of(1L, 2L, 3L))).thenReturn(new ExclusaoLoteDto(2, 1));
+
+        mockMvc.perform(post("/cadastro/pessoa/excluir-lote").contentType(MediaType.APPLICATION_JSON).content("[1, 2, 3]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excluidos").value(2))
+                .andExpect(jsonPath("$.naoEncontrados").value(1));
+    }
+
+    private static ServletWebRequest requisicaoGet() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/cadastro/pessoa/listar"), new MockHttpServletResponse());
+    }
+
+    @Test
+    public void test_patch_sends_only_informed_fields_and_version_to_rules() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pessoaController).build();
+        when(alterarPessoaRegras.executeParcial(any(Pessoa.class))).thenAnswer(invocacao -> {
+            Pessoa recebida = invocacao.getArgument(0);
+            return new Pessoa(recebida.getId(), recebida.getNome(), null, null, recebida.getVersao() + 1);
+        });
+
+        mockMvc.perform(patch("/cadastro/pessoa/7").header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"nome\": \"Novo\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string("7"));
+
+        verify(alterarPessoaRegras).executeParcial(argThat(pessoa -> pessoa.getId() == 7L && "Novo".equals(pessoa.getNome())
+                && pessoa.getContato() == null && pessoa.getEndereco() == null && pessoa.getVersao() == 2L));
+    }
+
+    @Test
+    public void test_incluir_replay_with_same_idempotency_key_returns_original_id() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pessoaController).build();
+        when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(new Pessoa(9L, "John Doe", null, null));
+        String corpo = "{\"nome\": \"John Doe\", \"contato\": {\"telefone\": \"(12) 34567-8910\"}}";
+
+        mockMvc.perform(post("/cadastro/pessoa").header("Idempotency-Key", "a1").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(content().string("9"));
+        when(incluirPessoaRegras.execute(any(Pessoa.class))).thenThrow(new IllegalArgumentException("Contato já cadastrado"));
+        mockMvc.perform(post("/cadastro/pessoa").header("Idempotency-Key", "a1").contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().string("9"));
+
+        verify(incluirPessoaRegras, times(1)).execute(any(Pessoa.class));
+    }
+
+    @Test
+    public void test_incluir_reusing_idempotency_key_with_other_data_is_rejected() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pessoaController).build();
+        when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(new Pessoa(9L, "John Doe", null, null));
+
+        mockMvc.perform(post("/cadastro/pessoa").header("Idempotency-Key", "a1").contentType(MediaType.APPLICATION_JSON).content("{\"nome\": \"John Doe\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/cadastro/pessoa").header("Idempotency-Key", "a1").contentType(MediaType.APPLICATION_JSON).content("{\"nome\": \"Jane Doe\"}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(incluirPessoaRegras, times(1)).execute(any(Pessoa.class));
+    }
+
+    @Test
+    public void test_incluir_without_idempotency_key_runs_rules_each_time() {
+        PessoaDto pessoaDto = PessoaDto.builder().nome("John Doe").contato(new ContatoDto("(12) 34567-8910")).build();
+        when(incluirPessoaRegras.execute(any(Pessoa.class))).thenReturn(new Pessoa(9L, "John Doe", null, null));
+
+        pessoaController.incluir(pessoaDto, null);
+        pessoaController.incluir(pessoaDto, null);
+
+        verify(incluirPessoaRegras, times(2)).execute(any(Pessoa.class));
+    }
+
+    @Test
+    public void test_put_por_telefone_creating_pessoa_returns_created_with_location() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pessoaController).build();
+        when(gravarPessoaPorTelefoneRegras.execute(any(Pessoa.class))).thenAnswer(invocacao -> {
+            Pessoa recebida = invocacao.getArgument(0);
+            return new PessoaGravada(new Pessoa(12L, recebida.getNome(), recebida.getEndereco(), recebida.getContato(), 0L), true);
+        });
+
+        mockMvc.perform(put("/cadastro/pessoa/por-telefone/{telefone}", "(12) 34567-8910")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"nome\": \"Maria\", \"endereco\": {\"bairro\": \"Centro\"}}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/cadastro/pessoa/12"))
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(content().string("12"));
+
+        verify(gravarPessoaPorTelefoneRegras).execute(argThat(pessoa -> pessoa.getId() == null && "Maria".equals(pessoa.getNome())
+                && "(12) 34567-8910".equals(pessoa.getContato().getTelefone()) && "Centro".equals(pessoa.getEndereco().getBairro())));
+    }
+
+    @Test
+    public void test_put_por_telefone_updating_pessoa_returns_ok_and_ignores_body_phone() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pessoaController).build();
+        when(gravarPessoaPorTelefoneRegras.execute(any(Pessoa.class))).thenReturn(new PessoaGravada(new Pessoa(12L, "Maria", null, null, 3L), false));
+
+        mockMvc.perform(put("/cadastro/pessoa/por-telefone/{telefone}", "(12) 3456-7890")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"nome\": \"Maria\", \"contato\": {\"telefone\": \"(99) 99999-9999\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Location"))
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string("12"));
+
+        verify(gravarPessoaPorTelefoneRegras).execute(argThat(pessoa -> "(12) 3456-7890".equals(pessoa.getContato().getTelefone())));
+    }
 }
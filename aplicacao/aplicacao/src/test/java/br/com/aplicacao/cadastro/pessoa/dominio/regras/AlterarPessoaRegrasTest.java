@@ -94,7 +94,6 @@ public class AlterarPessoaRegrasTest {
 
         doNothing().when(regras).validarNome(any(Pessoa.class));
         doNothing().when(regras).validarTelefoneContato(any(Pessoa.class));
-        doNothing().when(regras).validarContatoJaCadastrado(any(Pessoa.class));
 
         when(service.alterar(any(Pessoa.class))).thenReturn(pessoa);
 
@@ -104,7 +103,6 @@ public class AlterarPessoaRegrasTest {
 
         inOrder.verify(regras).validarNome(any(Pessoa.class));
         inOrder.verify(regras).validarTelefoneContato(any(Pessoa.class));
-        inOrder.verify(regras).validarContatoJaCadastrado(any(Pessoa.class));
 
         verify(service).alterar(any(Pessoa.class));
     }
@@ -766,76 +764,83 @@ public class AlterarPessoaRegrasTest {
     }
 
     @Test
-    public void test_valid_contact_not_already_registered_should_pass_without_exceptions() {
+    public void test_unchanged_pessoa_is_not_written() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
         Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
+        when(service.semAlteracao(pessoa)).thenReturn(true);
+        Pessoa result = regras.execute(pessoa);
+        assertSame(pessoa, result);
+        verify(service, never()).alterar(any(Pessoa.class));
     }
 
     @Test
-    public void test_method_should_handle_valid_pessoa_object_with_all_required_fields_correctly() {
+    public void test_change_detection_runs_after_name_is_trimmed() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
+        Pessoa pessoa = new Pessoa(1L, "  Nome  ", null, new Contato("(12) 34567-8910"));
+        when(service.semAlteracao(argThat(p -> "Nome".equals(p.getNome())))).thenReturn(true);
+        regras.execute(pessoa);
+        verify(service, never()).alterar(any(Pessoa.class));
+    }
 
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
+    @Test
+    public void test_invalid_pessoa_is_rejected_before_change_detection() {
+        PessoaService service = mock(PessoaService.class);
+        AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
+        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("invalido"));
+        assertThrows(IllegalArgumentException.class, () -> regras.execute(pessoa));
+        verify(service, never()).semAlteracao(any(Pessoa.class));
     }
 
     @Test
-    public void test_method_should_allow_further_processing_if_contact_is_not_already_registered() {
+    public void test_partial_update_keeps_fields_not_informed() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
+        Pessoa atual = new Pessoa(1L, "Antigo", new Endereco(1L, "Centro"), new Contato(1L, "(12) 34567-8910"), 3L);
+        when(service.consultar(1L)).thenReturn(atual);
+        when(service.alterar(any(Pessoa.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
 
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
+        Pessoa result = regras.executeParcial(Pessoa.builder().id(1L).nome("  Novo  ").versao(3L).build());
 
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
+        assertEquals("Novo", result.getNome());
+        assertSame(atual.getEndereco(), result.getEndereco());
+        assertSame(atual.getContato(), result.getContato());
+        assertEquals(Long.valueOf(3L), result.getVersao());
+        assertEquals("Antigo", atual.getNome());
     }
 
     @Test
-    public void test_service_method_contatoJaUtilizado_returning_false_should_be_handled_gracefully() {
+    public void test_partial_update_without_telefone_skips_telefone_validation() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
+        when(service.consultar(1L)).thenReturn(new Pessoa(1L, "Antigo", new Endereco(1L, "Centro"), new Contato(1L, "invalido")));
 
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
+        assertDoesNotThrow(() -> regras.executeParcial(Pessoa.builder().id(1L).endereco(new Endereco(1L, "Savassi")).build()));
+        verify(service).alterar(argThat(pessoa -> "Savassi".equals(pessoa.getEndereco().getBairro())));
     }
 
     @Test
-    public void test_method_should_not_modify_the_pessoa_object() {
+    public void test_partial_update_rejects_invalid_telefone_before_reading_pessoa() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
-        Contato contatoOriginal = new Contato("(12) 34567-8910");
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, contatoOriginal);
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
 
-        regras.validarContatoJaCadastrado(pessoa);
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> regras.executeParcial(Pessoa.builder().id(1L).contato(new Contato(1L, "invalido")).build()));
 
-        assertEquals(contatoOriginal, pessoa.getContato());
+        assertEquals("Telefone inválido", exception.getMessage());
+        verifyNoInteractions(service);
     }
 
     @Test
-    public void test_method_should_not_have_side_effects_on_other_fields_of_pessoa() {
+    public void test_partial_update_without_changes_is_not_written() {
         PessoaService service = mock(PessoaService.class);
         AlterarPessoaRegras regras = new AlterarPessoaRegras(service);
-        Endereco enderecoOriginal = new Endereco(1L, "Bairro");
-        Contato contatoOriginal = new Contato("(12) 34567-8910");
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", enderecoOriginal, contatoOriginal);
+        when(service.consultar(1L)).thenReturn(new Pessoa(1L, "Nome", null, new Contato(1L, "(12) 34567-8910")));
+        when(service.semAlteracao(any(Pessoa.class))).thenReturn(true);
 
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
+        regras.executeParcial(Pessoa.builder().id(1L).nome("Nome").build());
 
-        regras.validarContatoJaCadastrado(pessoa);
-
-        assertEquals(enderecoOriginal, pessoa.getEndereco());
-        assertEquals(contatoOriginal, pessoa.getContato());
+        verify(service, never()).alterar(any(Pessoa.class));
     }
 }
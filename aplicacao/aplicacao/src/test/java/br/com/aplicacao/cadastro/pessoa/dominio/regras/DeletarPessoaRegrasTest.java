@@ -2,10 +2,13 @@ package br.com.aplicacao.cadastro.pessoa.dominio.regras;
 
 import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.core.dto.ExclusaoLoteDto;
 import br.com.aplicacao.core.exceptions.NaoEncontradoException;
 import org.junit.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.List;
+
 import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -214,4 +217,14 @@ public class DeletarPessoaRegrasTest {
             assertEquals("Id é obrigatório", e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_execute_lote_delegates_to_service() {
+        PessoaService service = mock(PessoaService.class);
+        DeletarPessoaRegras regras = new DeletarPessoaRegras(service);
+        ExclusaoLoteDto resultado = new ExclusaoLoteDto(2, 1);
+        when(service.excluirLote(List.of(1L, 2L, 3L))).thenReturn(resultado);
+
+        assertEquals(resultado, regras.executeLote(List.of(1L, 2L, 3L)));
+    }
+}
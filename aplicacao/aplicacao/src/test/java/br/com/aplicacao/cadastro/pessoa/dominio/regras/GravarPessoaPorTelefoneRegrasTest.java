@@ -0,0 +1,44 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.regras;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class GravarPessoaPorTelefoneRegrasTest {
+
+    private final PessoaService service = mock(PessoaService.class);
+    private final GravarPessoaPorTelefoneRegras regras = new GravarPessoaPorTelefoneRegras(service, new IncluirPessoaRegras(service));
+
+    @Test
+    public void test_valid_pessoa_is_written_without_checking_phone_first() {
+        Pessoa pessoa = new Pessoa(null, " Maria ", null, new Contato("(12) 34567-8910"));
+        PessoaGravada gravada = new PessoaGravada(new Pessoa(5L, "Maria", null, new Contato("(12) 34567-8910"), 0L), true);
+        when(service.gravarPorTelefone(pessoa)).thenReturn(gravada);
+
+        assertSame(gravada, regras.execute(pessoa));
+        assertEquals("Maria", pessoa.getNome());
+        verify(service, never()).consultar(any());
+    }
+
+    @Test
+    public void test_invalid_name_is_rejected() {
+        Pessoa pessoa = new Pessoa(null, " ", null, new Contato("(12) 34567-8910"));
+
+        assertThrows(IllegalArgumentException.class, () -> regras.execute(pessoa));
+        verify(service, never()).gravarPorTelefone(any());
+    }
+
+    @Test
+    public void test_invalid_phone_is_rejected() {
+        Pessoa pessoa = new Pessoa(null, "Maria", null, new Contato("12345"));
+
+        assertThrows(IllegalArgumentException.class, () -> regras.execute(pessoa));
+        verify(service, never()).gravarPorTelefone(any());
+    }
+}
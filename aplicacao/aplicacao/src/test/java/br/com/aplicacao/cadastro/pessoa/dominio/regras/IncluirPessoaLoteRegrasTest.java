@@ -0,0 +1,133 @@
+package br.com.aplicacao.cadastro.pessoa.dominio.regras;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.pessoa.aplicacao.PessoaService;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.enums.PessoaEnum;
+import br.com.aplicacao.core.dto.ErroItemDto;
+import br.com.aplicacao.core.dto.LoteResultadoDto;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class IncluirPessoaLoteRegrasTest {
+
+    private final PessoaService service = mock(PessoaService.class);
+    private final IncluirPessoaLoteRegras regras = new IncluirPessoaLoteRegras(service, new IncluirPessoaRegras(service));
+
+    @Test
+    public void test_includes_all_valid_pessoas_and_returns_ids_in_order() {
+        Pessoa pessoa1 = new Pessoa(null, "Ana", null, new Contato("(12) 34567-8910"));
+        Pessoa pessoa2 = new Pessoa(null, "Bruno", null, new Contato("(12) 3456-7890"));
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of());
+        when(service.incluirLote(List.of(pessoa1, pessoa2))).thenReturn(List.of(new Pessoa(10L), new Pessoa(11L)));
+
+        LoteResultadoDto resultado = regras.execute(List.of(pessoa1, pessoa2));
+
+        assertEquals(Arrays.asList(10L, 11L), resultado.getIds());
+        assertTrue(resultado.getErros().isEmpty());
+    }
+
+    @Test
+    public void test_rejects_invalid_items_without_blocking_valid_ones() {
+        Pessoa valida = new Pessoa(null, "Ana", null, new Contato("(12) 34567-8910"));
+        Pessoa semNome = new Pessoa(null, " ", null, new Contato("(12) 3456-7890"));
+        Pessoa telefoneInvalido = new Pessoa(null, "Carlos", null, new Contato("123"));
+        Pessoa semContato = new Pessoa(null, "Dora", null, null);
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of());
+        when(service.incluirLote(List.of(valida))).thenReturn(List.of(new Pessoa(7L)));
+
+        LoteResultadoDto resultado = regras.execute(Arrays.asList(semNome, valida, telefoneInvalido, semContato, null));
+
+        assertEquals(Arrays.asList(null, 7L, null, null, null), resultado.getIds());
+        assertEquals(4, resultado.getErros().size());
+        assertEquals("Nome é obrigatório", resultado.getErros().get(0).getMensagem());
+        assertEquals("Telefone inválido", resultado.getErros().get(1).getMensagem());
+        assertEquals("Telefone é obrigatório", resultado.getErros().get(2).getMensagem());
+        assertEquals(4, resultado.getErros().get(3).getIndice());
+    }
+
+    @Test
+    public void test_rejects_phones_already_registered_with_a_single_lookup() {
+        Pessoa cadastrada = new Pessoa(null, "Ana", null, new Contato("(12) 34567-8910"));
+        Pessoa nova = new Pessoa(null, "Bruno", null, new Contato("(12) 3456-7890"));
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of(Telefone.parse("(12) 34567-8910")));
+        when(service.incluirLote(List.of(nova))).thenReturn(List.of(new Pessoa(3L)));
+
+        LoteResultadoDto resultado = regras.execute(List.of(cadastrada, nova));
+
+        assertEquals(Arrays.asList(null, 3L), resultado.getIds());
+        assertEquals(0, resultado.getErros().get(0).getIndice());
+        assertEquals("Contato já cadastrado", resultado.getErros().get(0).getMensagem());
+        verify(service, times(1)).telefonesJaUtilizados(anyCollection());
+    }
+
+    @Test
+    public void test_rejects_phone_repeated_inside_the_same_batch() {
+        Pessoa primeira = new Pessoa(null, "Ana", null, new Contato("(12) 34567-8910"));
+        Pessoa repetida = new Pessoa(null, "Bruno", null, new Contato("(12) 34567-8910"));
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of());
+        when(service.incluirLote(List.of(primeira))).thenReturn(List.of(new Pessoa(1L)));
+
+        LoteResultadoDto resultado = regras.execute(List.of(primeira, repetida));
+
+        assertEquals(Arrays.asList(1L, null), resultado.getIds());
+        assertEquals(1, resultado.getErros().get(0).getIndice());
+    }
+
+    @Test
+    public void test_trims_names_like_single_inclusion() {
+        Pessoa pessoa = new Pessoa(null, "  Ana  ", null, new Contato("(12) 34567-8910"));
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of());
+        when(service.incluirLote(anyList())).thenReturn(List.of(new Pessoa(1L)));
+
+        regras.execute(List.of(pessoa));
+
+        assertEquals("Ana", pessoa.getNome());
+    }
+
+    @Test
+    public void test_does_not_touch_repository_when_nothing_is_valid() {
+        LoteResultadoDto resultado = regras.execute(List.of(new Pessoa(null, null, null, null)));
+
+        assertEquals(1, resultado.getErros().size());
+        verify(service, never()).incluirLote(anyList());
+        verify(service, never()).telefonesJaUtilizados(anyCollection());
+    }
+
+    @Test
+    public void test_empty_batch_returns_empty_result() {
+        LoteResultadoDto resultado = regras.execute(Collections.emptyList());
+
+        assertTrue(resultado.getIds().isEmpty());
+        assertTrue(resultado.getErros().isEmpty());
+    }
+
+    @Test
+    public void test_large_lot_is_validated_in_parallel_keeping_item_order() {
+        int tamanho = PessoaEnum.LOTE_VALIDACAO_PARALELA_MINIMO.getValor() * 4;
+        List<Pessoa> pessoas = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            pessoas.add(new Pessoa(null, i % 3 == 0 ? " " : "Nome", null, new Contato(String.format("(31) 9%04d-%04d", i / 10000, i % 10000))));
+        }
+        when(service.telefonesJaUtilizados(anyCollection())).thenReturn(Set.of());
+        when(service.incluirLote(anyList())).thenAnswer(invocacao -> {
+            List<Pessoa> validas = invocacao.getArgument(0);
+            return validas.stream().map(pessoa -> new Pessoa((long) pessoas.indexOf(pessoa))).toList();
+        });
+
+        LoteResultadoDto resultado = regras.execute(pessoas);
+
+        for (int i = 0; i < tamanho; i++) assertEquals(i % 3 == 0 ? null : Long.valueOf(i), resultado.getIds().get(i));
+        List<Integer> indicesComErro = resultado.getErros().stream().map(ErroItemDto::getIndice).toList();
+        assertEquals(IntStream.range(0, tamanho).filter(i -> i % 3 == 0).boxed().toList(), indicesComErro);
+    }
+}
@@ -69,15 +69,6 @@ public class IncluirPessoaRegrasTest {
         assertThrows(IllegalArgumentException.class, () -> regras.execute(pessoa));
     }
 
-    @Test
-    public void test_pessoa_with_used_contact_throws_exception() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(true);
-        assertThrows(IllegalArgumentException.class, () -> regras.execute(pessoa));
-    }
-
     @Test
     public void test_service_incluir_called_once_for_valid_pessoa() {
         PessoaService service = mock(PessoaService.class);
@@ -105,7 +96,6 @@ public class IncluirPessoaRegrasTest {
 
         doNothing().when(regras).validarNome(any(Pessoa.class));
         doNothing().when(regras).validarTelefoneContato(any(Pessoa.class));
-        doNothing().when(regras).validarContatoJaCadastrado(any(Pessoa.class));
 
         when(service.incluir(any(Pessoa.class))).thenReturn(pessoa);
 
@@ -115,7 +105,6 @@ public class IncluirPessoaRegrasTest {
 
         inOrder.verify(regras).validarNome(any(Pessoa.class));
         inOrder.verify(regras).validarTelefoneContato(any(Pessoa.class));
-        inOrder.verify(regras).validarContatoJaCadastrado(any(Pessoa.class));
 
         verify(service).incluir(any(Pessoa.class));
     }
@@ -775,115 +764,4 @@ public class IncluirPessoaRegrasTest {
         IncluirPessoaRegras regras = new IncluirPessoaRegras(null);
         regras.verificarFormatoTelefone(pessoa);
     }
-
-    @Test
-    public void test_valid_contact_not_already_registered_should_pass_without_exceptions() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
-    }
-
-    @Test
-    public void test_contact_already_registered_should_throw_exception() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(true);
-
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> regras.validarContatoJaCadastrado(pessoa));
-        assertEquals("Contato já cadastrado", exception.getMessage());
-    }
-
-    @Test
-    public void test_method_should_call_service_contatoJaUtilizado_exactly_once() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        regras.validarContatoJaCadastrado(pessoa);
-
-        verify(service, times(1)).contatoJaUtilizado(pessoa);
-    }
-
-    @Test
-    public void test_method_should_handle_valid_pessoa_object_with_all_required_fields_correctly() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
-    }
-
-    @Test
-    public void test_method_should_allow_further_processing_if_contact_is_not_already_registered() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
-    }
-
-    @Test
-    public void test_service_method_contatoJaUtilizado_returning_false_should_be_handled_gracefully() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        assertDoesNotThrow(() -> regras.validarContatoJaCadastrado(pessoa));
-    }
-
-    @Test
-    public void test_service_method_contatoJaUtilizado_returning_true_should_be_handled_gracefully() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, new Contato("(12) 34567-8910"));
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(true);
-
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> regras.validarContatoJaCadastrado(pessoa));
-        assertEquals("Contato já cadastrado", exception.getMessage());
-    }
-
-    @Test
-    public void test_method_should_not_modify_the_pessoa_object() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Contato contatoOriginal = new Contato("(12) 34567-8910");
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", null, contatoOriginal);
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        regras.validarContatoJaCadastrado(pessoa);
-
-        assertEquals(contatoOriginal, pessoa.getContato());
-    }
-
-    @Test
-    public void test_method_should_not_have_side_effects_on_other_fields_of_pessoa() {
-        PessoaService service = mock(PessoaService.class);
-        IncluirPessoaRegras regras = new IncluirPessoaRegras(service);
-        Endereco enderecoOriginal = new Endereco(1L, "Bairro");
-        Contato contatoOriginal = new Contato("(12) 34567-8910");
-        Pessoa pessoa = new Pessoa(1L, "Valid Name", enderecoOriginal, contatoOriginal);
-
-        when(service.contatoJaUtilizado(pessoa)).thenReturn(false);
-
-        regras.validarContatoJaCadastrado(pessoa);
-
-        assertEquals(enderecoOriginal, pessoa.getEndereco());
-        assertEquals(contatoOriginal, pessoa.getContato());
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package br.com.aplicacao.cadastro.pessoa.dto;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PessoaAlteracaoParcialDtoTest {
+
+    @Test
+    public void test_converts_only_informed_fields() {
+        Pessoa pessoa = PessoaAlteracaoParcialDto.builder().nome("Novo").build().toEntity(1L);
+
+        assertEquals(Long.valueOf(1L), pessoa.getId());
+        assertEquals("Novo", pessoa.getNome());
+        assertNull(pessoa.getContato());
+        assertNull(pessoa.getEndereco());
+        assertNull(pessoa.getVersao());
+    }
+
+    @Test
+    public void test_converts_contato_and_endereco_with_pessoa_id() {
+        Pessoa pessoa = new PessoaAlteracaoParcialDto(null, "(31) 98765-4321", "Centro").toEntity(1L);
+
+        assertNull(pessoa.getNome());
+        assertEquals("(31) 98765-4321", pessoa.getContato().getTelefone());
+        assertEquals(Long.valueOf(1L), pessoa.getContato().getId());
+        assertEquals("Centro", pessoa.getEndereco().getBairro());
+        assertEquals(Long.valueOf(1L), pessoa.getEndereco().getId());
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
+import br.com.aplicacao.cadastro.endereco.infra.data.EnderecoData;
+import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a alteração de uma pessoa ({@code merge} de uma entidade desanexada, como em
+ * {@code BaseRepositoryImpl.alterar}) com e sem o cache de segundo nível.
+ *
+ * <p>Além do tempo médio, ao final de cada execução é impressa a quantidade de instruções SQL preparadas por
+ * alteração: sem o cache o {@code merge} precisa consultar a pessoa antes do {@code update}; com o cache apenas o
+ * {@code update} é enviado ao banco.</p>
+ *
+ * <p>Executar pela IDE através do método {@code main}, ou pela linha de comando após {@code mvn test-compile}:</p>
+ * <pre>{@code
+ *     mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *     java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *         br.com.aplicacao.cadastro.pessoa.infra.PessoaAlteracaoBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PessoaAlteracaoBenchmark {
+
+    @Param({"false", "true"})
+    private boolean segundoNivel;
+
+    private SessionFactory sessionFactory;
+
+    private PessoaData pessoa;
+
+    private long alteracoes;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:alteracao-" + segundoNivel)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, segundoNivel)
+                .applySetting(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+                .applySetting("hibernate.javax.cache.provider", CaffeineCachingProvider.class.getName())
+                .applySetting("hibernate.javax.cache.missing_cache_strategy", "create")
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(AvailableSettings.LOG_SESSION_METRICS, false)
+                .build())
+                .addAnnotatedClass(PessoaData.class)
+                .addAnnotatedClass(ContatoData.class)
+                .addAnnotatedClass(EnderecoData.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        pessoa = sessionFactory.fromTransaction(session -> session.merge(PessoaData.builder()
+                .nome("Pessoa")
+                .contato(ContatoData.builder().telefone(Telefone.parse("(31) 98765-4321")).build())
+                .endereco(EnderecoData.builder().bairro("Centro").build())
+                .build()));
+        sessionFactory.inTransaction(session -> session.find(PessoaData.class, pessoa.getId()));
+        estatisticas().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n%s: %.2f instruções SQL por alteração (%d alterações)%n",
+                segundoNivel ? "Com cache de segundo nível" : "Sem cache de segundo nível",
+                (double) estatisticas().getPrepareStatementCount() / alteracoes, alteracoes);
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public PessoaData alterar() {
+        PessoaData alterada = PessoaData.builder()
+                .id(pessoa.getId())
+                .nome(++alteracoes % 2 == 0 ? "Par" : "Impar")
+                .contato(pessoa.getContato())
+                .endereco(pessoa.getEndereco())
+                .versao(pessoa.getVersao())
+                .build();
+        pessoa = sessionFactory.fromTransaction(session -> session.merge(alterada));
+        return pessoa;
+    }
+
+    private Statistics estatisticas() {
+        return sessionFactory.getStatistics();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PessoaAlteracaoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
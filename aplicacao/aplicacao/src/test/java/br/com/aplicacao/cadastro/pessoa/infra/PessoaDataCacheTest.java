@@ -0,0 +1,211 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
+import br.com.aplicacao.cadastro.endereco.infra.data.EnderecoData;
+import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica o cache de segundo nível das entidades de pessoa.
+ *
+ * <p>O Hibernate não coloca no cache entidades incluídas na própria transação, por isso os testes rodam sem a
+ * transação do {@link DataJpaTest} e cada operação do repositório é confirmada isoladamente.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.aplicacao.cadastro.pessoa.infra.PessoaDataCacheTest$Instrucoes"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PessoaDataCacheTest {
+
+    @Autowired
+    private PessoaDataRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PessoaData pessoa;
+
+    @BeforeEach
+    public void setUp() {
+        pessoa = repository.saveAndFlush(PessoaData.builder()
+                .nome("Pessoa")
+                .contato(ContatoData.builder().telefone(Telefone.parse("(31) 98765-4321")).build())
+                .endereco(EnderecoData.builder().bairro("Centro").build())
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        estatisticas().clear();
+        Instrucoes.REGISTRADAS.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void test_find_by_id_after_load_is_served_by_second_level_cache() {
+        repository.findById(pessoa.getId()).orElseThrow();
+        estatisticas().clear();
+
+        PessoaData encontrada = repository.findById(pessoa.getId()).orElseThrow();
+
+        assertEquals("Centro", encontrada.getEndereco().getBairro());
+        assertEquals(Telefone.parse("(31) 98765-4321"), encontrada.getContato().getTelefone());
+        assertEquals(0, estatisticas().getPrepareStatementCount());
+        assertEquals(1, estatisticas().getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void test_alterar_resolves_cached_pessoa_without_select() {
+        PessoaData original = repository.findById(pessoa.getId()).orElseThrow();
+        estatisticas().clear();
+
+        repository.saveAndFlush(alterarNome(original, "Alterada"));
+
+        assertEquals(1, estatisticas().getPrepareStatementCount(),
+                "A alteração executou " + estatisticas().getPrepareStatementCount() + " instruções");
+        assertEquals(1, estatisticas().getEntityUpdateCount());
+        assertEquals(1, estatisticas().getDomainDataRegionStatistics(PessoaData.class.getName()).getHitCount());
+    }
+
+    @Test
+    public void test_alterar_telefone_updates_a_single_row_and_increments_version() {
+        PessoaData original = repository.findById(pessoa.getId()).orElseThrow();
+        estatisticas().clear();
+
+        PessoaData alterada = repository.saveAndFlush(PessoaData.builder()
+                .id(original.getId())
+                .nome(original.getNome())
+                .contato(ContatoData.builder().telefone(Telefone.parse("(31) 91234-5678")).build())
+                .endereco(original.getEndereco())
+                .versao(original.getVersao())
+                .build());
+
+        assertEquals(1, estatisticas().getPrepareStatementCount());
+        assertEquals(1, estatisticas().getEntityUpdateCount());
+        assertEquals(original.getVersao() + 1, alterada.getVersao().longValue());
+    }
+
+    @Test
+    public void test_alterar_without_cached_pessoa_selects_before_update() {
+        PessoaData original = repository.findById(pessoa.getId()).orElseThrow();
+        entityManagerFactory.getCache().evictAll();
+        estatisticas().clear();
+
+        repository.saveAndFlush(alterarNome(original, "Alterada"));
+
+        assertEquals(2, estatisticas().getPrepareStatementCount());
+        assertEquals(0, estatisticas().getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void test_committed_update_is_visible_through_cache() {
+        PessoaData original = repository.findById(pessoa.getId()).orElseThrow();
+        repository.saveAndFlush(alterarNome(original, "Alterada"));
+        estatisticas().clear();
+
+        PessoaData encontrada = repository.findById(pessoa.getId()).orElseThrow();
+
+        assertEquals("Alterada", encontrada.getNome());
+        assertEquals(0, estatisticas().getPrepareStatementCount());
+    }
+
+    @Test
+    public void test_deleted_pessoa_is_not_served_from_cache() {
+        repository.findById(pessoa.getId()).orElseThrow();
+
+        repository.deleteById(pessoa.getId());
+
+        assertTrue(repository.findById(pessoa.getId()).isEmpty());
+    }
+
+    @Test
+    public void test_excluir_por_id_runs_a_single_statement_and_is_not_served_from_cache() {
+        repository.findById(pessoa.getId()).orElseThrow();
+        estatisticas().clear();
+
+        assertEquals(1, repository.excluirPorId(pessoa.getId()));
+
+        assertEquals(1, estatisticas().getPrepareStatementCount());
+        assertTrue(repository.findById(pessoa.getId()).isEmpty());
+        assertEquals(0, repository.excluirPorId(pessoa.getId()));
+    }
+
+    @Test
+    public void test_excluir_por_ids_removes_many_rows_in_a_single_statement() {
+        PessoaData outra = repository.saveAndFlush(PessoaData.builder()
+                .nome("Outra")
+                .contato(ContatoData.builder().telefone(Telefone.parse("(31) 98765-4322")).build())
+                .endereco(EnderecoData.builder().bairro("Centro").build())
+                .build());
+        repository.findById(pessoa.getId()).orElseThrow();
+        estatisticas().clear();
+
+        assertEquals(2, repository.excluirPorIds(List.of(pessoa.getId(), outra.getId(), outra.getId() + 1)));
+
+        assertEquals(1, estatisticas().getPrepareStatementCount());
+        assertTrue(repository.findById(pessoa.getId()).isEmpty());
+        assertTrue(repository.findById(outra.getId()).isEmpty());
+    }
+
+    @Test
+    public void test_update_writes_only_changed_columns() {
+        PessoaData carregada = repository.findById(pessoa.getId()).orElseThrow();
+        Instrucoes.REGISTRADAS.clear();
+
+        repository.save(alterarNome(carregada, "Novo"));
+
+        List<String> updates = Instrucoes.REGISTRADAS.stream().filter(sql -> sql.startsWith("update")).toList();
+        assertEquals(1, updates.size());
+        assertTrue(updates.get(0).contains("nome=?"));
+        assertTrue(updates.get(0).contains("versao=?"));
+        assertFalse(updates.get(0).contains("telefone"));
+        assertFalse(updates.get(0).contains("bairro"));
+    }
+
+    private static PessoaData alterarNome(PessoaData pessoa, String nome) {
+        return PessoaData.builder()
+                .id(pessoa.getId())
+                .nome(nome)
+                .contato(pessoa.getContato())
+                .endereco(pessoa.getEndereco())
+                .versao(pessoa.getVersao())
+                .build();
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Registra as instruções SQL enviadas ao banco.
+     */
+    public static class Instrucoes implements StatementInspector {
+
+        static final List<String> REGISTRADAS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            REGISTRADAS.add(sql);
+            return sql;
+        }
+    }
+}
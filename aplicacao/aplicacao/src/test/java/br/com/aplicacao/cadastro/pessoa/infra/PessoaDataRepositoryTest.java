@@ -0,0 +1,160 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
+import br.com.aplicacao.cadastro.endereco.infra.data.EnderecoData;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
+import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PessoaDataRepositoryTest {
+
+    private static final int QUANTIDADE_PESSOAS = 20;
+    private static final long MAXIMO_INSTRUCOES_POR_LEITURA = 1;
+
+    @Autowired
+    private PessoaDataRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Flyway flyway;
+
+    private Long primeiroId;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < QUANTIDADE_PESSOAS; i++) {
+            PessoaData pessoa = entityManager.persist(PessoaData.builder()
+                    .nome("Pessoa " + i)
+                    .contato(ContatoData.builder().telefone(Telefone.parse(String.format("(11) 9%04d-0000", i))).build())
+                    .endereco(EnderecoData.builder().bairro("Bairro " + i).build())
+                    .build());
+            if (primeiroId == null) primeiroId = pessoa.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        estatisticas().clear();
+    }
+
+    @Test
+    public void test_find_all_loads_associations_in_a_single_statement() {
+        List<PessoaData> pessoas = repository.findAll();
+
+        assertEquals(QUANTIDADE_PESSOAS, pessoas.size());
+        pessoas.forEach(pessoa -> assertNotNull(pessoa.getContato().getTelefone()));
+        assertTrue(estatisticas().getPrepareStatementCount() <= MAXIMO_INSTRUCOES_POR_LEITURA,
+                "findAll executou " + estatisticas().getPrepareStatementCount() + " instruções");
+    }
+
+    @Test
+    public void test_find_all_paged_loads_associations_without_extra_selects() {
+        List<PessoaData> pessoas = repository.findAll(PageRequest.of(0, 5)).getContent();
+
+        pessoas.forEach(pessoa -> assertNotNull(pessoa.getEndereco().getBairro()));
+        assertTrue(estatisticas().getPrepareStatementCount() <= MAXIMO_INSTRUCOES_POR_LEITURA + 1,
+                "findAll(Pageable) executou " + estatisticas().getPrepareStatementCount() + " instruções");
+    }
+
+    @Test
+    public void test_find_by_id_loads_associations_in_a_single_statement() {
+        PessoaData pessoa = repository.findById(primeiroId).orElseThrow();
+
+        assertEquals("Bairro 0", pessoa.getEndereco().getBairro());
+        assertEquals(Telefone.parse("(11) 90000-0000"), pessoa.getContato().getTelefone());
+        assertEquals(MAXIMO_INSTRUCOES_POR_LEITURA, estatisticas().getPrepareStatementCount());
+    }
+
+    @Test
+    public void test_find_all_by_id_loads_associations_in_a_single_statement() {
+        List<PessoaData> pessoas = repository.findAllById(List.of(primeiroId, primeiroId + 1, primeiroId + 2));
+
+        assertEquals(3, pessoas.size());
+        pessoas.forEach(pessoa -> assertNotNull(pessoa.getContato().getTelefone()));
+        assertEquals(MAXIMO_INSTRUCOES_POR_LEITURA, estatisticas().getPrepareStatementCount());
+    }
+
+    @Test
+    public void test_listing_projection_uses_a_single_statement() {
+        List<PessoaListagemDto> pagina = repository.listarResumoAposId(primeiroId, Limit.of(10));
+
+        assertEquals(10, pagina.size());
+        assertEquals(primeiroId + 1, pagina.get(0).getId());
+        assertEquals("Bairro 1", pagina.get(0).getBairro());
+        assertEquals("(11) 90001-0000", pagina.get(0).getTelefone());
+        assertEquals(MAXIMO_INSTRUCOES_POR_LEITURA, estatisticas().getPrepareStatementCount());
+    }
+
+    @Test
+    public void test_bulk_insert_is_sent_in_jdbc_batches() {
+        List<PessoaData> pessoas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            pessoas.add(PessoaData.builder()
+                    .nome("Lote " + i)
+                    .contato(ContatoData.builder().telefone(Telefone.parse(String.format("(21) 9%04d-0000", i))).build())
+                    .endereco(EnderecoData.builder().bairro("Bairro " + i).build())
+                    .build());
+        }
+
+        repository.saveAll(pessoas);
+        repository.flush();
+
+        assertEquals(100, estatisticas().getEntityInsertCount());
+        assertTrue(estatisticas().getPrepareStatementCount() < 10,
+                "A inclusão de 100 pessoas preparou " + estatisticas().getPrepareStatementCount() + " instruções");
+    }
+
+    @Test
+    public void test_telefones_cadastrados_returns_only_existing_ones() {
+        List<Telefone> cadastrados = repository.telefonesCadastrados(
+                List.of(Telefone.parse("(11) 90000-0000"), Telefone.parse("(11) 99999-9999")));
+
+        assertEquals(List.of(Telefone.parse("(11) 90000-0000")), cadastrados);
+    }
+
+    @Test
+    public void test_duplicate_phone_is_rejected_by_unique_index() {
+        PessoaData duplicada = PessoaData.builder()
+                .nome("Duplicada")
+                .contato(ContatoData.builder().telefone(Telefone.parse("(11) 90000-0000")).build())
+                .build();
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> repository.saveAndFlush(duplicada));
+        ConstraintViolationException violacao = assertInstanceOf(ConstraintViolationException.class, exception.getCause());
+        assertTrue(violacao.getConstraintName().toLowerCase().contains(PessoaData.UNICIDADE_TELEFONE),
+                "Restrição violada: " + violacao.getConstraintName());
+    }
+
+    @Test
+    public void test_schema_is_created_by_versioned_migrations() {
+        assertEquals("8", flyway.info().current().getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
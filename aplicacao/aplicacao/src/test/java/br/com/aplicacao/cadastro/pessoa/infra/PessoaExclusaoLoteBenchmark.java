@@ -0,0 +1,96 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão, em registros excluídos por segundo, da exclusão de pessoas um identificador por vez (como os processos
+ * de retenção fazem hoje com {@code DELETE /cadastro/pessoa/{id}}) e da exclusão em blocos de
+ * {@code cadastro.pessoa.lote.tamanho} identificadores com uma instrução {@code delete ... in (...)} por bloco, como
+ * em {@code POST /cadastro/pessoa/excluir-lote}.
+ *
+ * <p>A base é criada pelas migrações e repopulada antes de cada invocação, fora da medição.</p>
+ *
+ * <p>Executar pela IDE através do método {@code main}, ou pela linha de comando após {@code mvn test-compile}:</p>
+ * <pre>{@code
+ *     mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *     java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *         br.com.aplicacao.cadastro.pessoa.infra.PessoaExclusaoLoteBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(PessoaExclusaoLoteBenchmark.QUANTIDADE_PESSOAS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(1)
+public class PessoaExclusaoLoteBenchmark {
+
+    static final int QUANTIDADE_PESSOAS = 20_000;
+    private static final int TAMANHO_BLOCO = 500;
+    private static final long PRIMEIRO_TELEFONE = 119_0000_0000L;
+
+    @Param({"1", "" + TAMANHO_BLOCO})
+    private int tamanhoBloco;
+
+    private Connection conexao;
+
+    private PreparedStatement exclusao;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:exclusao-" + tamanhoBloco + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, null, null).load().migrate();
+        conexao = DriverManager.getConnection(url);
+        exclusao = conexao.prepareStatement("DELETE FROM cadastro_pessoa WHERE id_pessoa IN ("
+                + String.join(", ", Collections.nCopies(tamanhoBloco, "?")) + ")");
+    }
+
+    @Setup(Level.Invocation)
+    public void popular() throws SQLException {
+        try (PreparedStatement insercao = conexao.prepareStatement(
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome, telefone, bairro, versao) VALUES (?, ?, ?, ?, 0)")) {
+            for (int i = 1; i <= QUANTIDADE_PESSOAS; i++) {
+                insercao.setLong(1, i);
+                insercao.setString(2, "Pessoa " + i);
+                insercao.setLong(3, PRIMEIRO_TELEFONE + i);
+                insercao.setString(4, "Bairro " + i % 100);
+                insercao.addBatch();
+                if (i % 1000 == 0) insercao.executeBatch();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    public int excluir() throws SQLException {
+        int excluidas = 0;
+        for (int inicio = 1; inicio <= QUANTIDADE_PESSOAS; inicio += tamanhoBloco) {
+            for (int i = 0; i < tamanhoBloco; i++) exclusao.setLong(i + 1, inicio + i);
+            excluidas += exclusao.executeUpdate();
+        }
+        if (excluidas != QUANTIDADE_PESSOAS) throw new IllegalStateException("Excluídas " + excluidas);
+        return excluidas;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PessoaExclusaoLoteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a verificação de telefones já cadastrados ({@code PessoaDataRepository.telefonesCadastrados}, executada antes
+ * de cada inclusão em lote) sobre uma base populada pelas migrações, com e sem os índices do telefone e do nome.
+ *
+ * <p>No início de cada execução é impresso o plano das consultas por telefone, por prefixo do nome e da listagem por
+ * cursor de identificador: sem os índices as consultas por telefone e por nome percorrem toda a tabela; com eles
+ * apenas as chaves informadas, ou o intervalo do prefixo, são lidas. A listagem utiliza a chave primária nos dois
+ * casos.</p>
+ *
+ * <p>Executar pela IDE através do método {@code main}, ou pela linha de comando após {@code mvn test-compile}:</p>
+ * <pre>{@code
+ *     mvn -q dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *     java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *         br.com.aplicacao.cadastro.pessoa.infra.PessoaIndiceBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PessoaIndiceBenchmark {
+
+    private static final int QUANTIDADE_PESSOAS = 100_000;
+    private static final int TELEFONES_POR_CONSULTA = 50;
+    private static final long PRIMEIRO_TELEFONE = 119_0000_0000L;
+
+    private static final String CONSULTA_TELEFONES = "SELECT telefone FROM cadastro_pessoa WHERE telefone IN ("
+            + String.join(", ", Collections.nCopies(TELEFONES_POR_CONSULTA, "?")) + ")";
+    private static final String CONSULTA_LISTAGEM = "SELECT id_pessoa, nome, bairro, telefone FROM cadastro_pessoa "
+            + "WHERE id_pessoa > ? ORDER BY id_pessoa LIMIT 100";
+
+    @Param({"false", "true"})
+    private boolean indice;
+
+    private Connection conexao;
+
+    private PreparedStatement consulta;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:indice-" + indice + ";DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, null, null).load().migrate();
+        conexao = DriverManager.getConnection(url);
+        popular();
+        if (!indice) executar("ALTER TABLE cadastro_pessoa DROP CONSTRAINT uk_cadastro_pessoa_telefone",
+                "DROP INDEX ix_cadastro_pessoa_nome");
+        executar("ANALYZE");
+
+        System.out.printf("%n%s%n%s%n%s%n%s%n", indice ? "Com índices do telefone e do nome" : "Sem índices do telefone e do nome",
+                plano("SELECT telefone FROM cadastro_pessoa WHERE telefone IN (" + PRIMEIRO_TELEFONE + ")"),
+                plano("SELECT id_pessoa, nome FROM cadastro_pessoa WHERE nome LIKE 'Pessoa 1234%'"),
+                plano(CONSULTA_LISTAGEM.replace("?", "0")));
+        consulta = conexao.prepareStatement(CONSULTA_TELEFONES);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        executar("DROP ALL OBJECTS");
+        conexao.close();
+    }
+
+    @Benchmark
+    public int telefonesCadastrados() throws SQLException {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 1; i <= TELEFONES_POR_CONSULTA; i++) {
+            consulta.setLong(i, PRIMEIRO_TELEFONE + aleatorio.nextInt(QUANTIDADE_PESSOAS * 2));
+        }
+        int encontrados = 0;
+        try (ResultSet resultado = consulta.executeQuery()) {
+            while (resultado.next()) encontrados++;
+        }
+        return encontrados;
+    }
+
+    private void popular() throws SQLException {
+        try (PreparedStatement insercao = conexao.prepareStatement(
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome, telefone, bairro, versao) VALUES (?, ?, ?, ?, 0)")) {
+            for (int i = 1; i <= QUANTIDADE_PESSOAS; i++) {
+                insercao.setLong(1, i);
+                insercao.setString(2, "Pessoa " + i);
+                insercao.setLong(3, PRIMEIRO_TELEFONE + i);
+                insercao.setString(4, "Bairro " + i % 100);
+                insercao.addBatch();
+                if (i % 1000 == 0) insercao.executeBatch();
+            }
+        }
+    }
+
+    private String plano(String sql) throws SQLException {
+        List<String> linhas = new ArrayList<>();
+        try (Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultado.next()) linhas.add(resultado.getString(1));
+        }
+        return String.join(System.lineSeparator(), linhas);
+    }
+
+    private void executar(String... instrucoes) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            for (String instrucao : instrucoes) statement.execute(instrucao);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PessoaIndiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
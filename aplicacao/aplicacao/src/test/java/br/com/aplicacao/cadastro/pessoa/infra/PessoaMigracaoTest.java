@@ -0,0 +1,142 @@
+package br.com.aplicacao.cadastro.pessoa.infra;
+
+import org.flywaydb.core.Flyway;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PessoaMigracaoTest {
+
+    private static final String URL = "jdbc:h2:mem:migracao;DB_CLOSE_DELAY=-1";
+
+    private Connection conexao;
+
+    @Before
+    public void setUp() throws SQLException {
+        conexao = DriverManager.getConnection(URL);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    @Test
+    public void test_migrations_create_single_table_schema() throws SQLException {
+        Flyway flyway = flyway("latest");
+
+        assertEquals(8, flyway.migrate().migrationsExecuted);
+        assertEquals(List.of("CADASTRO_IMPORTACAO", "CADASTRO_PESSOA", "CADASTRO_PESSOA_LISTAGEM"), tabelas());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    public void test_migration_moves_contato_and_endereco_into_pessoa() throws SQLException {
+        flyway("1").migrate();
+        executar("INSERT INTO cadastro_contato (id_contato, telefone) VALUES (10, '(31) 34567-8901')",
+                "INSERT INTO cadastro_contato (id_contato, telefone) VALUES (11, '(12) 3456-7890')",
+                "INSERT INTO cadastro_endereco (id_endereco, bairro) VALUES (20, 'Centro')",
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome, id_endereco, id_contato) VALUES (1, 'Completa', 20, 10)",
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome, id_contato) VALUES (2, 'Oito', 11)",
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome) VALUES (3, 'Sem dados')");
+
+        flyway("latest").migrate();
+
+        try (Statement statement = conexao.createStatement();
+             ResultSet pessoas = statement.executeQuery("SELECT id_pessoa, nome, telefone, bairro, versao FROM cadastro_pessoa ORDER BY id_pessoa")) {
+            assertTrue(pessoas.next());
+            assertEquals("Completa", pessoas.getString("nome"));
+            assertEquals(311345678901L, pessoas.getLong("telefone"));
+            assertEquals("Centro", pessoas.getString("bairro"));
+            assertEquals(0L, pessoas.getLong("versao"));
+            assertTrue(pessoas.next());
+            assertEquals(120034567890L, pessoas.getLong("telefone"));
+            assertNull(pessoas.getObject("bairro"));
+            assertTrue(pessoas.next());
+            assertNull(pessoas.getObject("telefone"));
+            assertNull(pessoas.getObject("bairro"));
+            assertFalse(pessoas.next());
+        }
+    }
+
+    @Test
+    public void test_unique_telefone_index_is_kept_after_migration() throws SQLException {
+        flyway("latest").migrate();
+        executar("INSERT INTO cadastro_pessoa (id_pessoa, nome, telefone, versao) VALUES (1, 'Primeira', 313456789010, 0)");
+
+        SQLException exception = assertThrows(SQLException.class,
+                () -> executar("INSERT INTO cadastro_pessoa (id_pessoa, nome, telefone, versao) VALUES (2, 'Segunda', 313456789010, 0)"));
+
+        assertTrue(exception.getMessage().toUpperCase().contains("UK_CADASTRO_PESSOA_TELEFONE"));
+    }
+
+    @Test
+    public void test_nome_index_is_created() throws SQLException {
+        flyway("latest").migrate();
+
+        List<String> indices = new ArrayList<>();
+        try (ResultSet resultado = conexao.getMetaData().getIndexInfo(null, "PUBLIC", "CADASTRO_PESSOA", false, false)) {
+            while (resultado.next()) {
+                if ("NOME".equals(resultado.getString("COLUMN_NAME"))) indices.add(resultado.getString("INDEX_NAME"));
+            }
+        }
+
+        assertEquals(List.of("IX_CADASTRO_PESSOA_NOME"), indices);
+    }
+
+    @Test
+    public void test_existing_database_is_baselined_at_the_initial_structure() throws SQLException {
+        flyway("1").migrate();
+        executar("DROP TABLE \"flyway_schema_history\"");
+
+        Flyway flyway = Flyway.configure().dataSource(URL, null, null)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+
+        assertEquals(7, flyway.migrate().migrationsExecuted);
+        assertEquals(List.of("CADASTRO_IMPORTACAO", "CADASTRO_PESSOA", "CADASTRO_PESSOA_LISTAGEM"), tabelas());
+    }
+
+    @Test
+    public void test_sequences_start_above_existing_ids() throws SQLException {
+        flyway("1").migrate();
+        executar("INSERT INTO cadastro_pessoa (id_pessoa, nome) VALUES (1, 'Primeira')",
+                "INSERT INTO cadastro_pessoa (id_pessoa, nome) VALUES (137, 'Segunda')");
+
+        flyway("latest").migrate();
+
+        try (Statement statement = conexao.createStatement();
+             ResultSet valor = statement.executeQuery("SELECT NEXT VALUE FOR cadastro_pessoa_seq")) {
+            assertTrue(valor.next());
+            assertTrue("O primeiro bloco reservado deve começar após o maior identificador", valor.getLong(1) - 49 > 137);
+        }
+    }
+
+    private Flyway flyway(String versao) {
+        return Flyway.configure().dataSource(URL, null, null).target(versao).load();
+    }
+
+    private void executar(String... instrucoes) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            for (String instrucao : instrucoes) statement.execute(instrucao);
+        }
+    }
+
+    private List<String> tabelas() throws SQLException {
+        List<String> tabelas = new ArrayList<>();
+        try (ResultSet resultado = conexao.getMetaData().getTables(null, "PUBLIC", "CADASTRO%", new String[]{"TABLE"})) {
+            while (resultado.next()) tabelas.add(resultado.getString("TABLE_NAME"));
+        }
+        return tabelas;
+    }
+}
@@ -0,0 +1,379 @@
+package br.com.aplicacao.cadastro.pessoa.infra.cache;
+
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class PessoaCacheTest {
+
+    private final MeterRegistry registro = new SimpleMeterRegistry();
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void test_second_lookup_is_served_from_cache() {
+        PessoaCache cache = novoCache(true);
+        AtomicInteger cargas = new AtomicInteger();
+        Function<Long, Optional<Pessoa>> carregador = id -> {
+            cargas.incrementAndGet();
+            return Optional.of(new Pessoa(id, "Nome", null, null));
+        };
+
+        Pessoa primeira = cache.consultar(1L, carregador).orElseThrow();
+        Pessoa segunda = cache.consultar(1L, carregador).orElseThrow();
+
+        assertSame(primeira, segunda);
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    public void test_missing_pessoa_is_not_cached() {
+        PessoaCache cache = novoCache(true);
+        AtomicInteger cargas = new AtomicInteger();
+
+        cache.consultar(1L, id -> {
+            cargas.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<Pessoa> resultado = cache.consultar(1L, id -> {
+            cargas.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertTrue(resultado.isEmpty());
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    public void test_invalidation_without_transaction_is_immediate() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+
+        cache.invalidarAposCommit(1L);
+
+        assertEquals("Novo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_invalidation_inside_transaction_waits_for_commit() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidarAposCommit(1L);
+
+        assertEquals("Antigo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("Novo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_rolled_back_transaction_keeps_entry() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidarAposCommit(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals("Antigo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_batch_invalidation_waits_for_commit() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+        cache.consultar(2L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidarAposCommit(new long[]{1L, 2L});
+
+        assertEquals("Antigo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("Novo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+        assertEquals("Novo", cache.consultar(2L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_entries_expire_after_ttl() throws InterruptedException {
+        PessoaCache cache = new PessoaCache(true, 100, Duration.ofMillis(20), Duration.ofSeconds(5), provedor());
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Antigo", null, null)));
+
+        Thread.sleep(50);
+
+        assertEquals("Novo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_disabled_cache_always_delegates() {
+        PessoaCache cache = novoCache(false);
+        AtomicInteger cargas = new AtomicInteger();
+        Function<Long, Optional<Pessoa>> carregador = id -> {
+            cargas.incrementAndGet();
+            return Optional.of(new Pessoa(id));
+        };
+
+        cache.consultar(1L, carregador);
+        cache.consultar(1L, carregador);
+        cache.invalidarAposCommit(1L);
+
+        assertFalse(cache.isHabilitado());
+        assertEquals(2, cargas.get());
+        assertNull(registro.find("cache.gets").functionCounter());
+    }
+
+    @Test
+    public void test_publishes_hit_and_miss_metrics() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id)));
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id)));
+        cache.consultar(2L, id -> Optional.of(new Pessoa(id)));
+
+        assertEquals(1.0, registro.get("cache.gets").tag("cache", PessoaCache.NOME).tag("result", "hit").functionCounter().count(), 0.0);
+        assertEquals(2.0, registro.get("cache.gets").tag("cache", PessoaCache.NOME).tag("result", "miss").functionCounter().count(), 0.0);
+        assertNotNull(registro.find("cache.evictions").tag("cache", PessoaCache.NOME).functionCounter());
+    }
+
+    @Test
+    public void test_bulk_lookup_loads_only_ids_missing_from_cache() {
+        PessoaCache cache = novoCache(true);
+        Pessoa emCache = cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Nome", null, null))).orElseThrow();
+        List<Set<Long>> cargas = new ArrayList<>();
+
+        Map<Long, Pessoa> resultado = cache.consultarTodos(List.of(1L, 2L, 3L), ausentes -> {
+            cargas.add(ausentes);
+            return Map.of(2L, new Pessoa(2L, "Outro", null, null));
+        });
+
+        assertEquals(List.of(Set.of(2L, 3L)), cargas);
+        assertSame(emCache, resultado.get(1L));
+        assertEquals("Outro", resultado.get(2L).getNome());
+        assertFalse(resultado.containsKey(3L));
+    }
+
+    @Test
+    public void test_bulk_lookup_does_not_call_loader_when_all_ids_are_cached() {
+        PessoaCache cache = novoCache(true);
+        cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Nome", null, null)));
+
+        Map<Long, Pessoa> resultado = cache.consultarTodos(List.of(1L), ausentes -> {
+            throw new AssertionError("Carga inesperada");
+        });
+
+        assertEquals(Set.of(1L), resultado.keySet());
+    }
+
+    @Test
+    public void test_bulk_lookup_does_not_cache_loaded_pessoas() {
+        PessoaCache cache = novoCache(true);
+        cache.consultarTodos(List.of(1L), ausentes -> Map.of(1L, new Pessoa(1L, "Nome", null, null)));
+        AtomicInteger cargas = new AtomicInteger();
+
+        cache.consultar(1L, id -> {
+            cargas.incrementAndGet();
+            return Optional.of(new Pessoa(id, "Nome", null, null));
+        });
+
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    public void test_bulk_lookup_with_cache_disabled_delegates_all_ids() {
+        List<Set<Long>> cargas = new ArrayList<>();
+
+        PessoaCache.desabilitado().consultarTodos(List.of(2L, 1L), ausentes -> {
+            cargas.add(ausentes);
+            return Map.of();
+        });
+
+        assertEquals(List.of(Set.of(1L, 2L)), cargas);
+    }
+
+    @Test
+    public void test_concurrent_lookups_of_missing_pessoa_share_one_load() throws Exception {
+        PessoaCache cache = novoCache(true);
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        Function<Long, Optional<Pessoa>> carregador = id -> {
+            cargas.incrementAndGet();
+            aguardar(liberar);
+            return Optional.empty();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<Pessoa>>> consultas = new ArrayList<>();
+            for (int i = 0; i < 4; i++) consultas.add(executor.submit(() -> cache.consultar(1L, carregador)));
+            aguardarCompartilhamentos(3);
+            liberar.countDown();
+
+            for (Future<Optional<Pessoa>> consulta : consultas) assertTrue(consulta.get(5, TimeUnit.SECONDS).isEmpty());
+            assertEquals(1, cargas.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_concurrent_lookups_share_the_loader_failure() throws Exception {
+        PessoaCache cache = novoCache(false);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Function<Long, Optional<Pessoa>> carregador = id -> {
+            aguardar(liberar);
+            throw new IllegalStateException("Banco indisponível");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Pessoa>> primeira = executor.submit(() -> cache.consultar(1L, carregador));
+            Future<Optional<Pessoa>> segunda = executor.submit(() -> cache.consultar(1L, carregador));
+            aguardarCompartilhamentos(1);
+            liberar.countDown();
+
+            for (Future<Optional<Pessoa>> consulta : List.of(primeira, segunda)) {
+                ExecutionException exception = assertThrows(ExecutionException.class, () -> consulta.get(5, TimeUnit.SECONDS));
+                assertEquals("Banco indisponível", exception.getCause().getMessage());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_invalidation_stops_sharing_an_in_flight_load() throws Exception {
+        PessoaCache cache = novoCache(false);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Pessoa>> anterior = executor.submit(() -> cache.consultar(1L, id -> {
+                iniciada.countDown();
+                aguardar(liberar);
+                return Optional.of(new Pessoa(id, "Antigo", null, null));
+            }));
+            assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+            cache.invalidarAposCommit(1L);
+            Optional<Pessoa> posterior = cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null)));
+            liberar.countDown();
+
+            assertEquals("Novo", posterior.orElseThrow().getNome());
+            assertEquals("Antigo", anterior.get(5, TimeUnit.SECONDS).orElseThrow().getNome());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_invalidation_does_not_wait_for_in_flight_load() throws Exception {
+        PessoaCache cache = novoCache(true);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Pessoa>> carga = executor.submit(() -> cache.consultar(1L, id -> {
+                iniciada.countDown();
+                aguardar(liberar);
+                return Optional.of(new Pessoa(id, "Antigo", null, null));
+            }));
+            assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+            executor.submit(() -> cache.invalidarAposCommit(1L)).get(5, TimeUnit.SECONDS);
+            liberar.countDown();
+            carga.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_load_started_before_invalidation_is_not_cached() throws Exception {
+        PessoaCache cache = novoCache(true);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<Pessoa>> anterior = executor.submit(() -> cache.consultar(1L, id -> {
+                iniciada.countDown();
+                aguardar(liberar);
+                return Optional.of(new Pessoa(id, "Antigo", null, null));
+            }));
+            assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+            cache.invalidarAposCommit(1L);
+            liberar.countDown();
+
+            assertEquals("Antigo", anterior.get(5, TimeUnit.SECONDS).orElseThrow().getNome());
+            assertEquals("Novo", cache.consultar(1L, id -> Optional.of(new Pessoa(id, "Novo", null, null))).orElseThrow().getNome());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_lookups_inside_transaction_do_not_share_loads() {
+        PessoaCache cache = novoCache(false);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            cache.consultar(1L, id -> Optional.empty());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertEquals(0.0, registro.get(PessoaCache.METRICA_COMPARTILHAMENTOS).functionCounter().count(), 0.0);
+    }
+
+    private void aguardarCompartilhamentos(int quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registro.get(PessoaCache.METRICA_COMPARTILHAMENTOS).functionCounter().count() < quantidade) {
+            assertTrue("Consultas não compartilharam a carga", System.nanoTime() < limite);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PessoaCache novoCache(boolean habilitado) {
+        return new PessoaCache(habilitado, 100, Duration.ofMinutes(5), Duration.ofSeconds(5), provedor());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<MeterRegistry> provedor() {
+        ObjectProvider<MeterRegistry> provedor = mock(ObjectProvider.class);
+        doAnswer(invocacao -> {
+            invocacao.<Consumer<MeterRegistry>>getArgument(0).accept(registro);
+            return null;
+        }).when(provedor).ifAvailable(any());
+        return provedor;
+    }
+}
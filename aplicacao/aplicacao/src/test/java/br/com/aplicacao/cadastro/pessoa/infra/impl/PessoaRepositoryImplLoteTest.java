@@ -0,0 +1,141 @@
+package br.com.aplicacao.cadastro.pessoa.infra.impl;
+
+import br.com.aplicacao.cadastro.contato.ContatoMapper;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.EnderecoMapper;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
+import br.com.aplicacao.cadastro.pessoa.PessoaMapper;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.cache.PessoaCache;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica contra o banco as operações em lote herdadas de {@link br.com.aplicacao.core.infra.impl.BaseRepositoryImpl}.
+ *
+ * <p>A quantidade de instruções preparadas mostra se os registros foram agrupados em lotes JDBC: sem agrupamento,
+ * cada registro prepararia a sua própria instrução. Como {@code PessoaData} usa {@code @DynamicUpdate}, cujos
+ * {@code update} não são agrupados pelo Hibernate, a alteração é verificada pela ausência de leituras por registro.</p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "cadastro.pessoa.lote.tamanho=100"
+})
+@Import({PessoaRepositoryImpl.class, PessoaMapper.class, ContatoMapper.class, EnderecoMapper.class, PessoaCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PessoaRepositoryImplLoteTest {
+
+    private static final int QUANTIDADE = 120;
+    private static final long MAXIMO_INSTRUCOES = 10;
+
+    @Autowired
+    private PessoaRepositoryImpl repository;
+
+    @Autowired
+    private PessoaDataRepository pessoaDataRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Pessoa> pessoas;
+
+    @BeforeEach
+    public void setUp() {
+        estatisticas().clear();
+        pessoas = repository.incluirTodos(novas());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pessoaDataRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void test_incluir_todos_batches_inserts_and_returns_generated_ids() {
+        assertTrue(estatisticas().getPrepareStatementCount() <= MAXIMO_INSTRUCOES,
+                "A inclusão executou " + estatisticas().getPrepareStatementCount() + " instruções");
+        assertEquals(QUANTIDADE, pessoas.size());
+        assertTrue(pessoas.stream().allMatch(pessoa -> pessoa.getId() != null && pessoa.getVersao() == 0L));
+        assertEquals("Pessoa 119", pessoas.get(QUANTIDADE - 1).getNome());
+        assertEquals(QUANTIDADE, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_alterar_todos_updates_without_reading_each_row() {
+        List<Pessoa> alteracoes = pessoas.stream().map(pessoa -> copia(pessoa, pessoa.getNome() + " alterada")).toList();
+        estatisticas().clear();
+
+        List<Pessoa> alteradas = repository.alterarTodos(alteracoes);
+
+        assertTrue(estatisticas().getPrepareStatementCount() <= QUANTIDADE + MAXIMO_INSTRUCOES,
+                "A alteração executou " + estatisticas().getPrepareStatementCount() + " instruções");
+        assertTrue(alteradas.stream().allMatch(pessoa -> pessoa.getVersao() == 1L));
+        assertEquals("Pessoa 7 alterada", pessoaDataRepository.findById(pessoas.get(7).getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_todos_with_stale_version_is_rejected() {
+        repository.alterar(copia(pessoas.get(3), "Primeira"));
+        List<Pessoa> alteracoes = pessoas.subList(0, 5).stream().map(pessoa -> copia(pessoa, "Segunda")).toList();
+
+        assertThrows(VersaoDivergenteException.class, () -> repository.alterarTodos(alteracoes));
+        assertEquals("Primeira", pessoaDataRepository.findById(pessoas.get(3).getId()).orElseThrow().getNome());
+        assertEquals("Pessoa 0", pessoaDataRepository.findById(pessoas.get(0).getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_todos_without_version_uses_current_one() {
+        repository.alterar(copia(pessoas.get(0), "Primeira"));
+        Pessoa semVersao = copia(pessoas.get(0), "Segunda");
+        semVersao.setVersao(null);
+
+        assertEquals(2L, repository.alterarTodos(List.of(semVersao)).get(0).getVersao());
+    }
+
+    @Test
+    public void test_excluir_todos_removes_in_chunks() {
+        List<Long> ids = pessoas.stream().map(Pessoa::getId).toList();
+
+        repository.excluirTodos(ids.subList(0, 110));
+
+        assertEquals(10, pessoaDataRepository.count());
+        assertTrue(pessoaDataRepository.existsById(ids.get(110)));
+    }
+
+    private static List<Pessoa> novas() {
+        List<Pessoa> novas = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE; i++) {
+            novas.add(new Pessoa(null, "Pessoa " + i, new Endereco(null, "Centro"),
+                    new Contato(String.format("(41) 9%04d-0000", i))));
+        }
+        return novas;
+    }
+
+    private static Pessoa copia(Pessoa pessoa, String nome) {
+        return new Pessoa(pessoa.getId(), nome,
+                new Endereco(pessoa.getEndereco().getId(), pessoa.getEndereco().getBairro()),
+                new Contato(pessoa.getContato().getId(), pessoa.getContato().getTelefone()),
+                pessoa.getVersao());
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
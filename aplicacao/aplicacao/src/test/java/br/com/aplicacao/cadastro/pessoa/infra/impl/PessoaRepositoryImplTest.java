@@ -2,18 +2,44 @@ package br.com.aplicacao.cadastro.pessoa.infra.impl;
 
 import br.com.aplicacao.cadastro.contato.ContatoMapper;
 import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
-import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
 import br.com.aplicacao.cadastro.endereco.EnderecoMapper;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
 import br.com.aplicacao.cadastro.pessoa.PessoaMapper;
 import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.PessoaGravada;
+import br.com.aplicacao.cadastro.pessoa.dto.PessoaListagemDto;
 import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.cache.PessoaCache;
 import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.jpa.HibernateHints;
 import org.junit.Test;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -24,7 +50,7 @@ public class PessoaRepositoryImplTest {
     public void test_consultar_valid_id() {
         var pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
         PessoaData pessoaData = new PessoaData(1L, "John Doe", null, null);
         Pessoa pessoa = new Pessoa(1L, "John Doe", null, null);
@@ -39,28 +65,23 @@ public class PessoaRepositoryImplTest {
     }
 
     @Test
-    public void test_contato_ja_utilizado_true() {
+    public void test_consultar_gravada_bypasses_pessoa_cache() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
-
-        Contato contato = new Contato();
-        contato.setTelefone("123456789");
-        Pessoa pessoa = new Pessoa(1L, "John Doe", null, contato);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(new PessoaMapper(new ContatoMapper(), new EnderecoMapper()), pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 3L)));
 
-        when(pessoaMapper.toData(pessoa)).thenReturn(new PessoaData(1L, "John Doe", null, new ContatoData(1L, "123456789")));
-        when(pessoaDataRepository.telefoneJaCadastrado("123456789")).thenReturn(true);
+        Optional<Pessoa> result = pessoaRepository.consultarGravada(1L);
 
-        boolean result = pessoaRepository.contatoJaUtilizado(pessoa);
-
-        assertTrue(result);
+        assertEquals(Long.valueOf(3L), result.orElseThrow().getVersao());
+        verifyNoInteractions(pessoaCache);
     }
 
     @Test
     public void test_incluir() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
         Pessoa pessoa = new Pessoa(null, "John Doe", null, null);
         PessoaData pessoaData = new PessoaData(null, "John Doe", null, null);
@@ -68,7 +89,7 @@ public class PessoaRepositoryImplTest {
         Pessoa savedPessoa = new Pessoa(1L, "John Doe", null, null);
 
         when(pessoaMapper.toData(pessoa)).thenReturn(pessoaData);
-        when(pessoaDataRepository.save(pessoaData)).thenReturn(savedPessoaData);
+        when(pessoaDataRepository.saveAndFlush(pessoaData)).thenReturn(savedPessoaData);
         when(pessoaMapper.toDomain(savedPessoaData)).thenReturn(savedPessoa);
 
         Pessoa result = pessoaRepository.incluir(pessoa);
@@ -80,7 +101,8 @@ public class PessoaRepositoryImplTest {
     public void test_alterar() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
 
         Pessoa pessoa = new Pessoa(1L, "John Doe", null, null);
         PessoaData pessoaData = new PessoaData(1L, "John Doe", null, null);
@@ -88,7 +110,7 @@ public class PessoaRepositoryImplTest {
         PessoaData updatedPessoaData = new PessoaData(1L, "John Doe Updated", null, null);
 
         when(pessoaMapper.toData(pessoa)).thenReturn(pessoaData);
-        when(pessoaDataRepository.save(pessoaData)).thenReturn(updatedPessoaData);
+        when(pessoaDataRepository.saveAndFlush(pessoaData)).thenReturn(updatedPessoaData);
         when(pessoaMapper.toDomain(updatedPessoaData)).thenReturn(updatedPessoa);
 
         Pessoa result = pessoaRepository.alterar(pessoa);
@@ -100,7 +122,7 @@ public class PessoaRepositoryImplTest {
     public void test_consultar_invalid_id() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
         when(pessoaDataRepository.findById(999L)).thenReturn(Optional.empty());
 
@@ -110,241 +132,521 @@ public class PessoaRepositoryImplTest {
     }
 
     @Test
-    public void test_contato_ja_utilizado_false() {
+    public void test_returns_slice_of_pessoa_objects_when_multiple_records() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
-
-        Contato contato = new Contato();
-        contato.setTelefone("123456789");
-        Pessoa pessoa = new Pessoa(1L, "John Doe", null, contato);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        when(pessoaMapper.toData(pessoa)).thenReturn(new PessoaData(1L, "John Doe", null, new ContatoData(1L, "123456789")));
-        when(pessoaDataRepository.telefoneJaCadastrado("123456789")).thenReturn(false);
+        List<PessoaListagemDto> pessoas = Arrays.asList(new PessoaListagemDto(), new PessoaListagemDto());
+        when(pessoaDataRepository.listarResumoAposId(0L, Limit.of(11))).thenReturn(pessoas);
 
-        boolean result = pessoaRepository.contatoJaUtilizado(pessoa);
+        Slice<PessoaListagemDto> result = pessoaRepository.listar(null, 10);
 
-        assertFalse(result);
+        assertEquals(2, result.getNumberOfElements());
+        assertFalse(result.hasNext());
     }
 
     @Test
-    public void test_returns_page_of_pessoa_objects_when_multiple_records() {
+    public void test_returns_empty_slice_when_no_records() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        List<PessoaData> pessoaDataList = Arrays.asList(new PessoaData(), new PessoaData());
-        Page<PessoaData> pessoaDataPage = new PageImpl<>(pessoaDataList);
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenReturn(pessoaDataPage);
+        when(pessoaDataRepository.listarResumoAposId(0L, Limit.of(11))).thenReturn(Collections.emptyList());
 
-        Page<Pessoa> result = pessoaRepository.listar();
-
-        assertEquals(2, result.getTotalElements());
-        verify(pessoaMapper, times(2)).toDomain(any(PessoaData.class));
-    }
-
-    @Test
-    public void test_returns_empty_page_when_no_records() {
-        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
-
-        Page<PessoaData> pessoaDataPage = new PageImpl<>(Collections.emptyList());
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenReturn(pessoaDataPage);
-
-        Page<Pessoa> result = pessoaRepository.listar();
+        Slice<PessoaListagemDto> result = pessoaRepository.listar(null, 10);
 
         assertTrue(result.isEmpty());
-        verify(pessoaMapper, never()).toDomain(any(PessoaData.class));
     }
 
     @Test
-    public void test_maps_pessoadata_to_pessoa_correctly_for_all_records() {
+    public void test_does_not_hydrate_entities_nor_use_mapper() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        PessoaData pessoaData1 = new PessoaData();
-        PessoaData pessoaData2 = new PessoaData();
-        List<PessoaData> pessoaDataList = Arrays.asList(pessoaData1, pessoaData2);
-        Page<PessoaData> pessoaDataPage = new PageImpl<>(pessoaDataList);
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenReturn(pessoaDataPage);
+        PessoaListagemDto pessoa1 = new PessoaListagemDto(1L, "John Doe", "Centro", "(12) 3456-7890");
+        PessoaListagemDto pessoa2 = new PessoaListagemDto(2L, "Jane Doe", "Norte", "(12) 93456-7890");
+        when(pessoaDataRepository.listarResumoAposId(0L, Limit.of(11))).thenReturn(Arrays.asList(pessoa1, pessoa2));
 
-        Pessoa pessoa1 = new Pessoa();
-        Pessoa pessoa2 = new Pessoa();
-        when(pessoaMapper.toDomain(pessoaData1)).thenReturn(pessoa1);
-        when(pessoaMapper.toDomain(pessoaData2)).thenReturn(pessoa2);
-
-        Page<Pessoa> result = pessoaRepository.listar();
+        Slice<PessoaListagemDto> result = pessoaRepository.listar(null, 10);
 
         assertEquals(Arrays.asList(pessoa1, pessoa2), result.getContent());
+        verifyNoInteractions(pessoaMapper);
+        verify(pessoaDataRepository, never()).findAll(any(Pageable.class));
     }
 
     @Test
-    public void test_retrieves_all_records_without_pagination_constraints() {
+    public void test_uses_cursor_to_fetch_records_after_given_id() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        List<PessoaData> pessoaDataList = Arrays.asList(new PessoaData(), new PessoaData());
-        Page<PessoaData> pessoaDataPage = new PageImpl<>(pessoaDataList);
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenReturn(pessoaDataPage);
+        when(pessoaDataRepository.listarResumoAposId(42L, Limit.of(6))).thenReturn(Collections.emptyList());
 
-        Page<Pessoa> result = pessoaRepository.listar();
+        pessoaRepository.listar(42L, 5);
 
-        assertEquals(2, result.getTotalElements());
+        verify(pessoaDataRepository).listarResumoAposId(42L, Limit.of(6));
+        verify(pessoaDataRepository, never()).count();
     }
 
     @Test
-    public void test_handles_large_datasets_efficiently() {
+    public void test_signals_next_page_and_trims_extra_record() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        List<PessoaData> largePessoaDataList = new ArrayList<>();
-        for (int i = 0; i < 1000; i++) {
-            largePessoaDataList.add(new PessoaData());
+        List<PessoaListagemDto> pessoas = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            pessoas.add(new PessoaListagemDto(i, "Nome " + i, "Centro", "(12) 3456-7890"));
         }
-        Page<PessoaData> largePessoaDataPage = new PageImpl<>(largePessoaDataList);
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenReturn(largePessoaDataPage);
+        when(pessoaDataRepository.listarResumoAposId(0L, Limit.of(3))).thenReturn(pessoas);
 
-        Page<Pessoa> result = pessoaRepository.listar();
+        Slice<PessoaListagemDto> result = pessoaRepository.listar(null, 2);
 
-        assertEquals(1000, result.getTotalElements());
+        assertTrue(result.hasNext());
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(2L, result.getContent().get(1).getId().longValue());
     }
 
     @Test
-    public void test_returns_empty_page_if_database_connection_is_lost() {
+    public void test_propagates_exception_if_database_connection_is_lost() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = mock(PessoaMapper.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
 
-        when(pessoaDataRepository.findAll(Pageable.unpaged())).thenThrow(new RuntimeException("Database connection lost"));
+        when(pessoaDataRepository.listarResumoAposId(0L, Limit.of(11))).thenThrow(new RuntimeException("Database connection lost"));
 
-        Page<Pessoa> result;
         try {
-            result = pessoaRepository.listar();
+            pessoaRepository.listar(null, 10);
             fail("Expected an exception to be thrown");
         } catch (RuntimeException e) {
             assertEquals("Database connection lost", e.getMessage());
-            result = Page.empty();
-            assertTrue(result.isEmpty());
         }
     }
 
     @Test
-    public void returns_true_when_phone_number_used_by_another_person() {
+    public void test_exportar_streams_all_records_and_clears_context_every_chunk() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        EntityManager entityManager = mock(EntityManager.class);
+        @SuppressWarnings("unchecked")
+        TypedQuery<PessoaData> query = mock(TypedQuery.class);
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", entityManager);
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoFetch", 2);
+
+        when(entityManager.createQuery(anyString(), eq(PessoaData.class))).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+        when(query.getResultStream()).thenReturn(Stream.of(
+                new PessoaData(1L, "A", null, null),
+                new PessoaData(2L, "B", null, null),
+                new PessoaData(3L, "C", null, null),
+                new PessoaData(4L, "D", null, null),
+                new PessoaData(5L, "E", null, null)));
+
+        List<Pessoa> exportadas = new ArrayList<>();
+        pessoaRepository.exportar(exportadas::add);
+
+        assertEquals(5, exportadas.size());
+        assertEquals("E", exportadas.get(4).getNome());
+        verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, 2);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void test_incluir_lote_flushes_and_clears_every_chunk() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        EntityManager entityManager = mock(EntityManager.class);
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", entityManager);
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoLote", 2);
+
+        when(pessoaDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PessoaData> datas = invocation.getArgument(0);
+            List<PessoaData> salvas = new ArrayList<>();
+            for (PessoaData data : datas) {
+                salvas.add(new PessoaData((long) data.getNome().hashCode(), data.getNome(), null, null));
+            }
+            return salvas;
+        });
+
+        List<Pessoa> pessoas = List.of(new Pessoa(null, "A", null, null), new Pessoa(null, "B", null, null),
+                new Pessoa(null, "C", null, null));
+        List<Pessoa> incluidas = pessoaRepository.incluirLote(pessoas);
+
+        assertEquals(3, incluidas.size());
+        assertEquals((long) "C".hashCode(), incluidas.get(2).getId().longValue());
+        verify(pessoaDataRepository, times(2)).saveAll(anyList());
+        verify(pessoaDataRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void test_telefones_ja_utilizados_queries_in_chunks() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, PessoaCache.desabilitado());
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoLote", 2);
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("123456789")).build();
-        when(pessoaDataRepository.telefoneJaCadastradoSemSerEu("123456789", 1L)).thenReturn(true);
+        Telefone cadastrado = Telefone.parse("(11) 1111-1111");
+        when(pessoaDataRepository.telefonesCadastrados(anyCollection())).thenReturn(List.of(cadastrado));
 
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        Set<Telefone> utilizados = pessoaRepository.telefonesJaUtilizados(
+                List.of(cadastrado, Telefone.parse("(11) 2222-2222"), Telefone.parse("(11) 3333-3333")));
 
-        assertTrue(result);
+        assertEquals(Set.of(cadastrado), utilizados);
+        verify(pessoaDataRepository, times(2)).telefonesCadastrados(anyCollection());
     }
 
     @Test
-    public void returns_false_when_phone_number_not_used_by_any_other_person() {
-        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+    public void test_incluir_translates_duplicate_phone_into_validation_error() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        Pessoa pessoa = new Pessoa(null, "John Doe", null, new Contato("(12) 34567-8910"));
+
+        when(pessoaMapper.toData(pessoa)).thenReturn(new PessoaData(null, "John Doe", null, null));
+        when(pessoaDataRepository.saveAndFlush(any())).thenThrow(violacao(PessoaData.UNICIDADE_TELEFONE));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> pessoaRepository.incluir(pessoa));
+        assertEquals("Contato já cadastrado", exception.getMessage());
+    }
+
+    @Test
+    public void test_alterar_translates_duplicate_phone_into_validation_error() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
+        Pessoa pessoa = new Pessoa(1L, "John Doe", null, new Contato("(12) 34567-8910"));
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("123456789")).build();
-        when(pessoaDataRepository.telefoneJaCadastradoSemSerEu("123456789", 1L)).thenReturn(false);
+        when(pessoaMapper.toData(pessoa)).thenReturn(new PessoaData(1L, "John Doe", null, null));
+        when(pessoaDataRepository.saveAndFlush(any())).thenThrow(violacao("PUBLIC." + PessoaData.UNICIDADE_TELEFONE.toUpperCase() + "_INDEX_1"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> pessoaRepository.alterar(pessoa));
+        assertEquals("Contato já cadastrado", exception.getMessage());
+    }
 
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+    @Test
+    public void test_incluir_keeps_other_integrity_violations_as_runtime_exception() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        Pessoa pessoa = new Pessoa(null, "John Doe", null, null);
 
-        assertFalse(result);
+        when(pessoaMapper.toData(pessoa)).thenReturn(new PessoaData(null, "John Doe", null, null));
+        when(pessoaDataRepository.saveAndFlush(any())).thenThrow(violacao("fk_cadastro_pessoa_endereco"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> pessoaRepository.incluir(pessoa));
+        assertFalse(exception instanceof IllegalArgumentException);
+        assertTrue(exception.getCause() instanceof DataIntegrityViolationException);
     }
 
     @Test
-    public void correctly_maps_pessoa_to_pessoadata_before_querying_repository() {
-        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+    public void test_incluir_lote_translates_duplicate_phone_into_validation_error() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, PessoaCache.desabilitado());
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoLote", 10);
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("123456789")).build();
-        pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        doThrow(violacao(PessoaData.UNICIDADE_TELEFONE)).when(pessoaDataRepository).flush();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> pessoaRepository.incluirLote(List.of(new Pessoa(null, "John Doe", null, null))));
+        assertEquals("Contato já cadastrado", exception.getMessage());
+    }
 
-        verify(pessoaDataRepository).telefoneJaCadastradoSemSerEu("123456789", 1L);
+    private DataIntegrityViolationException violacao(String restricao) {
+        return new DataIntegrityViolationException("violação",
+                new ConstraintViolationException("violação", new SQLException("duplicate key"), restricao));
     }
 
     @Test
-    public void uses_correct_phone_number_and_id_in_repository_query() {
+    public void test_consultar_reads_through_cache() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaCache pessoaCache = new PessoaCache(true, 10, Duration.ofMinutes(1), Duration.ofSeconds(5), mock(ObjectProvider.class));
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, pessoaCache);
+
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null)));
+
+        assertEquals("John Doe", pessoaRepository.consultar(1L).orElseThrow().getNome());
+        assertEquals("John Doe", pessoaRepository.consultar(1L).orElseThrow().getNome());
+        verify(pessoaDataRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void test_alterar_invalidates_cached_pessoa() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
+        Pessoa pessoa = new Pessoa(1L, "John Doe", null, null);
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("123456789")).build();
-        pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        pessoaRepository.alterar(pessoa);
 
-        verify(pessoaDataRepository).telefoneJaCadastradoSemSerEu("123456789", 1L);
+        verify(pessoaCache).invalidarAposCommit(1L);
     }
 
     @Test
-    public void handles_null_phone_number_in_pessoa_object_gracefully() {
-        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+    public void test_excluir_invalidates_cached_pessoa() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.excluirPorId(1L)).thenReturn(1);
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato(null)).build();
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        assertEquals(Long.valueOf(1L), pessoaRepository.excluir(1L));
 
-        assertFalse(result);
+        verify(pessoaDataRepository).excluirPorId(1L);
+        verify(pessoaDataRepository, never()).findById(any());
+        verify(pessoaCache).invalidarAposCommit(1L);
     }
 
     @Test
-    public void handles_null_id_in_pessoa_object_gracefully() {
-        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+    public void test_excluir_missing_pessoa_throws_not_found_without_invalidating_cache() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.excluirPorId(1L)).thenReturn(0);
 
-        Pessoa pessoa = Pessoa.builder().id(null).contato(new Contato("123456789")).build();
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        NaoEncontradoException exception = assertThrows(NaoEncontradoException.class, () -> pessoaRepository.excluir(1L));
 
-        assertFalse(result);
+        assertEquals("Pessoa não encontrada", exception.getMessage());
+        verify(pessoaCache, never()).invalidarAposCommit(anyLong());
     }
 
     @Test
-    public void handles_empty_phone_number_string_in_pessoa_object() {
-        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+    public void test_failed_alterar_does_not_invalidate_cache() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.saveAndFlush(any())).thenThrow(new IllegalStateException("falha"));
+
+        assertThrows(RuntimeException.class, () -> pessoaRepository.alterar(new Pessoa(1L, "John Doe", null, null)));
+
+        verify(pessoaCache, never()).invalidarAposCommit(anyLong());
+    }
+
+    @Test
+    public void test_alterar_missing_pessoa_is_rejected_before_merge() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(new PessoaMapper(new ContatoMapper(), new EnderecoMapper()), pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.empty());
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("")).build();
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        assertThrows(NaoEncontradoException.class, () -> pessoaRepository.alterar(new Pessoa(1L, "John Doe", null, null)));
+        assertThrows(VersaoDivergenteException.class, () -> pessoaRepository.alterar(new Pessoa(1L, "John Doe", null, null, 3L)));
 
-        assertFalse(result);
+        verify(pessoaDataRepository, never()).saveAndFlush(any());
+        verify(pessoaCache, never()).invalidarAposCommit(anyLong());
     }
 
     @Test
-    public void handles_non_existent_phone_number_in_repository() {
+    public void test_alterar_translates_optimistic_lock_failure() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
+        when(pessoaDataRepository.saveAndFlush(any())).thenThrow(new ObjectOptimisticLockingFailureException(PessoaData.class, 1L));
+
+        assertThrows(VersaoDivergenteException.class, () -> pessoaRepository.alterar(new Pessoa(1L, "John Doe", null, null, 2L)));
+
+        verify(pessoaCache, never()).invalidarAposCommit(anyLong());
+    }
+
+    @Test
+    public void test_alterar_without_version_reads_stored_version_instead_of_cache() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, pessoaCache);
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", mock(EntityManager.class));
+        when(pessoaCache.consultar(eq(1L), any())).thenReturn(Optional.of(new Pessoa(1L, "John Doe", null, null, 5L)));
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 6L)));
+        when(pessoaDataRepository.saveAndFlush(any())).thenAnswer(invocacao -> invocacao.getArgument(0));
 
-        when(pessoaDataRepository.telefoneJaCadastradoSemSerEu("nonexistent", 1L)).thenReturn(false);
+        pessoaRepository.alterar(new Pessoa(1L, "Jane Doe", null, null));
 
-        Pessoa pessoa = Pessoa.builder().id(1L).contato(new Contato("nonexistent")).build();
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+        verify(pessoaDataRepository).saveAndFlush(argThat(data -> Long.valueOf(6L).equals(data.getVersao())));
+    }
 
-        assertFalse(result);
+    @Test
+    public void test_alterar_keeps_version_when_pessoa_row_is_unchanged() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        EntityManager entityManager = mock(EntityManager.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, mock(PessoaCache.class));
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", entityManager);
+        PessoaData gravada = new PessoaData(1L, "John Doe", null, null, 2L);
+        when(pessoaDataRepository.saveAndFlush(any())).thenReturn(gravada);
+
+        Pessoa alterada = pessoaRepository.alterar(new Pessoa(1L, "John Doe", null, null, 2L));
+
+        assertEquals(Long.valueOf(2L), alterada.getVersao());
+        verify(entityManager, never()).lock(any(), any(LockModeType.class));
     }
 
     @Test
-    public void handles_non_existent_id_in_repository() {
+    public void test_alterar_does_not_force_increment_when_version_already_changed() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
         PessoaMapper pessoaMapper = new PessoaMapper(new ContatoMapper(), new EnderecoMapper());
+        EntityManager entityManager = mock(EntityManager.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, mock(PessoaCache.class));
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(new PessoaData(1L, "John Doe", null, null, 2L)));
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", entityManager);
+        when(pessoaDataRepository.saveAndFlush(any())).thenReturn(new PessoaData(1L, "Jane Doe", null, null, 3L));
+
+        Pessoa alterada = pessoaRepository.alterar(new Pessoa(1L, "Jane Doe", null, null, 2L));
+
+        assertEquals(Long.valueOf(3L), alterada.getVersao());
+        verify(entityManager, never()).lock(any(), any(LockModeType.class));
+    }
+
+    @Test
+    public void test_incluir_changes_listing_version() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, pessoaCache);
+
+        pessoaRepository.incluir(new Pessoa(null, "John Doe", null, null));
+
+        verify(pessoaDataRepository).registrarAlteracaoListagem();
+    }
+
+    @Test
+    public void test_versao_listagem_comes_from_database() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, pessoaCache);
+        when(pessoaDataRepository.versaoListagem()).thenReturn(41L);
+
+        assertEquals("41", pessoaRepository.versaoListagem());
+        verifyNoInteractions(pessoaCache);
+    }
+
+    @Test
+    public void test_consultar_varios_ids_queries_in_blocks() {
         PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
-        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoLote", 2);
+        PessoaData primeira = new PessoaData(1L, "John Doe", null, null);
+        PessoaData terceira = new PessoaData(3L, "Jane Doe", null, null);
+        when(pessoaDataRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(primeira));
+        when(pessoaDataRepository.findAllById(List.of(3L))).thenReturn(List.of(terceira));
+        when(pessoaMapper.toDomain(any(PessoaData.class))).thenAnswer(invocacao -> {
+            PessoaData data = invocacao.getArgument(0);
+            return new Pessoa(data.getId(), data.getNome(), null, null);
+        });
+
+        Map<Long, Pessoa> resultado = pessoaRepository.consultarPorIds(List.of(1L, 2L, 3L));
+
+        assertEquals(Set.of(1L, 3L), resultado.keySet());
+        assertEquals("Jane Doe", resultado.get(3L).getNome());
+        verify(pessoaDataRepository, times(2)).findAllById(any());
+    }
 
-        when(pessoaDataRepository.telefoneJaCadastradoSemSerEu("123456789", 999L)).thenReturn(false);
+    @Test
+    public void test_concurrent_consultar_of_different_ids_is_merged_into_one_query() throws Exception {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        pessoaRepository.configurarConsultasEmLote(Duration.ofSeconds(30), 2, Duration.ofSeconds(5), mock(ObjectProvider.class));
+        when(pessoaDataRepository.findAllById(any())).thenReturn(List.of(new PessoaData(1L, "John Doe", null, null)));
+        when(pessoaMapper.toDomain(any(PessoaData.class))).thenReturn(new Pessoa(1L, "John Doe", null, null));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Pessoa>> primeira = executor.submit(() -> pessoaRepository.consultar(1L));
+            Future<Optional<Pessoa>> segunda = executor.submit(() -> pessoaRepository.consultar(2L));
 
-        Pessoa pessoa = Pessoa.builder().id(999L).contato(new Contato("123456789")).build();
-        boolean result = pessoaRepository.contatoJaUtilizadoSemSerEu(pessoa);
+            assertEquals("John Doe", primeira.get(5, TimeUnit.SECONDS).orElseThrow().getNome());
+            assertTrue(segunda.get(5, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(pessoaDataRepository).findAllById(Set.of(1L, 2L));
+        verify(pessoaDataRepository, never()).findById(any());
+    }
 
-        assertFalse(result);
+    @Test
+    public void test_consultar_alone_in_batch_uses_find_by_id() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaMapper pessoaMapper = mock(PessoaMapper.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(pessoaMapper, pessoaDataRepository, PessoaCache.desabilitado());
+        pessoaRepository.configurarConsultasEmLote(Duration.ofMillis(1), 100, Duration.ofSeconds(5), mock(ObjectProvider.class));
+        PessoaData pessoaData = new PessoaData(1L, "John Doe", null, null);
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.of(pessoaData));
+        when(pessoaMapper.toDomain(pessoaData)).thenReturn(new Pessoa(1L, "John Doe", null, null));
+
+        assertEquals("John Doe", pessoaRepository.consultar(1L).orElseThrow().getNome());
+        verify(pessoaDataRepository, never()).findAllById(any());
+    }
+
+    @Test
+    public void test_consultar_with_zero_window_does_not_batch() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, PessoaCache.desabilitado());
+        pessoaRepository.configurarConsultasEmLote(Duration.ZERO, 100, Duration.ofSeconds(5), mock(ObjectProvider.class));
+        when(pessoaDataRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(pessoaRepository.consultar(1L).isEmpty());
+        assertNull(ReflectionTestUtils.getField(pessoaRepository, "consultasEmLote"));
+    }
+
+    @Test
+    public void test_excluir_lote_deletes_in_chunks_and_invalidates_cache_once() {
+        PessoaDataRepository pessoaDataRepository = mock(PessoaDataRepository.class);
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), pessoaDataRepository, pessoaCache);
+        ReflectionTestUtils.setField(pessoaRepository, "tamanhoLote", 2);
+        when(pessoaDataRepository.excluirPorIds(List.of(1L, 2L))).thenReturn(2);
+        when(pessoaDataRepository.excluirPorIds(List.of(3L, 4L))).thenReturn(1);
+        when(pessoaDataRepository.excluirPorIds(List.of(5L))).thenReturn(0);
+        long[] ids = {1L, 2L, 3L, 4L, 5L};
+
+        assertEquals(3, pessoaRepository.excluirLote(ids));
+
+        verify(pessoaDataRepository, times(3)).excluirPorIds(anyCollection());
+        verify(pessoaDataRepository, never()).findAllById(any());
+        verify(pessoaCache).invalidarAposCommit(ids);
+    }
+
+    @Test
+    public void test_gravar_por_telefone_runs_single_upsert_and_evicts_caches() {
+        PessoaCache pessoaCache = mock(PessoaCache.class);
+        PessoaRepositoryImpl pessoaRepository = new PessoaRepositoryImpl(mock(PessoaMapper.class), mock(PessoaDataRepository.class), pessoaCache);
+        EntityManager entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        ReflectionTestUtils.setField(pessoaRepository, "entityManager", entityManager);
+        SharedSessionContractImplementor sessao = mock(SharedSessionContractImplementor.class, RETURNS_DEEP_STUBS);
+        IdentifierGenerator gerador = mock(IdentifierGenerator.class);
+        Query query = mock(Query.class);
+        Cache segundoNivel = mock(Cache.class);
+        when(entityManager.unwrap(SharedSessionContractImplementor.class)).thenReturn(sessao);
+        when(sessao.getFactory().getMappingMetamodel().getEntityDescriptor(PessoaData.class).getGenerator()).thenReturn(gerador);
+        when(gerador.generate(sessao, null)).thenReturn(51L);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyInt(), any())).thenReturn(query);
+        when(query.getSingleResult()).thenReturn(new Object[]{7L, 3L, false});
+        when(entityManager.getEntityManagerFactory().getCache()).thenReturn(segundoNivel);
+
+        PessoaGravada gravada = pessoaRepository.gravarPorTelefone(new Pessoa(null, "Maria", new Endereco(null, "Centro"), new Contato("(12) 34567-8910")));
+
+        assertEquals(Long.valueOf(7L), gravada.pessoa().getId());
+        assertEquals(Long.valueOf(3L), gravada.pessoa().getVersao());
+        assertFalse(gravada.incluida());
+        verify(entityManager).createNativeQuery(argThat((String sql) -> sql.contains("on conflict (telefone) do update")
+                && sql.contains("returning id_pessoa, versao, (xmax = 0) as incluida")));
+        verify(query).setParameter(1, 51L);
+        verify(query).setParameter(3, 121345678910L);
+        verify(query).setParameter(4, "Centro");
+        verify(query, times(1)).getSingleResult();
+        verify(segundoNivel).evict(PessoaData.class, 7L);
+        verify(pessoaCache).invalidarAposCommit(7L);
     }
 }
+
@@ -0,0 +1,203 @@
+package br.com.aplicacao.cadastro.pessoa.infra.impl;
+
+import br.com.aplicacao.cadastro.contato.ContatoMapper;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Contato;
+import br.com.aplicacao.cadastro.endereco.EnderecoMapper;
+import br.com.aplicacao.cadastro.endereco.dominio.entidade.Endereco;
+import br.com.aplicacao.cadastro.pessoa.PessoaMapper;
+import br.com.aplicacao.cadastro.pessoa.dominio.entidade.Pessoa;
+import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.cache.PessoaCache;
+import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.exceptions.VersaoDivergenteException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica o controle de concorrência otimista de {@link PessoaRepositoryImpl#alterar(Pessoa)} contra o banco.
+ *
+ * <p>Cada operação é confirmada isoladamente, como em produção, para que o cache de segundo nível participe.</p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PessoaRepositoryImpl.class, PessoaMapper.class, ContatoMapper.class, EnderecoMapper.class, PessoaCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PessoaRepositoryImplVersaoTest {
+
+    @Autowired
+    private PessoaRepositoryImpl repository;
+
+    @Autowired
+    private PessoaDataRepository pessoaDataRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Pessoa pessoa;
+
+    @BeforeEach
+    public void setUp() {
+        pessoa = repository.incluir(new Pessoa(null, "Pessoa", new Endereco(null, "Centro"), new Contato("(41) 98765-4321")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pessoaDataRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void test_new_pessoa_starts_at_version_zero() {
+        assertEquals(0L, pessoa.getVersao());
+    }
+
+    @Test
+    public void test_alterar_with_current_version_increments_it() {
+        Pessoa alterada = repository.alterar(copia(pessoa, "Alterada", "(41) 98765-4321"));
+
+        assertEquals(1L, alterada.getVersao());
+        assertEquals("Alterada", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_with_warm_cache_runs_only_the_conditional_update() {
+        repository.consultar(pessoa.getId());
+        pessoaDataRepository.findById(pessoa.getId());
+        estatisticas().clear();
+
+        repository.alterar(copia(pessoa, "Alterada", "(41) 98765-4321"));
+
+        assertEquals(2, estatisticas().getPrepareStatementCount(),
+                "A alteração executou " + estatisticas().getPrepareStatementCount() + " instruções além do update "
+                        + "condicional e do incremento da versão da listagem");
+    }
+
+    @Test
+    public void test_writes_change_listing_version_and_failed_ones_do_not() {
+        String inicial = repository.versaoListagem();
+        Pessoa alterada = repository.alterar(copia(pessoa, "Alterada", "(41) 98765-4321"));
+        String aposAlteracao = repository.versaoListagem();
+
+        assertThrows(VersaoDivergenteException.class, () -> repository.alterar(copia(pessoa, "Antiga", "(41) 98765-4321")));
+        assertEquals(aposAlteracao, repository.versaoListagem());
+        repository.excluir(alterada.getId());
+
+        assertNotEquals(inicial, aposAlteracao);
+        assertNotEquals(aposAlteracao, repository.versaoListagem());
+    }
+
+    @Test
+    public void test_listing_version_increment_keeps_second_level_cache() {
+        pessoaDataRepository.findById(pessoa.getId());
+        repository.incluir(new Pessoa(null, "Outra", new Endereco(null, "Centro"), new Contato("(41) 91234-5678")));
+        estatisticas().clear();
+
+        pessoaDataRepository.findById(pessoa.getId());
+
+        assertEquals(0, estatisticas().getPrepareStatementCount());
+        assertEquals(1, estatisticas().getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void test_alterar_with_stale_version_is_rejected() {
+        repository.alterar(copia(pessoa, "Primeira", "(41) 98765-4321"));
+
+        assertThrows(VersaoDivergenteException.class, () -> repository.alterar(copia(pessoa, "Segunda", "(41) 98765-4321")));
+        assertEquals("Primeira", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_only_telefone_also_increments_version() {
+        Pessoa alterada = repository.alterar(copia(pessoa, "Pessoa", "(41) 91234-5678"));
+
+        assertEquals(1L, alterada.getVersao());
+        assertEquals(1L, pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getVersao());
+        assertThrows(VersaoDivergenteException.class, () -> repository.alterar(copia(pessoa, "Pessoa", "(41) 90000-0000")));
+    }
+
+    @Test
+    public void test_consecutive_updates_with_returned_versions_succeed() {
+        Pessoa primeira = repository.alterar(copia(pessoa, "Pessoa", "(41) 91234-5678"));
+        Pessoa segunda = repository.alterar(copia(primeira, "Alterada", "(41) 91234-5678"));
+        Pessoa terceira = repository.alterar(copia(segunda, "Alterada", "(41) 98765-4321"));
+
+        assertEquals(3L, terceira.getVersao());
+    }
+
+    @Test
+    public void test_alterar_without_version_uses_current_one() {
+        repository.alterar(copia(pessoa, "Primeira", "(41) 98765-4321"));
+        Pessoa semVersao = copia(pessoa, "Segunda", "(41) 98765-4321");
+        semVersao.setVersao(null);
+
+        Pessoa alterada = repository.alterar(semVersao);
+
+        assertEquals(2L, alterada.getVersao());
+        assertEquals("Segunda", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_without_version_ignores_stale_cached_copy() {
+        repository.consultar(pessoa.getId());
+        PessoaData gravada = pessoaDataRepository.findById(pessoa.getId()).orElseThrow();
+        pessoaDataRepository.saveAndFlush(new PessoaData(gravada.getId(), "Fora do cache", gravada.getEndereco(),
+                gravada.getContato(), gravada.getVersao()));
+        Pessoa semVersao = copia(pessoa, "Sem versão", "(41) 98765-4321");
+        semVersao.setVersao(null);
+
+        Pessoa alterada = repository.alterar(semVersao);
+
+        assertEquals(2L, alterada.getVersao());
+        assertEquals("Sem versão", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    public void test_alterar_missing_pessoa_without_version_is_not_found() {
+        Pessoa inexistente = new Pessoa(pessoa.getId() + 1000, "Inexistente", null, new Contato("(41) 91111-1111"));
+
+        assertThrows(NaoEncontradoException.class, () -> repository.alterar(inexistente));
+        assertEquals(1, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_alterar_missing_pessoa_with_version_is_rejected() {
+        Pessoa inexistente = new Pessoa(pessoa.getId() + 1000, "Inexistente", null, new Contato("(41) 91111-1111"), 3L);
+
+        assertThrows(VersaoDivergenteException.class, () -> repository.alterar(inexistente));
+        assertEquals(1, pessoaDataRepository.count());
+    }
+
+    @Test
+    public void test_alterar_todos_with_missing_pessoa_changes_nothing() {
+        Pessoa existente = copia(pessoa, "Alterada", "(41) 98765-4321");
+        Pessoa inexistente = new Pessoa(pessoa.getId() + 1000, "Inexistente", null, new Contato("(41) 91111-1111"));
+
+        assertThrows(NaoEncontradoException.class, () -> repository.alterarTodos(List.of(existente, inexistente)));
+        assertEquals("Pessoa", pessoaDataRepository.findById(pessoa.getId()).orElseThrow().getNome());
+        assertEquals(1, pessoaDataRepository.count());
+    }
+
+    private static Pessoa copia(Pessoa pessoa, String nome, String telefone) {
+        return new Pessoa(pessoa.getId(), nome,
+                new Endereco(pessoa.getEndereco().getId(), pessoa.getEndereco().getBairro()),
+                new Contato(pessoa.getContato().getId(), telefone),
+                pessoa.getVersao());
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,229 @@
+package br.com.aplicacao.core.concorrencia;
+
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CargaCompartilhadaTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    private final CargaCompartilhada<Long, String> cargas = new CargaCompartilhada<>();
+
+    @Test
+    public void test_sequential_calls_each_run_the_loader() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        cargas.carregar(1L, () -> "v" + execucoes.incrementAndGet(), ESPERA);
+        String segunda = cargas.carregar(1L, () -> "v" + execucoes.incrementAndGet(), ESPERA);
+
+        assertEquals("v2", segunda);
+        assertEquals(2, cargas.getCargas());
+        assertEquals(0, cargas.getCompartilhamentos());
+    }
+
+    @Test
+    public void test_concurrent_calls_share_a_single_load() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger execucoes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> chamadas = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                chamadas.add(executor.submit(() -> cargas.carregar(1L, () -> {
+                    execucoes.incrementAndGet();
+                    aguardar(liberar);
+                    return "valor";
+                }, ESPERA)));
+            }
+            aguardarCompartilhamentos(7);
+            liberar.countDown();
+
+            for (Future<String> chamada : chamadas) assertEquals("valor", chamada.get(5, TimeUnit.SECONDS));
+            assertEquals(1, execucoes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_null_result_is_shared() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> primeira = executor.submit(() -> cargas.carregar(1L, () -> {
+                aguardar(liberar);
+                return null;
+            }, ESPERA));
+            while (cargas.getCargas() == 0) Thread.sleep(1);
+            Future<String> segunda = executor.submit(() -> cargas.carregar(1L, () -> "inesperado", ESPERA));
+            aguardarCompartilhamentos(1);
+            liberar.countDown();
+
+            assertNull(primeira.get(5, TimeUnit.SECONDS));
+            assertNull(segunda.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_loader_exception_is_propagated_to_all_callers() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        IllegalStateException falha = new IllegalStateException("Banco indisponível");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> primeira = executor.submit(() -> cargas.carregar(1L, () -> {
+                aguardar(liberar);
+                throw falha;
+            }, ESPERA));
+            while (cargas.getCargas() == 0) Thread.sleep(1);
+            Future<String> segunda = executor.submit(() -> cargas.carregar(1L, () -> "inesperado", ESPERA));
+            aguardarCompartilhamentos(1);
+            liberar.countDown();
+
+            assertSame(falha, assertThrows(ExecutionException.class, () -> primeira.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(falha, assertThrows(ExecutionException.class, () -> segunda.get(5, TimeUnit.SECONDS)).getCause());
+            assertEquals("depois", cargas.carregar(1L, () -> "depois", ESPERA));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_waiter_gives_up_after_timeout_without_affecting_the_load() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> primeira = executor.submit(() -> cargas.carregar(1L, () -> {
+                aguardar(liberar);
+                return "valor";
+            }, ESPERA));
+            while (cargas.getCargas() == 0) Thread.sleep(1);
+
+            TempoEsgotadoException exception = assertThrows(TempoEsgotadoException.class,
+                    () -> cargas.carregar(1L, () -> "inesperado", Duration.ofMillis(20)));
+            liberar.countDown();
+
+            assertEquals("Tempo de espera esgotado", exception.getMessage());
+            assertEquals("valor", primeira.get(5, TimeUnit.SECONDS));
+            assertEquals("nova", cargas.carregar(1L, () -> "nova", ESPERA));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_interrupted_waiter_keeps_interrupt_flag() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> cargas.carregar(1L, () -> {
+                aguardar(liberar);
+                return "valor";
+            }, ESPERA));
+            while (cargas.getCargas() == 0) Thread.sleep(1);
+
+            Thread.currentThread().interrupt();
+            assertThrows(TempoEsgotadoException.class, () -> cargas.carregar(1L, () -> "inesperado", ESPERA));
+            assertTrue(Thread.interrupted());
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_forgotten_load_is_not_shared_with_later_calls() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> anterior = executor.submit(() -> cargas.carregar(1L, () -> {
+                aguardar(liberar);
+                return "antigo";
+            }, ESPERA));
+            while (cargas.getCargas() == 0) Thread.sleep(1);
+
+            cargas.esquecer(1L);
+            String posterior = cargas.carregar(1L, () -> "novo", ESPERA);
+            liberar.countDown();
+
+            assertEquals("novo", posterior);
+            assertEquals("antigo", anterior.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_stress_concurrent_calls_on_few_keys() throws Exception {
+        int threads = 16;
+        int chamadasPorThread = 500;
+        long[] chaves = {1L, 2L, 3L, 4L};
+        AtomicInteger execucoes = new AtomicInteger();
+        ConcurrentMap<Long, AtomicInteger> emExecucao = new ConcurrentHashMap<>();
+        CyclicBarrier largada = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int deslocamento = t;
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < chamadasPorThread; i++) {
+                        long chave = chaves[(i + deslocamento) % chaves.length];
+                        String valor = cargas.carregar(chave, () -> {
+                            execucoes.incrementAndGet();
+                            AtomicInteger simultaneas = emExecucao.computeIfAbsent(chave, k -> new AtomicInteger());
+                            assertEquals("Carga duplicada para a chave " + chave, 1, simultaneas.incrementAndGet());
+                            try {
+                                Thread.sleep(1);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            } finally {
+                                simultaneas.decrementAndGet();
+                            }
+                            return "pessoa-" + chave;
+                        }, ESPERA);
+                        assertEquals("pessoa-" + chave, valor);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) tarefa.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long total = (long) threads * chamadasPorThread;
+        System.out.printf("%d consultas: %d cargas executadas, %d evitadas (%.1f%%)%n", total, cargas.getCargas(),
+                cargas.getCompartilhamentos(), 100.0 * cargas.getCompartilhamentos() / total);
+        assertEquals(total, cargas.getCargas() + cargas.getCompartilhamentos());
+        assertEquals(cargas.getCargas(), execucoes.get());
+        assertTrue("Nenhuma carga foi compartilhada", cargas.getCompartilhamentos() > 0);
+    }
+
+    private void aguardarCompartilhamentos(int quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cargas.getCompartilhamentos() < quantidade) {
+            assertTrue("Chamadas não compartilharam a carga", System.nanoTime() < limite);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
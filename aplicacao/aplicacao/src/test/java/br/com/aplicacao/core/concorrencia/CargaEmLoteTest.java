@@ -0,0 +1,161 @@
+package br.com.aplicacao.core.concorrencia;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CargaEmLoteTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    private final List<Set<Long>> lotes = new CopyOnWriteArrayList<>();
+
+    private final Function<Set<Long>, Map<Long, String>> carregador = chaves -> {
+        lotes.add(chaves);
+        return chaves.stream().filter(chave -> chave > 0).collect(Collectors.toMap(chave -> chave, chave -> "v" + chave));
+    };
+
+    @Test
+    public void test_single_call_is_loaded_after_the_window() {
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ofMillis(1), 10, ESPERA);
+
+        assertEquals("v1", cargas.carregar(1L));
+        assertEquals(List.of(Set.of(1L)), lotes);
+    }
+
+    @Test
+    public void test_missing_key_returns_null() {
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ZERO, 10, ESPERA);
+
+        assertNull(cargas.carregar(-1L));
+    }
+
+    @Test
+    public void test_full_batch_is_loaded_before_the_window_ends() throws Exception {
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ofSeconds(30), 3, ESPERA);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> chamadas = new ArrayList<>();
+            for (long chave = 1; chave <= 3; chave++) {
+                long atual = chave;
+                chamadas.add(executor.submit(() -> cargas.carregar(atual)));
+            }
+
+            for (int i = 0; i < 3; i++) assertEquals("v" + (i + 1), chamadas.get(i).get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(Set.of(1L, 2L, 3L)), lotes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_concurrent_calls_within_window_share_one_load() throws Exception {
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ofMillis(500), 100, ESPERA);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CyclicBarrier largada = new CyclicBarrier(4);
+            List<Future<String>> chamadas = new ArrayList<>();
+            for (long chave : new long[]{1L, 2L, 2L, -3L}) {
+                chamadas.add(executor.submit(() -> {
+                    largada.await();
+                    return cargas.carregar(chave);
+                }));
+            }
+
+            assertEquals("v1", chamadas.get(0).get(5, TimeUnit.SECONDS));
+            assertEquals("v2", chamadas.get(1).get(5, TimeUnit.SECONDS));
+            assertEquals("v2", chamadas.get(2).get(5, TimeUnit.SECONDS));
+            assertNull(chamadas.get(3).get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(Set.of(1L, 2L, -3L)), lotes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_calls_after_a_closed_batch_open_a_new_one() {
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ZERO, 10, ESPERA);
+
+        cargas.carregar(1L);
+        cargas.carregar(2L);
+
+        assertEquals(List.of(Set.of(1L), Set.of(2L)), lotes);
+    }
+
+    @Test
+    public void test_loader_failure_is_propagated_to_every_call_of_the_batch() throws Exception {
+        IllegalStateException falha = new IllegalStateException("Banco indisponível");
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(chaves -> {
+            throw falha;
+        }, Duration.ofSeconds(30), 2, ESPERA);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> primeira = executor.submit(() -> cargas.carregar(1L));
+            Future<String> segunda = executor.submit(() -> cargas.carregar(2L));
+
+            assertSame(falha, assertThrows(ExecutionException.class, () -> primeira.get(5, TimeUnit.SECONDS)).getCause());
+            assertSame(falha, assertThrows(ExecutionException.class, () -> segunda.get(5, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_publishes_fill_ratio_and_added_latency() {
+        MeterRegistry registro = new SimpleMeterRegistry();
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ofMillis(5), 4, ESPERA)
+                .monitorar(registro, "teste");
+
+        cargas.carregar(1L);
+
+        DistributionSummary preenchimento = registro.get("teste.lote.preenchimento").summary();
+        assertEquals(1, preenchimento.count());
+        assertEquals(0.25, preenchimento.totalAmount(), 0.0);
+        assertEquals(1, registro.get("teste.lote.espera").timer().count());
+        assertTrue(registro.get("teste.lote.espera").timer().totalTime(TimeUnit.MILLISECONDS) >= 4);
+    }
+
+    @Test
+    public void test_rejects_invalid_configuration() {
+        assertThrows(IllegalArgumentException.class, () -> new CargaEmLote<>(carregador, Duration.ofMillis(-1), 10, ESPERA));
+        assertThrows(IllegalArgumentException.class, () -> new CargaEmLote<>(carregador, Duration.ZERO, 0, ESPERA));
+    }
+
+    @Test
+    public void test_stress_many_threads_many_keys() throws Exception {
+        int threads = 16;
+        int chamadasPorThread = 200;
+        CargaEmLote<Long, String> cargas = new CargaEmLote<>(carregador, Duration.ofMillis(1), 32, ESPERA);
+        CyclicBarrier largada = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long base = t * 1000L;
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    for (long i = 1; i <= chamadasPorThread; i++) assertEquals("v" + (base + i), cargas.carregar(base + i));
+                    return null;
+                }));
+            }
+            for (Future<?> tarefa : tarefas) tarefa.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = threads * chamadasPorThread;
+        System.out.printf("%d consultas em %d lotes (%.1f por lote)%n", total, lotes.size(), (double) total / lotes.size());
+        assertEquals(total, lotes.stream().mapToInt(Set::size).sum());
+        assertTrue(lotes.stream().allMatch(lote -> lote.size() <= 32));
+        assertTrue("Nenhuma consulta foi agrupada", lotes.size() < total);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.aplicacao.core.csv;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LeitorCsvTest {
+
+    @Test
+    public void test_reads_lines_and_tracks_byte_position() throws IOException {
+        byte[] conteudo = "a,b\nc,d\n".getBytes(StandardCharsets.UTF_8);
+        LeitorCsv leitor = new LeitorCsv(new ByteArrayInputStream(conteudo), 0);
+
+        assertEquals(List.of("a", "b"), leitor.proximaLinha());
+        assertEquals(4, leitor.getPosicao());
+        assertEquals(List.of("c", "d"), leitor.proximaLinha());
+        assertEquals(8, leitor.getPosicao());
+        assertNull(leitor.proximaLinha());
+    }
+
+    @Test
+    public void test_last_line_without_line_break_and_crlf() throws IOException {
+        byte[] conteudo = "a,b\r\nc,d".getBytes(StandardCharsets.UTF_8);
+        LeitorCsv leitor = new LeitorCsv(new ByteArrayInputStream(conteudo), 0);
+
+        assertEquals(List.of("a", "b"), leitor.proximaLinha());
+        assertEquals(List.of("c", "d"), leitor.proximaLinha());
+        assertEquals(conteudo.length, leitor.getPosicao());
+        assertNull(leitor.proximaLinha());
+    }
+
+    @Test
+    public void test_position_counts_bytes_of_multibyte_characters() throws IOException {
+        byte[] conteudo = "João,São José\nx\n".getBytes(StandardCharsets.UTF_8);
+        LeitorCsv leitor = new LeitorCsv(new ByteArrayInputStream(conteudo), 0);
+
+        assertEquals(List.of("João", "São José"), leitor.proximaLinha());
+        assertEquals("João,São José\n".getBytes(StandardCharsets.UTF_8).length, leitor.getPosicao());
+    }
+
+    @Test
+    public void test_resumes_from_a_recorded_position() throws IOException {
+        byte[] conteudo = "a,b\nc,d\ne,f\n".getBytes(StandardCharsets.UTF_8);
+        LeitorCsv primeiro = new LeitorCsv(new ByteArrayInputStream(conteudo), 0);
+        primeiro.proximaLinha();
+        long posicao = primeiro.getPosicao();
+
+        InputStream entrada = new ByteArrayInputStream(conteudo);
+        entrada.skipNBytes(posicao);
+        LeitorCsv retomado = new LeitorCsv(entrada, posicao);
+
+        assertEquals(List.of("c", "d"), retomado.proximaLinha());
+        assertEquals(List.of("e", "f"), retomado.proximaLinha());
+        assertEquals(conteudo.length, retomado.getPosicao());
+    }
+
+    @Test
+    public void test_lines_longer_than_the_buffer_are_read_whole() throws IOException {
+        String longo = "x".repeat(200_000);
+        LeitorCsv leitor = new LeitorCsv(new ByteArrayInputStream((longo + ",y\n").getBytes(StandardCharsets.UTF_8)), 0);
+
+        assertEquals(List.of(longo, "y"), leitor.proximaLinha());
+        assertEquals(200_003, leitor.getPosicao());
+    }
+
+    @Test
+    public void test_splits_quoted_fields() {
+        assertEquals(List.of("Silva, Ana", "a \"b\"", ""), LeitorCsv.separar("\"Silva, Ana\",\"a \"\"b\"\"\","));
+        assertEquals(List.of(""), LeitorCsv.separar(""));
+    }
+}
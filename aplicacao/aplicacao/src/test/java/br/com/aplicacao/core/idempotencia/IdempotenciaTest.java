@@ -0,0 +1,159 @@
+package br.com.aplicacao.core.idempotencia;
+
+import br.com.aplicacao.core.exceptions.ChaveIdempotenciaReutilizadaException;
+import br.com.aplicacao.core.exceptions.TempoEsgotadoException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+public class IdempotenciaTest {
+
+    private final Idempotencia idempotencia = criar(Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+    @Test
+    public void test_replay_returns_registered_response_without_running_operation() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        ResponseEntity<Long> primeira = idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.status(HttpStatus.CREATED).body((long) execucoes.incrementAndGet()));
+        ResponseEntity<Long> repeticao = idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok((long) execucoes.incrementAndGet()));
+
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.CREATED, repeticao.getStatusCode());
+        assertEquals(Long.valueOf(1L), repeticao.getBody());
+        assertNull(primeira.getHeaders().getFirst(Idempotencia.CABECALHO_REPETICAO));
+        assertEquals("true", repeticao.getHeaders().getFirst(Idempotencia.CABECALHO_REPETICAO));
+    }
+
+    @Test
+    public void test_without_key_operation_runs_every_time() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        idempotencia.executar("incluir", null, "pessoa", () -> ResponseEntity.ok(execucoes.incrementAndGet()));
+        idempotencia.executar("incluir", null, "pessoa", () -> ResponseEntity.ok(execucoes.incrementAndGet()));
+
+        assertEquals(2, execucoes.get());
+    }
+
+    @Test
+    public void test_same_key_in_other_operation_is_independent() {
+        idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(1));
+
+        assertEquals(Integer.valueOf(2), idempotencia.executar("importar", "a1", "pessoa", () -> ResponseEntity.ok(2)).getBody());
+    }
+
+    @Test
+    public void test_key_reused_with_other_request_is_rejected() {
+        idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(1));
+
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> idempotencia.executar("incluir", "a1", "outra pessoa", () -> ResponseEntity.ok(2)));
+    }
+
+    @Test
+    public void test_key_reused_with_request_of_same_hash_code_is_rejected() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        idempotencia.executar("incluir", "a1", "Aa", () -> ResponseEntity.ok(1));
+
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> idempotencia.executar("incluir", "a1", "BB", () -> ResponseEntity.ok(2)));
+    }
+
+    @Test
+    public void test_failed_operation_is_not_registered() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencia.executar("incluir", "a1", "pessoa", () -> {
+            throw new IllegalArgumentException("Contato já cadastrado");
+        }));
+
+        assertEquals(Integer.valueOf(2), idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(2)).getBody());
+    }
+
+    @Test
+    public void test_invalid_key_is_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencia.executar("incluir", " ", "pessoa", () -> ResponseEntity.ok(1)));
+        assertThrows(IllegalArgumentException.class, () -> idempotencia.executar("incluir", "a".repeat(256), "pessoa", () -> ResponseEntity.ok(1)));
+    }
+
+    @Test
+    public void test_expired_response_runs_operation_again() throws Exception {
+        Idempotencia curta = criar(Duration.ofMillis(20), Duration.ofSeconds(5));
+        curta.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(1));
+        Thread.sleep(50);
+
+        assertEquals(Integer.valueOf(2), curta.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(2)).getBody());
+    }
+
+    @Test
+    public void test_concurrent_duplicates_wait_for_first_execution() throws Exception {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger execucoes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ResponseEntity<Integer>>> chamadas = new ArrayList<>();
+            chamadas.add(executor.submit(() -> idempotencia.executar("incluir", "a1", "pessoa", () -> {
+                iniciada.countDown();
+                aguardar(liberar);
+                return ResponseEntity.ok(execucoes.incrementAndGet());
+            })));
+            assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                chamadas.add(executor.submit(() -> idempotencia.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(execucoes.incrementAndGet()))));
+            }
+            Thread.sleep(50);
+            liberar.countDown();
+
+            for (Future<ResponseEntity<Integer>> chamada : chamadas) {
+                assertEquals(Integer.valueOf(1), chamada.get(5, TimeUnit.SECONDS).getBody());
+            }
+            assertEquals(1, execucoes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_duplicate_gives_up_after_maximum_wait() throws Exception {
+        Idempotencia impaciente = criar(Duration.ofMinutes(5), Duration.ofMillis(50));
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ResponseEntity<Integer>> primeira = executor.submit(() -> impaciente.executar("incluir", "a1", "pessoa", () -> {
+                iniciada.countDown();
+                aguardar(liberar);
+                return ResponseEntity.ok(1);
+            }));
+            assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TempoEsgotadoException.class, () -> impaciente.executar("incluir", "a1", "pessoa", () -> ResponseEntity.ok(2)));
+            liberar.countDown();
+            assertEquals(Integer.valueOf(1), primeira.get(5, TimeUnit.SECONDS).getBody());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Idempotencia criar(Duration expiracao, Duration esperaMaxima) {
+        return new Idempotencia(100, expiracao, esperaMaxima, new ObjectMapper(), mock(ObjectProvider.class));
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.aplicacao.core.infra;
+
+import br.com.aplicacao.cadastro.AplicacaoApplication;
+import br.com.aplicacao.cadastro.contato.dominio.entidade.Telefone;
+import br.com.aplicacao.cadastro.contato.infra.data.ContatoData;
+import br.com.aplicacao.cadastro.endereco.infra.data.EnderecoData;
+import br.com.aplicacao.cadastro.pessoa.infra.PessoaDataRepository;
+import br.com.aplicacao.cadastro.pessoa.infra.data.PessoaData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica a publicação das métricas do cache de segundo nível com as estatísticas do Hibernate desligadas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+@ContextConfiguration(classes = AplicacaoApplication.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheSegundoNivelMetricasTest {
+
+    @Autowired
+    private PessoaDataRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void tearDown() {
+        repository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void test_region_hits_and_misses_are_published_without_hibernate_statistics() {
+        Long id = repository.saveAndFlush(PessoaData.builder()
+                .nome("Pessoa")
+                .contato(ContatoData.builder().telefone(Telefone.parse("(31) 98765-4321")).build())
+                .endereco(EnderecoData.builder().bairro("Centro").build())
+                .build()).getId();
+        entityManagerFactory.getCache().evictAll();
+        MeterRegistry registro = new SimpleMeterRegistry();
+        new CacheSegundoNivelMetricas(entityManagerFactory,
+                new StaticListableBeanFactory(Map.of("registro", registro)).getBeanProvider(MeterRegistry.class));
+
+        repository.findById(id).orElseThrow();
+        double acertos = acessos(registro, "hit");
+        repository.findById(id).orElseThrow();
+
+        assertTrue(acessos(registro, "miss") > 0);
+        assertEquals(acertos + 1, acessos(registro, "hit"));
+    }
+
+    private static double acessos(MeterRegistry registro, String resultado) {
+        return registro.get("cache.gets").tag("cache", PessoaData.class.getName()).tag("result", resultado)
+                .functionCounter().count();
+    }
+}
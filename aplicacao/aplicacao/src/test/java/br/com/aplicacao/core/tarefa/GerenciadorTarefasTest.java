@@ -0,0 +1,295 @@
+package br.com.aplicacao.core.tarefa;
+
+import br.com.aplicacao.core.dto.TarefaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import br.com.aplicacao.core.tarefa.infra.TarefaDataRepository;
+import br.com.aplicacao.core.tarefa.infra.data.TarefaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class GerenciadorTarefasTest {
+
+    private final Map<Long, TarefaData> gravadas = new HashMap<>();
+    private final TarefaDataRepository repository = mock(TarefaDataRepository.class);
+    private final List<String> executadas = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch iniciada = new CountDownLatch(1);
+    private final CountDownLatch liberada = new CountDownLatch(1);
+    private final CountDownLatch parada = new CountDownLatch(1);
+    private final List<Tarefa> tarefas = new ArrayList<>();
+    private GerenciadorTarefas gerenciador;
+
+    @Before
+    public void setUp() {
+        tarefas.add(tarefa("contar", execucao -> {
+            for (int i = 1; i <= 4 && !execucao.deveParar(); i++) execucao.registrarProgresso(i, 4);
+            executadas.add(execucao.getParametros());
+        }));
+        tarefas.add(tarefa("aguardar", execucao -> {
+            iniciada.countDown();
+            try {
+                while (!execucao.deveParar()) liberada.await(5, TimeUnit.MILLISECONDS);
+                executadas.add(execucao.getParametros());
+            } finally {
+                parada.countDown();
+            }
+        }));
+        tarefas.add(tarefa("falhar", execucao -> {
+            throw new IllegalStateException("Banco indisponível");
+        }));
+        gerenciador = novoGerenciador(Clock.systemUTC());
+        simularRepositorio();
+    }
+
+    @After
+    public void tearDown() {
+        gerenciador.encerrar();
+    }
+
+    @Test
+    public void test_submitted_task_runs_in_background_and_reports_progress() throws Exception {
+        TarefaDto submetida = gerenciador.submeter("contar", "a");
+
+        assertEquals(SituacaoTarefa.PENDENTE, submetida.getSituacao());
+        TarefaDto concluida = aguardarEncerramento(submetida.getId());
+        assertEquals(SituacaoTarefa.CONCLUIDA, concluida.getSituacao());
+        assertEquals(4, concluida.getProcessados());
+        assertEquals(100.0, concluida.getPercentual(), 0.0);
+        assertEquals(List.of("a"), executadas);
+    }
+
+    @Test
+    public void test_tasks_run_on_dedicated_worker_threads() throws Exception {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        tarefas.add(tarefa("thread", execucao -> threads.add(Thread.currentThread().getName())));
+
+        aguardarEncerramento(gerenciador.submeter("thread", null).getId());
+
+        assertEquals(List.of("tarefa-1"), threads);
+    }
+
+    @Test
+    public void test_unknown_type_is_rejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> gerenciador.submeter("exportar", null));
+
+        assertEquals("Tipo de tarefa desconhecido", exception.getMessage());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    public void test_failure_is_recorded_with_its_message() throws Exception {
+        TarefaDto falha = aguardarEncerramento(gerenciador.submeter("falhar", null).getId());
+
+        assertEquals(SituacaoTarefa.FALHOU, falha.getSituacao());
+        assertEquals("Banco indisponível", falha.getMensagem());
+        assertNotNull(falha.getFim());
+    }
+
+    @Test
+    public void test_running_task_is_cancelled_cooperatively() throws Exception {
+        Long id = gerenciador.submeter("aguardar", "b").getId();
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        TarefaDto pedido = gerenciador.cancelar(id);
+
+        assertTrue(pedido.isCancelamentoSolicitado());
+        assertEquals(SituacaoTarefa.CANCELADA, aguardarEncerramento(id).getSituacao());
+        assertEquals(List.of("b"), executadas);
+    }
+
+    @Test
+    public void test_pending_task_is_cancelled_without_running() throws Exception {
+        Long ocupada = gerenciador.submeter("aguardar", "ocupada").getId();
+        Long pendente = gerenciador.submeter("contar", "pendente").getId();
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        assertEquals(SituacaoTarefa.CANCELADA, gerenciador.cancelar(pendente).getSituacao());
+        gerenciador.cancelar(ocupada);
+
+        aguardarEncerramento(ocupada);
+        assertEquals(List.of("ocupada"), executadas);
+        assertEquals(SituacaoTarefa.CANCELADA, gerenciador.consultar(pendente).getSituacao());
+    }
+
+    @Test
+    public void test_finished_task_cannot_be_cancelled() throws Exception {
+        Long id = gerenciador.submeter("contar", null).getId();
+        aguardarEncerramento(id);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> gerenciador.cancelar(id));
+        assertEquals("Tarefa já encerrada", exception.getMessage());
+    }
+
+    @Test
+    public void test_interrupted_tasks_are_resumed_on_startup() throws Exception {
+        gravar(TarefaData.builder().tipo("contar").parametros("andamento").situacao(SituacaoTarefa.EM_ANDAMENTO)
+                .processados(2).total(4).criacao(Instant.now()).build());
+        gravar(TarefaData.builder().tipo("contar").parametros("concluida").situacao(SituacaoTarefa.CONCLUIDA)
+                .criacao(Instant.now()).build());
+
+        gerenciador.retomarInterrompidas();
+
+        assertEquals(SituacaoTarefa.CONCLUIDA, aguardarEncerramento(1L).getSituacao());
+        assertEquals(List.of("andamento"), executadas);
+    }
+
+    @Test
+    public void test_shutdown_keeps_running_task_in_progress() throws Exception {
+        Long id = gerenciador.submeter("aguardar", null).getId();
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        gerenciador.encerrar();
+
+        assertTrue("Tarefa não interrompida", parada.await(5, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        assertEquals(SituacaoTarefa.EM_ANDAMENTO, gerenciador.consultar(id).getSituacao());
+    }
+
+    @Test
+    public void test_reports_throughput_and_estimated_completion() {
+        Instant inicio = Instant.parse("2024-01-01T00:00:00Z");
+        Instant agora = inicio.plus(Duration.ofSeconds(10));
+        gerenciador.encerrar();
+        gerenciador = novoGerenciador(Clock.fixed(agora, ZoneOffset.UTC));
+        gravar(TarefaData.builder().tipo("contar").situacao(SituacaoTarefa.EM_ANDAMENTO).criacao(inicio)
+                .inicioExecucao(inicio).processadosInicioExecucao(1000).processados(3000).total(9000).build());
+
+        TarefaDto tarefa = gerenciador.consultar(1L);
+
+        assertEquals(200.0, tarefa.getItensPorSegundo(), 0.001);
+        assertEquals(Long.valueOf(30), tarefa.getSegundosRestantes());
+        assertEquals(agora.plusSeconds(30), tarefa.getPrevisaoTermino());
+        assertEquals(33.3, tarefa.getPercentual(), 0.1);
+    }
+
+    @Test
+    public void test_estimate_is_unknown_before_any_progress() {
+        gravar(TarefaData.builder().tipo("contar").situacao(SituacaoTarefa.EM_ANDAMENTO).criacao(Instant.now())
+                .inicioExecucao(Instant.now()).total(10).build());
+
+        TarefaDto tarefa = gerenciador.consultar(1L);
+
+        assertNull(tarefa.getSegundosRestantes());
+        assertNull(tarefa.getPrevisaoTermino());
+    }
+
+    @Test
+    public void test_missing_task_is_not_found() {
+        assertThrows(NaoEncontradoException.class, () -> gerenciador.consultar(99L));
+    }
+
+    @Test
+    public void test_rejects_invalid_worker_count() {
+        assertThrows(IllegalArgumentException.class, () -> new GerenciadorTarefas(repository, () -> tarefas, 0, Clock.systemUTC()));
+    }
+
+    private GerenciadorTarefas novoGerenciador(Clock relogio) {
+        return new GerenciadorTarefas(repository, () -> tarefas, 1, relogio);
+    }
+
+    private TarefaDto aguardarEncerramento(Long id) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        TarefaDto tarefa;
+        while (!(tarefa = gerenciador.consultar(id)).getSituacao().isEncerrada()) {
+            assertTrue("Tarefa não encerrada", System.nanoTime() < limite);
+            Thread.sleep(5);
+        }
+        return tarefa;
+    }
+
+    private void gravar(TarefaData tarefa) {
+        repository.save(tarefa);
+    }
+
+    private void simularRepositorio() {
+        when(repository.save(any(TarefaData.class))).thenAnswer(invocacao -> {
+            synchronized (gravadas) {
+                TarefaData tarefa = invocacao.getArgument(0);
+                if (tarefa.getId() == null) tarefa.setId((long) gravadas.size() + 1);
+                gravadas.put(tarefa.getId(), copiar(tarefa));
+                return copiar(tarefa);
+            }
+        });
+        when(repository.findById(any())).thenAnswer(invocacao -> {
+            synchronized (gravadas) {
+                return Optional.ofNullable(gravadas.get(invocacao.<Long>getArgument(0))).map(GerenciadorTarefasTest::copiar);
+            }
+        });
+        when(repository.findBySituacaoInOrderById(anyCollection())).thenAnswer(invocacao -> {
+            synchronized (gravadas) {
+                Collection<SituacaoTarefa> situacoes = invocacao.getArgument(0);
+                return gravadas.values().stream().filter(tarefa -> situacoes.contains(tarefa.getSituacao()))
+                        .sorted(Comparator.comparing(TarefaData::getId)).map(GerenciadorTarefasTest::copiar).toList();
+            }
+        });
+        when(repository.iniciar(any(), anyCollection(), any(), any())).thenAnswer(invocacao -> alterar(invocacao.getArgument(0),
+                invocacao.getArgument(1), tarefa -> {
+                    tarefa.setSituacao(invocacao.getArgument(2));
+                    tarefa.setInicioExecucao(invocacao.getArgument(3));
+                    tarefa.setFim(null);
+                    tarefa.setProcessadosInicioExecucao(tarefa.getProcessados());
+                    tarefa.setMensagem(null);
+                }));
+        when(repository.encerrar(any(), anyCollection(), any(), any(), any())).thenAnswer(invocacao -> alterar(invocacao.getArgument(0),
+                invocacao.getArgument(1), tarefa -> {
+                    tarefa.setSituacao(invocacao.getArgument(2));
+                    tarefa.setFim(invocacao.getArgument(3));
+                    tarefa.setMensagem(invocacao.getArgument(4));
+                }));
+        when(repository.registrarProgresso(any(), anyLong(), anyLong())).thenAnswer(invocacao -> alterar(invocacao.getArgument(0),
+                EnumSet.allOf(SituacaoTarefa.class), tarefa -> {
+                    tarefa.setProcessados(invocacao.getArgument(1));
+                    tarefa.setTotal(invocacao.getArgument(2));
+                }));
+        when(repository.solicitarCancelamento(any(), anyCollection())).thenAnswer(invocacao -> alterar(invocacao.getArgument(0),
+                invocacao.getArgument(1), tarefa -> tarefa.setCancelamentoSolicitado(true)));
+    }
+
+    private int alterar(Long id, Collection<SituacaoTarefa> atuais, Consumer<TarefaData> alteracao) {
+        synchronized (gravadas) {
+            TarefaData tarefa = gravadas.get(id);
+            if (tarefa == null || !atuais.contains(tarefa.getSituacao())) return 0;
+            alteracao.accept(tarefa);
+            return 1;
+        }
+    }
+
+    private static Tarefa tarefa(String tipo, Execucao execucao) {
+        return new Tarefa() {
+            @Override
+            public String getTipo() {
+                return tipo;
+            }
+
+            @Override
+            public void executar(ExecucaoTarefa contexto) throws Exception {
+                execucao.executar(contexto);
+            }
+        };
+    }
+
+    private static TarefaData copiar(TarefaData tarefa) {
+        return new TarefaData(tarefa.getId(), tarefa.getTipo(), tarefa.getParametros(), tarefa.getSituacao(),
+                tarefa.getTotal(), tarefa.getProcessados(), tarefa.getProcessadosInicioExecucao(),
+                tarefa.isCancelamentoSolicitado(), tarefa.getCriacao(), tarefa.getInicioExecucao(), tarefa.getFim(),
+                tarefa.getMensagem());
+    }
+
+    private interface Execucao {
+
+        void executar(ExecucaoTarefa execucao) throws Exception;
+    }
+}
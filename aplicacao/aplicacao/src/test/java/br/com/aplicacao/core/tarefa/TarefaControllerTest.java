@@ -0,0 +1,50 @@
+package br.com.aplicacao.core.tarefa;
+
+import br.com.aplicacao.core.dto.TarefaDto;
+import br.com.aplicacao.core.exceptions.NaoEncontradoException;
+import org.junit.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class TarefaControllerTest {
+
+    private final GerenciadorTarefas gerenciador = mock(GerenciadorTarefas.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TarefaController(gerenciador)).build();
+
+    @Test
+    public void test_status_reports_progress_and_estimate() throws Exception {
+        when(gerenciador.consultar(7L)).thenReturn(TarefaDto.builder().id(7L).tipo("importacao-pessoa")
+                .situacao(SituacaoTarefa.EM_ANDAMENTO).processados(300).total(900).percentual(33.3)
+                .itensPorSegundo(30.0).segundosRestantes(20L).build());
+
+        mockMvc.perform(get("/tarefas/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.situacao").value("EM_ANDAMENTO"))
+                .andExpect(jsonPath("$.processados").value(300))
+                .andExpect(jsonPath("$.segundosRestantes").value(20));
+    }
+
+    @Test
+    public void test_missing_task_returns_not_found() throws Exception {
+        when(gerenciador.consultar(7L)).thenThrow(new NaoEncontradoException("Tarefa não encontrada"));
+
+        mockMvc.perform(get("/tarefas/7")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void test_cancellation_is_accepted() throws Exception {
+        when(gerenciador.cancelar(7L)).thenReturn(TarefaDto.builder().id(7L).situacao(SituacaoTarefa.EM_ANDAMENTO)
+                .cancelamentoSolicitado(true).build());
+
+        mockMvc.perform(post("/tarefas/7/cancelar"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.cancelamentoSolicitado").value(true));
+        verify(gerenciador).cancelar(7L);
+    }
+}
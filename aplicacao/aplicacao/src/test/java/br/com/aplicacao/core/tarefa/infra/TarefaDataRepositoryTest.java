@@ -0,0 +1,65 @@
+package br.com.aplicacao.core.tarefa.infra;
+
+import br.com.aplicacao.cadastro.AplicacaoApplication;
+import br.com.aplicacao.core.tarefa.SituacaoTarefa;
+import br.com.aplicacao.core.tarefa.infra.data.TarefaData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ContextConfiguration(classes = AplicacaoApplication.class)
+class TarefaDataRepositoryTest {
+
+    private static final Instant AGORA = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private TarefaDataRepository repository;
+
+    private Long id;
+
+    @BeforeEach
+    public void setUp() {
+        id = repository.saveAndFlush(TarefaData.builder().tipo("importacao-pessoa").parametros("1")
+                .situacao(SituacaoTarefa.PENDENTE).criacao(AGORA).build()).getId();
+    }
+
+    @Test
+    public void test_start_keeps_progress_of_previous_execution() {
+        repository.registrarProgresso(id, 300, 900);
+
+        assertEquals(1, repository.iniciar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.EM_ANDAMENTO, AGORA));
+
+        TarefaData tarefa = repository.findById(id).orElseThrow();
+        assertEquals(SituacaoTarefa.EM_ANDAMENTO, tarefa.getSituacao());
+        assertEquals(AGORA, tarefa.getInicioExecucao());
+        assertEquals(300, tarefa.getProcessadosInicioExecucao());
+        assertEquals(900, tarefa.getTotal());
+    }
+
+    @Test
+    public void test_transitions_only_apply_to_expected_situations() {
+        assertEquals(1, repository.encerrar(id, List.of(SituacaoTarefa.PENDENTE), SituacaoTarefa.CANCELADA, AGORA, null));
+
+        assertEquals(0, repository.iniciar(id, SituacaoTarefa.ABERTAS, SituacaoTarefa.EM_ANDAMENTO, AGORA));
+        assertEquals(0, repository.solicitarCancelamento(id, SituacaoTarefa.ABERTAS));
+        assertEquals(SituacaoTarefa.CANCELADA, repository.findById(id).orElseThrow().getSituacao());
+    }
+
+    @Test
+    public void test_lists_open_tasks_in_submission_order() {
+        Long segunda = repository.save(TarefaData.builder().tipo("importacao-pessoa").situacao(SituacaoTarefa.EM_ANDAMENTO)
+                .criacao(AGORA).build()).getId();
+        repository.save(TarefaData.builder().tipo("importacao-pessoa").situacao(SituacaoTarefa.CONCLUIDA).criacao(AGORA).build());
+
+        assertEquals(List.of(id, segunda), repository.findBySituacaoInOrderById(SituacaoTarefa.ABERTAS).stream()
+                .map(TarefaData::getId).toList());
+    }
+}
@@ -1,6 +1,7 @@
 package com.cadastro.aplicacao;
 
 import br.com.aplicacao.cadastro.AplicacaoApplication;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.SpringApplication;
 
@@ -8,6 +9,11 @@ import static org.junit.Assert.assertThrows;
 
 class AplicacaoApplicationTests {
 
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("spring.config.location");
+    }
+
     @Test
     public void test_application_fails_to_start_due_to_missing_configuration() {
         System.setProperty("spring.config.location", "nonexistent.yml");
@@ -1,7 +1,7 @@
 import {Injectable} from '@angular/core';
 import {Observable, throwError} from 'rxjs';
 import {catchError} from 'rxjs/operators';
-import {Pessoa} from './pessoa/pessoa.model';
+import {Pagina, Pessoa, PessoaListagem} from './pessoa/pessoa.model';
 import {HttpClient, HttpErrorResponse} from "@angular/common/http";
 import {HttpClientModuleWrapperModule} from "./http-client.module";
 
@@ -27,8 +27,9 @@ export class PessoaService {
     return throwError(errorMessage);
   }
 
-  listar(): Observable<Pessoa[]> {
-    return this.httpClient.get<Pessoa[]>(`${this.baseUrl}${this.endpoint}/listar`)
+  listar(apos?: number | null): Observable<Pagina<PessoaListagem>> {
+    const params: Record<string, number> = apos != null ? {after: apos} : {};
+    return this.httpClient.get<Pagina<PessoaListagem>>(`${this.baseUrl}${this.endpoint}/listar`, {params})
       .pipe(
         catchError(this.handleError)
       );
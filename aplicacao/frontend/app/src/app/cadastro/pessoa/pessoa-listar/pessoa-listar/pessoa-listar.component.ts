@@ -1,6 +1,5 @@
 import {Component, OnInit} from '@angular/core';
-import {Observable} from 'rxjs';
-import {Pessoa} from '../../pessoa.model';
+import {PessoaListagem} from '../../pessoa.model';
 import {PessoaService} from '../../../pessoa.service';
 
 @Component({
@@ -10,7 +9,9 @@ import {PessoaService} from '../../../pessoa.service';
 })
 export class PessoaListarComponent implements OnInit {
 
-  pessoas$!: Observable<Pessoa[]>;
+  pessoas: PessoaListagem[] = [];
+  proximo: number | null = null;
+  carregando = false;
 
   constructor(private pessoaService: PessoaService) {
   }
@@ -20,7 +21,15 @@ export class PessoaListarComponent implements OnInit {
   }
 
   listarPessoas() {
-    this.pessoas$ = this.pessoaService.listar();
+    this.pessoas = [];
+    this.proximo = null;
+    this.carregarPagina();
+  }
+
+  carregarMais() {
+    if (this.proximo != null) {
+      this.carregarPagina(this.proximo);
+    }
   }
 
   deletar(id: number) {
@@ -30,4 +39,16 @@ export class PessoaListarComponent implements OnInit {
       });
     }
   }
+
+  private carregarPagina(apos?: number) {
+    this.carregando = true;
+    this.pessoaService.listar(apos).subscribe({
+      next: pagina => {
+        this.pessoas = this.pessoas.concat(pagina.itens);
+        this.proximo = pagina.proximo;
+        this.carregando = false;
+      },
+      error: () => this.carregando = false
+    });
+  }
 }
@@ -7,3 +7,15 @@ export interface Pessoa {
   contato: Contato;
   endereco: Endereco;
 }
+
+export interface PessoaListagem {
+  id: number;
+  nome: string;
+  bairro: string;
+  telefone: string;
+}
+
+export interface Pagina<T> {
+  itens: T[];
+  proximo: number | null;
+}